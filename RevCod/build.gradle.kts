@@ -1,6 +1,7 @@
 plugins {
     id("java")
     id("org.sonarqube") version "4.4.1.3373"
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "org.example"
@@ -11,6 +12,7 @@ repositories {
 }
 
 dependencies {
+    implementation("com.github.ben-manes.caffeine:caffeine:3.1.8")
     testImplementation(platform("org.junit:junit-bom:5.10.0"))
     testImplementation("org.junit.jupiter:junit-jupiter")
 }
@@ -18,6 +20,29 @@ dependencies {
 tasks.test {
     useJUnitPlatform()
 }
+
+jmh {
+    jmhVersion.set("1.37")
+    profilers.add("gc")
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("reports/jmh/results.json"))
+}
+
+// Startup load test on a generated catalog: ./gradlew routeLoadTest -ProuteLoadTest.size=500000
+// Any RouteLoadHarness setting can be passed as -ProuteLoadTest.<name>=<value>.
+tasks.register<JavaExec>("routeLoadTest") {
+    group = "verification"
+    description = "Loads a synthetic route catalog and reports load throughput, lookup p50/p99 and peak heap."
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass.set("co.com.bancolombia.routes.RouteLoadHarness")
+    maxHeapSize = (project.findProperty("routeLoadTest.maxHeap") ?: "2g").toString()
+    val prefix = "routeLoadTest."
+    val settings = project.properties.filterKeys { it.startsWith(prefix) && it != "${prefix}maxHeap" }
+        .map { (name, value) -> "${name.removePrefix(prefix)}=$value" }
+    val report = layout.buildDirectory.file("reports/route-load-test/results.json").get().asFile
+    args(settings + "report=$report")
+    outputs.upToDateWhen { false }
+}
 sonar {
     properties {
         property("sonar.projectKey", "ADMKCode_Revision")
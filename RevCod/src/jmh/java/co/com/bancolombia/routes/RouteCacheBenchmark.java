@@ -0,0 +1,121 @@
+package co.com.bancolombia.routes;
+
+import co.com.bancolombia.binstash.SerializatorHelper;
+import co.com.bancolombia.binstash.SingleTierObjectCacheUseCase;
+import co.com.bancolombia.binstash.adapter.memory.MemoryStash;
+import co.com.bancolombia.d2b.cache.FunctionalCacheOpsImpl;
+import co.com.bancolombia.d2b.model.cache.FunctionalCacheOps;
+import co.com.bancolombia.router.configuredroute.ConfiguredRoute;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import reactor.core.publisher.Flux;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code saveInCache} and lookups on the serializing stash against the in-process backends, and a
+ * fan-out of {@value #FAN_OUT} lookups as per-key {@code getFromCache} calls against one bulk
+ * {@code findAll}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RouteCacheBenchmark {
+
+    private static final int FAN_OUT = 16;
+
+    @Param({"1000", "10000", "100000"})
+    private int catalogSize;
+
+    private List<ConfiguredRoute> routes;
+    private String[] keys;
+    private FunctionalCacheOps<ConfiguredRoute> stash;
+    private InMemoryRouteCacheOps inMemory;
+    private RouteRegistry registry;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        routes = RouteCatalogs.routes(catalogSize);
+        keys = routes.stream().map(RouteKey::of).toArray(String[]::new);
+        var memoryStash = new MemoryStash.Builder()
+                .expireAfter(Integer.MAX_VALUE)
+                .maxSize(Integer.MAX_VALUE)
+                .build();
+        stash = new FunctionalCacheOpsImpl<>(new SingleTierObjectCacheUseCase<>(memoryStash,
+                new SerializatorHelper<>(RoutesJson.mapper())), ConfiguredRoute.class);
+        inMemory = new InMemoryRouteCacheOps(catalogSize);
+        registry = new RouteRegistry(RouteKey::of);
+        for (int i = 0; i < catalogSize; i++) {
+            stash.saveInCache(keys[i], routes.get(i)).block();
+            inMemory.saveInCache(keys[i], routes.get(i)).block();
+        }
+        registry.publish(routes);
+    }
+
+    private int next() {
+        cursor = cursor + 1 == catalogSize ? 0 : cursor + 1;
+        return cursor;
+    }
+
+    @Benchmark
+    public ConfiguredRoute stashSave() {
+        var index = next();
+        return stash.saveInCache(keys[index], routes.get(index)).block();
+    }
+
+    @Benchmark
+    public ConfiguredRoute inMemorySave() {
+        var index = next();
+        return inMemory.saveInCache(keys[index], routes.get(index)).block();
+    }
+
+    @Benchmark
+    public ConfiguredRoute stashLookup() {
+        return stash.getFromCache(keys[next()]).block();
+    }
+
+    @Benchmark
+    public ConfiguredRoute inMemoryLookup() {
+        return inMemory.getFromCache(keys[next()]).block();
+    }
+
+    @Benchmark
+    public ConfiguredRoute registryFind() {
+        var route = routes.get(next());
+        return registry.find(route.getChannel(), route.getTransaction());
+    }
+
+    @Benchmark
+    public Map<String, ConfiguredRoute> inMemoryFanOutLookup() {
+        return Flux.fromIterable(fanOut())
+                .flatMap(key -> inMemory.getFromCache(key).map(route -> Map.entry(key, route)))
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+                .block();
+    }
+
+    @Benchmark
+    public Map<String, ConfiguredRoute> inMemoryFindAll() {
+        return BulkCacheOps.findAll(inMemory, fanOut()).block();
+    }
+
+    private List<String> fanOut() {
+        var from = Math.min(next(), catalogSize - FAN_OUT);
+        return Arrays.asList(keys).subList(from, from + FAN_OUT);
+    }
+}
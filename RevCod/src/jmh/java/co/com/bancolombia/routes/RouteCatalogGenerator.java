@@ -0,0 +1,242 @@
+package co.com.bancolombia.routes;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Realistic synthetic route catalogs for load tests. Routes are spread over {@code channels} with a
+ * Zipf skew ({@code 0} is uniform, {@code 1} gives the first channel most of the catalog), a share of
+ * elements repeat an earlier key with different details, a share are invalid nodes of the kinds
+ * the loader must skip or isolate, and every route carries a nested {@code details} object. The
+ * same settings and seed always produce the same catalog.
+ */
+final class RouteCatalogGenerator {
+
+    private static final String[] INVALID_NODES = {
+            "{\"transaction\":\"%d\"}",
+            "{\"channel\":\"D2B\"}",
+            "{\"channel\":\" \",\"transaction\":\"%d\"}",
+            "{\"channel\":[\"D2B\"],\"transaction\":\"%d\"}"
+    };
+
+    private final int size;
+    private final int channels;
+    private final double channelSkew;
+    private final double duplicateRate;
+    private final double invalidRate;
+    private final int detailsDepth;
+    private final long seed;
+
+    private RouteCatalogGenerator(Builder builder) {
+        this.size = builder.size;
+        this.channels = Math.max(builder.channels, 1);
+        this.channelSkew = Math.max(builder.channelSkew, 0);
+        this.duplicateRate = builder.duplicateRate;
+        this.invalidRate = builder.invalidRate;
+        this.detailsDepth = Math.max(builder.detailsDepth, 0);
+        this.seed = builder.seed;
+    }
+
+    static Builder builder() {
+        return new Builder();
+    }
+
+    Catalog generate() {
+        var random = new SplittableRandom(seed);
+        var names = channelNames();
+        var cumulative = channelWeights();
+        var nextTransaction = new int[channels];
+        var uniqueChannels = new String[size];
+        var uniqueTransactions = new String[size];
+        var unique = 0;
+        var duplicates = 0;
+        var invalid = 0;
+        var json = new StringBuilder(size * (320 + detailsDepth * 96)).append('[');
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            var roll = random.nextDouble();
+            if (roll < invalidRate) {
+                json.append(String.format(INVALID_NODES[invalid % INVALID_NODES.length], 1000 + i));
+                invalid++;
+            } else if (roll < invalidRate + duplicateRate && unique > 0) {
+                var earlier = random.nextInt(unique);
+                appendRoute(json, uniqueChannels[earlier], uniqueTransactions[earlier], i, random);
+                duplicates++;
+            } else {
+                var channel = pick(cumulative, random.nextDouble());
+                var transaction = String.valueOf(1000 + nextTransaction[channel]++);
+                appendRoute(json, names[channel], transaction, i, random);
+                uniqueChannels[unique] = names[channel];
+                uniqueTransactions[unique] = transaction;
+                unique++;
+            }
+        }
+        return new Catalog(json.append(']').toString(), Arrays.copyOf(uniqueChannels, unique),
+                Arrays.copyOf(uniqueTransactions, unique), duplicates, invalid);
+    }
+
+    private String[] channelNames() {
+        var names = new String[channels];
+        for (int i = 0; i < channels; i++) {
+            names[i] = i < RouteCatalogs.CHANNELS.length ? RouteCatalogs.CHANNELS[i] : "CH" + i;
+        }
+        return names;
+    }
+
+    private double[] channelWeights() {
+        var cumulative = new double[channels];
+        var total = 0.0;
+        for (int i = 0; i < channels; i++) {
+            total += 1 / Math.pow(i + 1, channelSkew);
+            cumulative[i] = total;
+        }
+        for (int i = 0; i < channels; i++) {
+            cumulative[i] /= total;
+        }
+        return cumulative;
+    }
+
+    private static int pick(double[] cumulative, double roll) {
+        var index = Arrays.binarySearch(cumulative, roll);
+        return Math.min(index >= 0 ? index : -index - 1, cumulative.length - 1);
+    }
+
+    private void appendRoute(StringBuilder json, String channel, String transaction, int index,
+                             SplittableRandom random) {
+        json.append("{\"channel\":\"").append(channel)
+                .append("\",\"transaction\":\"").append(transaction)
+                .append("\",\"details\":");
+        appendDetails(json, channel, transaction, index, random, detailsDepth);
+        json.append('}');
+    }
+
+    /**
+     * Backend settings as the real catalog nests them, with {@code depth} levels of fallback backend.
+     */
+    private static void appendDetails(StringBuilder json, String channel, String transaction, int index,
+                                      SplittableRandom random, int depth) {
+        json.append("{\"url\":\"https://backend-").append(index % 50).append(".internal/api/v1/")
+                .append(channel.toLowerCase()).append('/').append(transaction)
+                .append("\",\"method\":\"").append(random.nextInt(4) == 0 ? "GET" : "POST")
+                .append("\",\"timeoutMs\":").append(1000 + random.nextInt(9) * 500)
+                .append(",\"headers\":{\"x-channel\":\"").append(channel)
+                .append("\",\"x-priority\":").append(random.nextInt(3))
+                .append("},\"retry\":{\"attempts\":").append(random.nextInt(4))
+                .append(",\"backoff\":{\"initialMs\":").append(50 + random.nextInt(10) * 10)
+                .append(",\"maxMs\":2000,\"jitter\":").append(random.nextBoolean())
+                .append("}},\"tags\":[\"").append(channel.toLowerCase()).append("\",\"tier-")
+                .append(random.nextInt(3)).append("\"]");
+        if (depth > 0) {
+            json.append(",\"fallback\":");
+            appendDetails(json, channel, transaction, index + 1, random, depth - 1);
+        }
+        json.append('}');
+    }
+
+    /**
+     * A generated catalog and the unique valid keys it holds, in first-seen order.
+     */
+    static final class Catalog {
+
+        private final String json;
+        private final String[] channels;
+        private final String[] transactions;
+        private final int duplicates;
+        private final int invalid;
+
+        private Catalog(String json, String[] channels, String[] transactions, int duplicates, int invalid) {
+            this.json = json;
+            this.channels = channels;
+            this.transactions = transactions;
+            this.duplicates = duplicates;
+            this.invalid = invalid;
+        }
+
+        String json() {
+            return json;
+        }
+
+        Path write(Path target) throws IOException {
+            return Files.writeString(target, json, StandardCharsets.UTF_8);
+        }
+
+        int uniqueRoutes() {
+            return channels.length;
+        }
+
+        String channel(int index) {
+            return channels[index];
+        }
+
+        String transaction(int index) {
+            return transactions[index];
+        }
+
+        int duplicates() {
+            return duplicates;
+        }
+
+        int invalid() {
+            return invalid;
+        }
+    }
+
+    static final class Builder {
+
+        private int size = 10_000;
+        private int channels = RouteCatalogs.CHANNELS.length;
+        private double channelSkew = 1.0;
+        private double duplicateRate = 0.05;
+        private double invalidRate = 0.01;
+        private int detailsDepth = 1;
+        private long seed = 42;
+
+        private Builder() {
+        }
+
+        Builder size(int size) {
+            this.size = size;
+            return this;
+        }
+
+        Builder channels(int channels) {
+            this.channels = channels;
+            return this;
+        }
+
+        Builder channelSkew(double channelSkew) {
+            this.channelSkew = channelSkew;
+            return this;
+        }
+
+        Builder duplicateRate(double duplicateRate) {
+            this.duplicateRate = duplicateRate;
+            return this;
+        }
+
+        Builder invalidRate(double invalidRate) {
+            this.invalidRate = invalidRate;
+            return this;
+        }
+
+        Builder detailsDepth(int detailsDepth) {
+            this.detailsDepth = detailsDepth;
+            return this;
+        }
+
+        Builder seed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        RouteCatalogGenerator build() {
+            return new RouteCatalogGenerator(this);
+        }
+    }
+}
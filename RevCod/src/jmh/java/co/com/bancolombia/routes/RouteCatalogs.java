@@ -0,0 +1,78 @@
+package co.com.bancolombia.routes;
+
+import co.com.bancolombia.router.configuredroute.ConfiguredRoute;
+import co.com.bancolombia.router.configuredroute.gateway.Mapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.fasterxml.jackson.databind.DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES;
+
+/**
+ * Synthetic route catalogs shared by the benchmarks.
+ */
+final class RouteCatalogs {
+
+    static final String[] CHANNELS = {"D2B", "APP", "SVP", "IVR", "WEB"};
+
+    private RouteCatalogs() {
+    }
+
+    static String json(int size) {
+        return json(0, size);
+    }
+
+    /**
+     * Catalog of the routes numbered {@code from} (inclusive) to {@code to} (exclusive), so slices
+     * of one catalog can be written to separate files without duplicate keys.
+     */
+    static String json(int from, int to) {
+        var json = new StringBuilder((to - from) * 96).append('[');
+        for (int i = from; i < to; i++) {
+            if (i > from) {
+                json.append(',');
+            }
+            json.append("{\"channel\":\"").append(channel(i))
+                    .append("\",\"transaction\":\"").append(transaction(i))
+                    .append("\",\"details\":{\"url\":\"http://backend-").append(i % 50)
+                    .append(".internal/api\",\"timeout\":3000}}");
+        }
+        return json.append(']').toString();
+    }
+
+    static List<ConfiguredRoute> routes(int size) {
+        List<ConfiguredRoute> routes = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            routes.add(ConfiguredRoute.builder().channel(channel(i)).transaction(transaction(i)).build());
+        }
+        return routes;
+    }
+
+    static String channel(int index) {
+        return CHANNELS[index % CHANNELS.length];
+    }
+
+    static String transaction(int index) {
+        return String.valueOf(1000 + index);
+    }
+
+    /**
+     * Jackson backed {@link Mapper}, standing in for the application adapter.
+     */
+    static Mapper mapper() {
+        var objectMapper = new ObjectMapper().disable(FAIL_ON_UNKNOWN_PROPERTIES);
+        return new Mapper() {
+            @Override
+            public <T> T readValues(String json, Class<T> clazz) {
+                try {
+                    return objectMapper.readValue(json, clazz);
+                } catch (IOException exception) {
+                    throw new UncheckedIOException(exception);
+                }
+            }
+        };
+    }
+}
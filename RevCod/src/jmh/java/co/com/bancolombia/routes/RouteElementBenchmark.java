@@ -0,0 +1,69 @@
+package co.com.bancolombia.routes;
+
+import co.com.bancolombia.router.configuredroute.ConfiguredRoute;
+import co.com.bancolombia.router.configuredroute.gateway.Mapper;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-element costs: binding one route node (through the shared {@link RoutesJson} reader or a
+ * mapper built per call) and building its cache key.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RouteElementBenchmark {
+
+    private RoutesConfig routesConfig;
+    private Mapper mapper;
+    private JsonNode node;
+    private ConfiguredRoute route;
+
+    @Setup
+    public void setUp() throws Exception {
+        routesConfig = new RoutesConfig();
+        mapper = RouteCatalogs.mapper();
+        node = new ObjectMapper().readTree(RouteCatalogs.json(1)).get(0);
+        route = RouteCatalogs.routes(1).get(0);
+    }
+
+    @Benchmark
+    public ConfiguredRoute mapNode() {
+        return routesConfig.mapNode(node, mapper);
+    }
+
+    @Benchmark
+    public ConfiguredRoute bindNode() {
+        return routesConfig.bindNode(node);
+    }
+
+    @Benchmark
+    public ConfiguredRoute bindNodeWithNewMapper() throws Exception {
+        return RoutesJson.configure(new ObjectMapper()).readerFor(ConfiguredRoute.class).readValue(node);
+    }
+
+    @Benchmark
+    public String formattedKey() {
+        return String.format("%s-%s", route.getChannel(), route.getTransaction());
+    }
+
+    @Benchmark
+    public String routeKey() {
+        return RouteKey.of(route);
+    }
+}
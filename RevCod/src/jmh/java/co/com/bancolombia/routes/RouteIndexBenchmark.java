@@ -0,0 +1,79 @@
+package co.com.bancolombia.routes;
+
+import co.com.bancolombia.router.configuredroute.ConfiguredRoute;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resolution through the compiled {@link RouteIndex} (exact, prefix and default hits) against the
+ * exact-match composite-key map it replaces.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RouteIndexBenchmark {
+
+    @Param({"10000", "100000"})
+    private int catalogSize;
+
+    private Map<String, ConfiguredRoute> exactMap;
+    private RouteIndex index;
+    private String channel;
+    private String exactTransaction;
+    private String prefixedTransaction;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        List<ConfiguredRoute> routes = new ArrayList<>(RouteCatalogs.routes(catalogSize));
+        for (String catalogChannel : RouteCatalogs.CHANNELS) {
+            routes.add(ConfiguredRoute.builder().channel(catalogChannel).transaction("9*").build());
+            routes.add(ConfiguredRoute.builder().channel(catalogChannel).transaction("95*").build());
+            routes.add(ConfiguredRoute.builder().channel(catalogChannel).transaction("*").build());
+        }
+        exactMap = new HashMap<>();
+        routes.forEach(route -> exactMap.put(RouteKey.of(route), route));
+        index = RouteIndex.of(routes);
+        channel = RouteCatalogs.channel(catalogSize / 2);
+        exactTransaction = RouteCatalogs.transaction(catalogSize / 2);
+        prefixedTransaction = "95" + catalogSize;
+    }
+
+    @Benchmark
+    public ConfiguredRoute exactMapLookup() {
+        return exactMap.get(RouteKey.of(channel, exactTransaction));
+    }
+
+    @Benchmark
+    public ConfiguredRoute indexExactHit() {
+        return index.find(channel, exactTransaction);
+    }
+
+    @Benchmark
+    public ConfiguredRoute indexPrefixHit() {
+        return index.find(channel, prefixedTransaction);
+    }
+
+    @Benchmark
+    public ConfiguredRoute indexDefaultHit() {
+        return index.find(channel, "X" + (next++ & 7));
+    }
+}
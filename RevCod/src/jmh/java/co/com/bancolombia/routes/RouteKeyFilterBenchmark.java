@@ -0,0 +1,95 @@
+package co.com.bancolombia.routes;
+
+import co.com.bancolombia.binstash.SerializatorHelper;
+import co.com.bancolombia.binstash.SingleTierObjectCacheUseCase;
+import co.com.bancolombia.binstash.adapter.memory.MemoryStash;
+import co.com.bancolombia.d2b.cache.FunctionalCacheOpsImpl;
+import co.com.bancolombia.d2b.model.cache.FunctionalCacheOps;
+import co.com.bancolombia.router.configuredroute.ConfiguredRoute;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lookups of routes that were never loaded on the serializing stash and the in-memory table, with
+ * and without the
+ * {@link FilteredRouteCacheOps} key filter in front of it, plus a loaded-route hit through the
+ * filter to show what it adds to the happy path.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RouteKeyFilterBenchmark {
+
+    @Param({"10000", "100000"})
+    private int catalogSize;
+
+    private String[] keys;
+    private String[] unknownKeys;
+    private FunctionalCacheOps<ConfiguredRoute> stash;
+    private InMemoryRouteCacheOps inMemory;
+    private FilteredRouteCacheOps filtered;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        var routes = RouteCatalogs.routes(catalogSize);
+        keys = routes.stream().map(RouteKey::of).toArray(String[]::new);
+        unknownKeys = RouteCatalogs.routes(2 * catalogSize).stream().skip(catalogSize)
+                .map(RouteKey::of).toArray(String[]::new);
+        var memoryStash = new MemoryStash.Builder()
+                .expireAfter(Integer.MAX_VALUE)
+                .maxSize(Integer.MAX_VALUE)
+                .build();
+        stash = new FunctionalCacheOpsImpl<>(new SingleTierObjectCacheUseCase<>(memoryStash,
+                new SerializatorHelper<>(RoutesJson.mapper())), ConfiguredRoute.class);
+        filtered = new FilteredRouteCacheOps(stash, catalogSize, 0.01);
+        filtered.startLoad();
+        for (int i = 0; i < catalogSize; i++) {
+            filtered.saveInCache(keys[i], routes.get(i)).block();
+        }
+        filtered.finishLoad();
+        inMemory = new InMemoryRouteCacheOps(catalogSize);
+        for (int i = 0; i < catalogSize; i++) {
+            inMemory.saveInCache(keys[i], routes.get(i)).block();
+        }
+    }
+
+    private int next() {
+        cursor = cursor + 1 == catalogSize ? 0 : cursor + 1;
+        return cursor;
+    }
+
+    @Benchmark
+    public ConfiguredRoute stashMiss() {
+        return stash.getFromCache(unknownKeys[next()]).block();
+    }
+
+    @Benchmark
+    public ConfiguredRoute inMemoryMiss() {
+        return inMemory.getFromCache(unknownKeys[next()]).block();
+    }
+
+    @Benchmark
+    public ConfiguredRoute filteredMiss() {
+        return filtered.getFromCache(unknownKeys[next()]).block();
+    }
+
+    @Benchmark
+    public ConfiguredRoute filteredHit() {
+        return filtered.getFromCache(keys[next()]).block();
+    }
+}
@@ -0,0 +1,90 @@
+package co.com.bancolombia.routes;
+
+import co.com.bancolombia.router.configuredroute.ConfiguredRoute;
+import co.com.bancolombia.router.configuredroute.gateway.Mapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.fasterxml.jackson.databind.DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES;
+
+/**
+ * Full catalog loading: the string/{@link Mapper} path, the streaming {@code ObjectReader} path, the
+ * element-isolating resilient path and the binary snapshot.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RouteLoadBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int catalogSize;
+
+    private RoutesConfig routesConfig;
+    private Mapper mapper;
+    private String json;
+    private byte[] jsonBytes;
+    private Path source;
+    private Path snapshot;
+    private RouteSnapshotFile snapshots;
+
+    @Setup
+    public void setUp() throws IOException {
+        routesConfig = new RoutesConfig();
+        mapper = RouteCatalogs.mapper();
+        json = RouteCatalogs.json(catalogSize);
+        jsonBytes = json.getBytes(StandardCharsets.UTF_8);
+        source = Files.createTempFile("routes", ".json");
+        Files.write(source, jsonBytes);
+        snapshot = Files.createTempFile("routes", ".snapshot");
+        snapshots = new RouteSnapshotFile(new ObjectMapper().disable(FAIL_ON_UNKNOWN_PROPERTIES));
+        snapshots.write(snapshot, RouteSnapshotFile.SourceStamp.of(source), processJsonStream());
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(source);
+        Files.deleteIfExists(snapshot);
+    }
+
+    @Benchmark
+    public List<ConfiguredRoute> processJsonNodes() {
+        return routesConfig.processJsonNodes(json, mapper).block();
+    }
+
+    @Benchmark
+    public List<ConfiguredRoute> processJsonStream() {
+        return routesConfig.processJsonStream(new ByteArrayInputStream(jsonBytes)).block();
+    }
+
+    @Benchmark
+    public List<ConfiguredRoute> readRoutesResilient() {
+        return routesConfig.readRoutesResilient(new ByteArrayInputStream(jsonBytes)).getRoutes();
+    }
+
+    @Benchmark
+    public List<ConfiguredRoute> readSnapshot() {
+        return snapshots.read(snapshot, source).orElseThrow();
+    }
+}
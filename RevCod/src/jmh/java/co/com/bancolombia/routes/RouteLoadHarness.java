@@ -0,0 +1,344 @@
+package co.com.bancolombia.routes;
+
+import co.com.bancolombia.d2b.model.cache.FunctionalCacheOps;
+import co.com.bancolombia.router.configuredroute.ConfiguredRoute;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Repeatable startup load test of the route subsystem, run by the {@code routeLoadTest} Gradle task.
+ * Generates a catalog with {@link RouteCatalogGenerator}, loads it through
+ * {@link RoutesConfig#routeInformationLoaded}, then runs concurrent lookups against the loaded cache
+ * and reports load throughput, lookup throughput, p50/p99 lookup latency and peak heap.
+ * <p>
+ * Settings are {@code name=value} arguments (see {@link #DEFAULTS}); {@code config.<field>=value}
+ * sets a {@link RoutesConfig} field, e.g. {@code config.resilientLoad=true}, and {@code report=<file>}
+ * also writes the results as JSON. Catalog and lookup keys are seeded, so runs with the same
+ * arguments do the same work.
+ */
+public final class RouteLoadHarness {
+
+    static final Map<String, String> DEFAULTS = defaults();
+
+    private static final long MB = 1024 * 1024;
+    private static final int LOOKUP_POOL = 1 << 16;
+    private static final String CONFIG_PREFIX = "config.";
+
+    private final Map<String, String> settings;
+    private final HeapSampler heap = new HeapSampler();
+
+    private RouteLoadHarness(Map<String, String> settings) {
+        this.settings = settings;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> settings = new LinkedHashMap<>(DEFAULTS);
+        for (var arg : args) {
+            var separator = arg.indexOf('=');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Expected name=value, got " + arg);
+            }
+            settings.put(arg.substring(0, separator), arg.substring(separator + 1));
+        }
+        var results = new RouteLoadHarness(settings).run();
+        results.forEach((name, value) -> System.out.printf("%-24s %s%n", name, value));
+        var report = settings.get("report");
+        if (report != null && !report.isBlank()) {
+            var target = Path.of(report);
+            if (target.getParent() != null) {
+                Files.createDirectories(target.getParent());
+            }
+            RoutesJson.mapper().writerWithDefaultPrettyPrinter().writeValue(target.toFile(), results);
+        }
+    }
+
+    private static Map<String, String> defaults() {
+        Map<String, String> defaults = new LinkedHashMap<>();
+        defaults.put("size", "100000");
+        defaults.put("channels", "20");
+        defaults.put("channelSkew", "1.0");
+        defaults.put("duplicateRate", "0.05");
+        defaults.put("invalidRate", "0.01");
+        defaults.put("detailsDepth", "1");
+        defaults.put("seed", "42");
+        defaults.put("cache", RoutesConfig.IN_MEMORY_CACHE);
+        defaults.put("threads", "4");
+        defaults.put("hitRate", "0.9");
+        defaults.put("warmupSeconds", "5");
+        defaults.put("seconds", "10");
+        defaults.put("loadTimeoutSeconds", "300");
+        return defaults;
+    }
+
+    Map<String, Object> run() throws Exception {
+        var catalog = RouteCatalogGenerator.builder()
+                .size(intSetting("size"))
+                .channels(intSetting("channels"))
+                .channelSkew(doubleSetting("channelSkew"))
+                .duplicateRate(doubleSetting("duplicateRate"))
+                .invalidRate(doubleSetting("invalidRate"))
+                .detailsDepth(intSetting("detailsDepth"))
+                .seed(longSetting("seed"))
+                .build()
+                .generate();
+        var source = catalog.write(Files.createTempFile("routes-load-test", ".json"));
+        Map<String, Object> results = new LinkedHashMap<>();
+        results.put("catalogElements", intSetting("size"));
+        results.put("catalogBytes", Files.size(source));
+        results.put("catalogUniqueRoutes", catalog.uniqueRoutes());
+        results.put("catalogDuplicates", catalog.duplicates());
+        results.put("catalogInvalid", catalog.invalid());
+        heap.start();
+        try {
+            var cache = load(source, results);
+            lookups(cache, catalog, results);
+        } finally {
+            heap.stop();
+            Files.deleteIfExists(source);
+        }
+        results.put("peakHeapMb", heap.overallPeak() / MB);
+        return results;
+    }
+
+    private FunctionalCacheOps<ConfiguredRoute> load(Path source, Map<String, Object> results) throws Exception {
+        var loaded = new CountDownLatch(1);
+        var failure = new AtomicReference<Throwable>();
+        var metrics = new RouteMetricsRecorder() {
+            @Override
+            public void loadCompleted(long routes, Duration duration) {
+                super.loadCompleted(routes, duration);
+                loaded.countDown();
+            }
+
+            @Override
+            public void loadFailed(Throwable error) {
+                super.loadFailed(error);
+                failure.set(error);
+                loaded.countDown();
+            }
+        };
+        var routesConfig = new RoutesConfig();
+        set(routesConfig, "fileRoutes", source.toString());
+        set(routesConfig, "logMode", RoutesConfig.SUMMARY_LOG);
+        set(routesConfig, "logQueueSize", "1024");
+        set(routesConfig, "bulkChunkSize", String.valueOf(BulkCacheOps.DEFAULT_CHUNK_SIZE));
+        set(routesConfig, "bulkConcurrency", String.valueOf(BulkCacheOps.DEFAULT_CONCURRENCY));
+        for (var setting : settings.entrySet()) {
+            if (setting.getKey().startsWith(CONFIG_PREFIX)) {
+                set(routesConfig, setting.getKey().substring(CONFIG_PREFIX.length()), setting.getValue());
+            }
+        }
+        setField(routesConfig, "routeMetrics", metrics);
+        var cache = cache(intSetting("size"));
+        System.gc();
+        var baseline = usedHeap();
+        heap.reset();
+        var start = System.nanoTime();
+        routesConfig.routeInformationLoaded(RouteCatalogs.mapper(), cache);
+        if (!loaded.await(longSetting("loadTimeoutSeconds"), TimeUnit.SECONDS)) {
+            throw new IllegalStateException("Routes not loaded within " + settings.get("loadTimeoutSeconds") + "s");
+        }
+        var error = failure.get();
+        if (error instanceof Exception exception) {
+            throw exception;
+        }
+        if (error != null) {
+            throw new IllegalStateException("Routes load failed", error);
+        }
+        var elapsed = System.nanoTime() - start;
+        results.put("loadMillis", TimeUnit.NANOSECONDS.toMillis(elapsed));
+        results.put("loadRoutesPerSecond",
+                metrics.lastLoadedRoutes() * TimeUnit.SECONDS.toNanos(1) / Math.max(elapsed, 1));
+        results.put("loadedRoutes", metrics.lastLoadedRoutes());
+        results.put("skippedNodes", metrics.skippedNodes());
+        results.put("failedNodes", metrics.failedNodes());
+        results.put("loadPeakHeapMb", heap.peak() / MB);
+        routesConfig.destroy();
+        System.gc();
+        results.put("retainedHeapMb", Math.max(usedHeap() - baseline, 0) / MB);
+        return cache;
+    }
+
+    private FunctionalCacheOps<ConfiguredRoute> cache(int size) {
+        var cacheType = settings.get("cache");
+        if (RoutesConfig.IN_MEMORY_CACHE.equalsIgnoreCase(cacheType)) {
+            return new InMemoryRouteCacheOps(size);
+        }
+        if (RoutesConfig.EVICTING_CACHE.equalsIgnoreCase(cacheType)) {
+            return new EvictingRouteCacheOps(0, null);
+        }
+        if (RoutesConfig.SNAPSHOT_CACHE.equalsIgnoreCase(cacheType)) {
+            return new RouteRegistry(RouteKey::of);
+        }
+        throw new IllegalArgumentException("Unknown cache " + cacheType + ", expected "
+                + RoutesConfig.IN_MEMORY_CACHE + ", " + RoutesConfig.EVICTING_CACHE + " or " + RoutesConfig.SNAPSHOT_CACHE);
+    }
+
+    /**
+     * Runs {@code threads} lookup loops over a seeded pool of keys, {@code hitRate} of them loaded,
+     * first for {@code warmupSeconds} unmeasured and then for {@code seconds}.
+     */
+    private void lookups(FunctionalCacheOps<ConfiguredRoute> cache, RouteCatalogGenerator.Catalog catalog,
+                         Map<String, Object> results) throws InterruptedException {
+        var random = new SplittableRandom(longSetting("seed"));
+        var hitRate = doubleSetting("hitRate");
+        var channels = new String[LOOKUP_POOL];
+        var transactions = new String[LOOKUP_POOL];
+        for (int i = 0; i < LOOKUP_POOL; i++) {
+            var index = random.nextInt(Math.max(catalog.uniqueRoutes(), 1));
+            channels[i] = catalog.uniqueRoutes() == 0 ? "D2B" : catalog.channel(index);
+            transactions[i] = random.nextDouble() < hitRate && catalog.uniqueRoutes() > 0
+                    ? catalog.transaction(index) : "0" + random.nextInt(1_000_000);
+        }
+        var lookup = cache instanceof RouteLookup routeLookup ? routeLookup
+                : (RouteLookup) (channel, transaction) -> cache.getFromCache(RouteKey.of(channel, transaction)).block();
+        var threads = Math.max(intSetting("threads"), 1);
+        run(lookup, channels, transactions, threads, intSetting("warmupSeconds"), null, null);
+        var latency = new LatencyHistogram();
+        var hits = new LongAdder();
+        heap.reset();
+        var start = System.nanoTime();
+        run(lookup, channels, transactions, threads, intSetting("seconds"), latency, hits);
+        var elapsed = System.nanoTime() - start;
+        results.put("lookupThreads", threads);
+        results.put("lookups", latency.count());
+        results.put("lookupsPerSecond", latency.count() * TimeUnit.SECONDS.toNanos(1) / Math.max(elapsed, 1));
+        results.put("lookupHitRatio", latency.count() == 0 ? 0.0 : (double) hits.sum() / latency.count());
+        results.put("lookupP50Nanos", latency.percentile(0.50));
+        results.put("lookupP99Nanos", latency.percentile(0.99));
+        results.put("lookupP999Nanos", latency.percentile(0.999));
+        results.put("lookupPeakHeapMb", heap.peak() / MB);
+    }
+
+    private static void run(RouteLookup lookup, String[] channels, String[] transactions, int threads, int seconds,
+                            LatencyHistogram latency, LongAdder hits) throws InterruptedException {
+        if (seconds <= 0) {
+            return;
+        }
+        var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        List<Thread> workers = new ArrayList<>(threads);
+        for (int t = 0; t < threads; t++) {
+            var offset = t * (LOOKUP_POOL / threads);
+            workers.add(new Thread(() -> {
+                var mask = LOOKUP_POOL - 1;
+                var found = 0L;
+                for (int i = offset; System.nanoTime() < deadline; i = (i + 1) & mask) {
+                    var start = System.nanoTime();
+                    var route = lookup.find(channels[i], transactions[i]);
+                    if (latency != null) {
+                        latency.record(System.nanoTime() - start);
+                    }
+                    if (route != null) {
+                        found++;
+                    }
+                }
+                if (hits != null) {
+                    hits.add(found);
+                }
+            }, "route-lookup-" + t));
+        }
+        workers.forEach(Thread::start);
+        for (var worker : workers) {
+            worker.join();
+        }
+    }
+
+    private static void set(RoutesConfig routesConfig, String field, String value) throws ReflectiveOperationException {
+        var type = RoutesConfig.class.getDeclaredField(field).getType();
+        Object converted;
+        if (type == boolean.class) {
+            converted = Boolean.parseBoolean(value);
+        } else if (type == int.class) {
+            converted = Integer.parseInt(value);
+        } else if (type == long.class) {
+            converted = Long.parseLong(value);
+        } else if (type == double.class) {
+            converted = Double.parseDouble(value);
+        } else {
+            converted = value;
+        }
+        setField(routesConfig, field, converted);
+    }
+
+    private static void setField(RoutesConfig routesConfig, String field, Object value)
+            throws ReflectiveOperationException {
+        var declared = RoutesConfig.class.getDeclaredField(field);
+        declared.setAccessible(true);
+        declared.set(routesConfig, value);
+    }
+
+    private int intSetting(String name) {
+        return Integer.parseInt(settings.get(name));
+    }
+
+    private long longSetting(String name) {
+        return Long.parseLong(settings.get(name));
+    }
+
+    private double doubleSetting(String name) {
+        return Double.parseDouble(settings.get(name));
+    }
+
+    private static long usedHeap() {
+        var runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * Samples used heap every few milliseconds on a daemon thread; {@link #peak()} is the highest
+     * sample since the last {@link #reset()}, {@link #overallPeak()} the highest since the start.
+     */
+    private static final class HeapSampler {
+
+        private final AtomicLong peak = new AtomicLong();
+        private final AtomicLong overallPeak = new AtomicLong();
+        private volatile boolean running;
+
+        void start() {
+            running = true;
+            var sampler = new Thread(() -> {
+                while (running) {
+                    var used = usedHeap();
+                    peak.accumulateAndGet(used, Math::max);
+                    overallPeak.accumulateAndGet(used, Math::max);
+                    try {
+                        Thread.sleep(5);
+                    } catch (InterruptedException exception) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+            }, "route-heap-sampler");
+            sampler.setDaemon(true);
+            sampler.start();
+        }
+
+        void reset() {
+            peak.set(usedHeap());
+        }
+
+        long peak() {
+            return Math.max(peak.get(), usedHeap());
+        }
+
+        long overallPeak() {
+            return Math.max(overallPeak.get(), peak());
+        }
+
+        void stop() {
+            running = false;
+        }
+    }
+}
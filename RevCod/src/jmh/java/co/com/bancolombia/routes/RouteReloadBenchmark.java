@@ -0,0 +1,82 @@
+package co.com.bancolombia.routes;
+
+import co.com.bancolombia.router.configuredroute.gateway.Mapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Concurrent {@code reloadRoutes} into separate registries, once per blocking execution mode of
+ * {@code config-routes.load.execution}. On a JVM without virtual threads both modes run on
+ * {@code boundedElastic}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RouteReloadBenchmark {
+
+    @Param({RouteLoadSchedulers.BOUNDED_ELASTIC_EXECUTION, RouteLoadSchedulers.VIRTUAL_THREAD_EXECUTION})
+    private String execution;
+
+    @Param({"8", "64"})
+    private int concurrentReloads;
+
+    @Param({"10000"})
+    private int catalogSize;
+
+    private RoutesConfig routesConfig;
+    private Mapper mapper;
+    private RouteRegistry[] registries;
+    private Path source;
+
+    @Setup
+    public void setUp() throws Exception {
+        source = Files.createTempFile("routes", ".json");
+        Files.writeString(source, RouteCatalogs.json(catalogSize));
+        routesConfig = new RoutesConfig();
+        set("fileRoutes", source.toString());
+        set("loadExecution", execution);
+        mapper = RouteCatalogs.mapper();
+        registries = new RouteRegistry[concurrentReloads];
+        for (int i = 0; i < concurrentReloads; i++) {
+            registries[i] = new RouteRegistry(RouteKey::of);
+        }
+    }
+
+    private void set(String field, Object value) throws ReflectiveOperationException {
+        var declared = RoutesConfig.class.getDeclaredField(field);
+        declared.setAccessible(true);
+        declared.set(routesConfig, value);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(source);
+    }
+
+    @Benchmark
+    public Integer concurrentReloads() {
+        return Flux.range(0, concurrentReloads)
+                .flatMap(i -> routesConfig.reloadRoutes(mapper, registries[i]), concurrentReloads)
+                .reduce(0, Integer::sum)
+                .block();
+    }
+}
@@ -0,0 +1,69 @@
+package co.com.bancolombia.routes;
+
+import co.com.bancolombia.router.configuredroute.ConfiguredRoute;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loading one catalog split over a directory of files, parsed one file per parallel task.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RouteSourcesBenchmark {
+
+    @Param({"100000"})
+    private int catalogSize;
+
+    @Param({"1", "8"})
+    private int files;
+
+    private RoutesConfig routesConfig;
+    private Path directory;
+
+    @Setup
+    public void setUp() throws Exception {
+        directory = Files.createTempDirectory("routes");
+        var slice = catalogSize / files;
+        for (int i = 0; i < files; i++) {
+            Files.writeString(directory.resolve("routes-" + i + RouteSources.JSON_EXTENSION),
+                    RouteCatalogs.json(i * slice, (i + 1) * slice));
+        }
+        routesConfig = new RoutesConfig();
+        var fileRoutes = RoutesConfig.class.getDeclaredField("fileRoutes");
+        fileRoutes.setAccessible(true);
+        fileRoutes.set(routesConfig, directory.toString());
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        for (int i = 0; i < files; i++) {
+            Files.deleteIfExists(directory.resolve("routes-" + i + RouteSources.JSON_EXTENSION));
+        }
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public List<ConfiguredRoute> loadRouteSources() {
+        return routesConfig.loadRouteSources(new RouteLoadSummary()).block();
+    }
+}
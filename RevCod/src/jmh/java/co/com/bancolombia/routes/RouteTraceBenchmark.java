@@ -0,0 +1,66 @@
+package co.com.bancolombia.routes;
+
+import co.com.bancolombia.router.configuredroute.ConfiguredRoute;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the {@link TracingRouteCacheOps} decorator on an indexed in-memory lookup, by sample rate,
+ * against the undecorated cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RouteTraceBenchmark {
+
+    private static final int CATALOG_SIZE = 10_000;
+
+    @Param({"1", "100", "10000"})
+    private int sampleRate;
+
+    private List<ConfiguredRoute> routes;
+    private InMemoryRouteCacheOps inMemory;
+    private RouteLookup traced;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        routes = RouteCatalogs.routes(CATALOG_SIZE);
+        inMemory = new InMemoryRouteCacheOps(CATALOG_SIZE);
+        routes.forEach(route -> inMemory.saveInCache(RouteKey.of(route), route).block());
+        var tracing = new TracingRouteCacheOps(inMemory, new RouteTrace(4096, sampleRate));
+        traced = (RouteLookup) ForwardingRouteCacheOps.indexed(tracing);
+    }
+
+    private ConfiguredRoute next() {
+        cursor = cursor + 1 == CATALOG_SIZE ? 0 : cursor + 1;
+        return routes.get(cursor);
+    }
+
+    @Benchmark
+    public ConfiguredRoute untracedFind() {
+        var route = next();
+        return inMemory.find(route.getChannel(), route.getTransaction());
+    }
+
+    @Benchmark
+    public ConfiguredRoute tracedFind() {
+        var route = next();
+        return traced.find(route.getChannel(), route.getTransaction());
+    }
+}
@@ -0,0 +1,120 @@
+package co.com.bancolombia.routes;
+
+import co.com.bancolombia.d2b.model.cache.FunctionalCacheOps;
+import co.com.bancolombia.router.configuredroute.ConfiguredRoute;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Route caches that can store or look up many routes in one operation instead of one
+ * {@code saveInCache} or {@code getFromCache} per route. The static helpers split large requests
+ * into chunks of at most {@code chunkSize} entries and keep at most {@code concurrency} of them in
+ * flight, falling back to per-key calls, with the same cap, for caches without bulk operations.
+ */
+interface BulkCacheOps {
+
+    int DEFAULT_CHUNK_SIZE = 500;
+    int DEFAULT_CONCURRENCY = 4;
+
+    /**
+     * @return number of routes stored
+     */
+    Mono<Integer> saveAll(Map<String, ConfiguredRoute> routes);
+
+    /**
+     * @return the routes found, by key; keys without a route are left out
+     */
+    Mono<Map<String, ConfiguredRoute>> findAll(Collection<String> keys);
+
+    /**
+     * Whether large saves should be split into chunks. Stores that copy their whole content on
+     * every write, like {@link RouteRegistry}, take all routes in a single call instead.
+     */
+    default boolean chunksSaves() {
+        return true;
+    }
+
+    static Mono<Integer> saveAll(FunctionalCacheOps<ConfiguredRoute> cacheOps, Map<String, ConfiguredRoute> routes) {
+        return saveAll(cacheOps, routes, DEFAULT_CHUNK_SIZE, DEFAULT_CONCURRENCY);
+    }
+
+    /**
+     * Stores {@code routes} in {@code cacheOps}. Keys are expected to be unique, as produced by the
+     * {@link RouteValidator}, so chunks and per-key saves may complete in any order.
+     */
+    static Mono<Integer> saveAll(FunctionalCacheOps<ConfiguredRoute> cacheOps, Map<String, ConfiguredRoute> routes,
+                                 int chunkSize, int concurrency) {
+        var cap = Math.max(concurrency, 1);
+        if (cacheOps instanceof BulkCacheOps bulk) {
+            if (routes.size() <= chunkSize(chunkSize) || !bulk.chunksSaves()) {
+                return bulk.saveAll(routes);
+            }
+            return Flux.fromIterable(chunks(routes, chunkSize(chunkSize)))
+                    .flatMap(bulk::saveAll, cap)
+                    .reduce(0, Integer::sum);
+        }
+        return Flux.fromIterable(routes.entrySet())
+                .flatMap(entry -> cacheOps.saveInCache(entry.getKey(), entry.getValue()), cap)
+                .then(Mono.fromSupplier(routes::size));
+    }
+
+    static Mono<Map<String, ConfiguredRoute>> findAll(FunctionalCacheOps<ConfiguredRoute> cacheOps,
+                                                      Collection<String> keys) {
+        return findAll(cacheOps, keys, DEFAULT_CHUNK_SIZE, DEFAULT_CONCURRENCY);
+    }
+
+    /**
+     * Looks up {@code keys} in {@code cacheOps}.
+     *
+     * @return the routes found, by key; keys without a route are left out
+     */
+    static Mono<Map<String, ConfiguredRoute>> findAll(FunctionalCacheOps<ConfiguredRoute> cacheOps,
+                                                      Collection<String> keys, int chunkSize, int concurrency) {
+        var cap = Math.max(concurrency, 1);
+        if (cacheOps instanceof BulkCacheOps bulk) {
+            if (keys.size() <= chunkSize(chunkSize)) {
+                return bulk.findAll(keys);
+            }
+            return Flux.fromIterable(chunks(keys, chunkSize(chunkSize)))
+                    .flatMapSequential(bulk::findAll, cap)
+                    .collect(() -> new LinkedHashMap<String, ConfiguredRoute>(keys.size() * 4 / 3 + 1),
+                            Map::putAll);
+        }
+        return Flux.fromIterable(keys)
+                .flatMapSequential(key -> cacheOps.getFromCache(key).map(route -> Map.entry(key, route)), cap)
+                .collect(() -> new LinkedHashMap<String, ConfiguredRoute>(keys.size() * 4 / 3 + 1),
+                        (found, entry) -> found.put(entry.getKey(), entry.getValue()));
+    }
+
+    private static int chunkSize(int chunkSize) {
+        return chunkSize > 0 ? chunkSize : DEFAULT_CHUNK_SIZE;
+    }
+
+    private static List<Map<String, ConfiguredRoute>> chunks(Map<String, ConfiguredRoute> routes, int chunkSize) {
+        List<Map<String, ConfiguredRoute>> chunks = new ArrayList<>(routes.size() / chunkSize + 1);
+        Map<String, ConfiguredRoute> chunk = null;
+        for (var entry : routes.entrySet()) {
+            if (chunk == null || chunk.size() == chunkSize) {
+                chunk = new LinkedHashMap<>(chunkSize * 4 / 3 + 1);
+                chunks.add(chunk);
+            }
+            chunk.put(entry.getKey(), entry.getValue());
+        }
+        return chunks;
+    }
+
+    private static List<List<String>> chunks(Collection<String> keys, int chunkSize) {
+        List<String> all = keys instanceof List<String> list ? list : new ArrayList<>(keys);
+        List<List<String>> chunks = new ArrayList<>(all.size() / chunkSize + 1);
+        for (int from = 0; from < all.size(); from += chunkSize) {
+            chunks.add(all.subList(from, Math.min(from + chunkSize, all.size())));
+        }
+        return chunks;
+    }
+}
@@ -0,0 +1,96 @@
+package co.com.bancolombia.routes;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Memoizes a KMS-backed {@code DataMask}/{@code DataUnmasked} serializer: the delegate output for
+ * a value is captured once in a {@link TokenBuffer} and replayed for every later occurrence of the
+ * same value, so repeated values cost one KMS round trip per {@link MaskedValueCache} lifetime.
+ *
+ * <p>Values are keyed by an HMAC of their plain JSON form written by {@code keyWriter}, which must
+ * not have the masking module registered; the plain form is cleared once keyed, so only masked
+ * output and digests stay cached. Values that cannot be keyed are serialized by the delegate.
+ */
+public class CachingMaskSerializer extends StdSerializer<Object> {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Serialization attribute holding a {@code Map<String, Object>} of values missing from the
+     * cache. When present, misses are recorded there instead of calling KMS and written as
+     * {@code null}; see {@link MaskBatchWriter}.
+     */
+    public static final String PENDING_VALUES = CachingMaskSerializer.class.getName() + ".pending";
+
+    private final transient JsonSerializer<Object> delegate;
+    private final transient MaskedValueCache cache;
+    private final transient ObjectWriter keyWriter;
+
+    @SuppressWarnings("unchecked")
+    public CachingMaskSerializer(Class<?> type, JsonSerializer<?> delegate, MaskedValueCache cache,
+                                 ObjectWriter keyWriter) {
+        super(type, false);
+        this.delegate = (JsonSerializer<Object>) delegate;
+        this.cache = cache;
+        this.keyWriter = keyWriter;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void serialize(Object value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        var key = key(value);
+        if (key == null) {
+            delegate.serialize(value, gen, provider);
+            return;
+        }
+        var pending = (Map<String, Object>) provider.getAttribute(PENDING_VALUES);
+        if (pending == null) {
+            cache.get(key, () -> capture(value, gen, provider)).serialize(gen);
+            return;
+        }
+        var cached = cache.getIfPresent(key);
+        if (cached != null) {
+            cached.serialize(gen);
+        } else {
+            pending.putIfAbsent(key, value);
+            gen.writeNull();
+        }
+    }
+
+    /**
+     * Runs the delegate for {@code value} into a detached buffer, i.e. performs the KMS call.
+     */
+    TokenBuffer capture(Object value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        var buffer = new TokenBuffer(gen.getCodec(), false);
+        delegate.serialize(value, buffer, provider);
+        buffer.close();
+        return buffer;
+    }
+
+    String key(Object value) {
+        byte[] plain;
+        try {
+            plain = keyWriter.writeValueAsBytes(value);
+        } catch (IOException | RuntimeException exception) {
+            return null;
+        }
+        try {
+            return cache.key(handledType(), plain);
+        } finally {
+            Arrays.fill(plain, (byte) 0);
+        }
+    }
+
+    MaskedValueCache cache() {
+        return cache;
+    }
+}
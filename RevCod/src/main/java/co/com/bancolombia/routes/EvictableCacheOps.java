@@ -0,0 +1,11 @@
+package co.com.bancolombia.routes;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * In-process route caches that can drop a single key, used to apply removed routes on reload.
+ */
+interface EvictableCacheOps {
+
+    Mono<Boolean> evict(String key);
+}
@@ -0,0 +1,112 @@
+package co.com.bancolombia.routes;
+
+import co.com.bancolombia.d2b.model.cache.FunctionalCacheOps;
+import co.com.bancolombia.router.configuredroute.ConfiguredRoute;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded in-process route cache with W-TinyLFU eviction, so tiered setups can keep only the hot
+ * routes in memory. A non-positive capacity leaves the cache unbounded, i.e. sized by whatever
+ * catalog is loaded. Evictions are counted, and reported to {@link RouteMetrics} as they happen, and
+ * hit/miss statistics are recorded for sizing.
+ */
+public class EvictingRouteCacheOps implements FunctionalCacheOps<ConfiguredRoute>, EvictableCacheOps, BulkCacheOps {
+
+    private final Cache<String, ConfiguredRoute> routes;
+    private final long capacity;
+    private final LongAdder evictions = new LongAdder();
+
+    public EvictingRouteCacheOps(long capacity, Duration expireAfterWrite) {
+        this(capacity, expireAfterWrite, RouteMetrics.NOOP);
+    }
+
+    public EvictingRouteCacheOps(long capacity, Duration expireAfterWrite, RouteMetrics metrics) {
+        this.capacity = capacity;
+        var builder = Caffeine.newBuilder()
+                .recordStats()
+                .removalListener((String routeKey, ConfiguredRoute route, RemovalCause cause) -> {
+                    if (cause.wasEvicted()) {
+                        evictions.increment();
+                        metrics.routeEvicted();
+                    }
+                });
+        if (capacity > 0) {
+            builder.maximumSize(capacity);
+        }
+        if (expireAfterWrite != null && !expireAfterWrite.isZero() && !expireAfterWrite.isNegative()) {
+            builder.expireAfterWrite(expireAfterWrite);
+        }
+        this.routes = builder.executor(Runnable::run).build();
+    }
+
+    @Override
+    public Mono<ConfiguredRoute> saveInCache(String key, ConfiguredRoute value) {
+        return Mono.fromSupplier(() -> {
+            routes.put(key, value);
+            return value;
+        });
+    }
+
+    @Override
+    public Mono<Integer> saveAll(Map<String, ConfiguredRoute> values) {
+        return Mono.fromSupplier(() -> {
+            routes.putAll(values);
+            return values.size();
+        });
+    }
+
+    @Override
+    public Mono<Map<String, ConfiguredRoute>> findAll(Collection<String> keys) {
+        return Mono.fromSupplier(() -> routes.getAllPresent(keys));
+    }
+
+    @Override
+    public Mono<ConfiguredRoute> getFromCache(String key) {
+        return Mono.fromSupplier(() -> routes.getIfPresent(key));
+    }
+
+    public ConfiguredRoute get(String key) {
+        return routes.getIfPresent(key);
+    }
+
+    @Override
+    public Mono<Boolean> evict(String key) {
+        return Mono.fromSupplier(() -> routes.asMap().remove(key) != null);
+    }
+
+    /**
+     * @return configured capacity, or {@code -1} when unbounded
+     */
+    public long capacity() {
+        return capacity > 0 ? capacity : -1;
+    }
+
+    public long size() {
+        routes.cleanUp();
+        return routes.estimatedSize();
+    }
+
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    public CacheStats stats() {
+        return routes.stats();
+    }
+
+    @Override
+    public String toString() {
+        var stats = routes.stats();
+        return "capacity=" + capacity() + ", size=" + size() + ", evictions=" + evictionCount()
+                + ", hits=" + stats.hitCount() + ", misses=" + stats.missCount();
+    }
+}
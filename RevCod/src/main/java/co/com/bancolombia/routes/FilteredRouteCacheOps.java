@@ -0,0 +1,218 @@
+package co.com.bancolombia.routes;
+
+import co.com.bancolombia.d2b.model.cache.FunctionalCacheOps;
+import co.com.bancolombia.router.configuredroute.ConfiguredRoute;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Decorates an exact-key route cache with a {@link RouteKeyFilter} of the loaded keys, so lookups
+ * of routes that were never loaded complete empty without touching the cache. Until the first load
+ * finishes every lookup goes to the cache. Each load collects the keys it saves and, when it
+ * completes, swaps in a filter built from them and therefore sized by the real key count; keys saved
+ * in between are added to the live filter as well, so a route is never rejected once its save has
+ * completed.
+ */
+public class FilteredRouteCacheOps extends ForwardingRouteCacheOps implements RouteLoadListener {
+
+    private static final long MAX_PRESIZED_KEYS = 1 << 20;
+
+    private final long expectedKeys;
+    private final double falsePositiveRate;
+    private final LongAdder filterHits = new LongAdder();
+    private final LongAdder falsePositives = new LongAdder();
+    private volatile RouteKeyFilter current;
+    private volatile Set<String> next;
+
+    public FilteredRouteCacheOps(FunctionalCacheOps<ConfiguredRoute> delegate, long expectedKeys,
+                                 double falsePositiveRate) {
+        super(delegate);
+        this.expectedKeys = expectedKeys;
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    @Override
+    public Mono<ConfiguredRoute> saveInCache(String key, ConfiguredRoute value) {
+        return super.saveInCache(key, value).doOnSuccess(saved -> remember(key));
+    }
+
+    @Override
+    public Mono<Integer> saveAll(Map<String, ConfiguredRoute> routes) {
+        return super.saveAll(routes)
+                .doOnSuccess(saved -> routes.keySet().forEach(this::remember));
+    }
+
+    /**
+     * Only the keys the filter lets through are looked up in the delegate; as with
+     * {@link #getFromCache(String)}, an all-rejected batch completes straight away.
+     */
+    @Override
+    public Mono<Map<String, ConfiguredRoute>> findAll(Collection<String> keys) {
+        List<String> candidates = new ArrayList<>(keys.size());
+        for (var key : keys) {
+            if (!rejects(key)) {
+                candidates.add(key);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+        return super.findAll(candidates)
+                .doOnNext(found -> missed(candidates.size() - found.size()));
+    }
+
+    /**
+     * Keys the filter rejects are answered with an empty {@link Mono} straight away, without
+     * assembling a lookup on the delegate.
+     */
+    @Override
+    public Mono<ConfiguredRoute> getFromCache(String key) {
+        if (rejects(key)) {
+            return Mono.empty();
+        }
+        return super.getFromCache(key)
+                .switchIfEmpty(Mono.fromRunnable(() -> missed(1)));
+    }
+
+    @Override
+    ConfiguredRoute findIndexed(RouteLookup lookup, String channel, String transaction) {
+        if (channel == null || transaction == null) {
+            return null;
+        }
+        if (rejects(channel, transaction)) {
+            return null;
+        }
+        var route = lookup.find(channel, transaction);
+        if (route == null) {
+            missed(1);
+        }
+        return route;
+    }
+
+    /**
+     * Starts collecting the keys of a new load; the configured expectation only presizes the set.
+     */
+    public void startLoad() {
+        next = ConcurrentHashMap.newKeySet((int) Math.max(0, Math.min(expectedKeys, MAX_PRESIZED_KEYS)));
+    }
+
+    /**
+     * Publishes a filter sized for and built from the keys of the load started by
+     * {@link #startLoad()}, dropping keys that were only in the previous one. Keys saved while it is
+     * built may have reached only the previous filter, so the collected keys are checked again once
+     * it is live.
+     */
+    public void finishLoad() {
+        var loaded = next;
+        if (loaded != null) {
+            var filter = RouteKeyFilter.of(loaded, falsePositiveRate);
+            current = filter;
+            for (var key : loaded) {
+                if (!filter.mightContain(key)) {
+                    filter.add(key);
+                }
+            }
+            next = null;
+        }
+    }
+
+    /**
+     * Starts a new filter and passes the event on to the delegate.
+     */
+    @Override
+    public void loadStarted() {
+        startLoad();
+        if (delegate() instanceof RouteLoadListener listener) {
+            listener.loadStarted();
+        }
+    }
+
+    /**
+     * Lets the delegate complete the load first, so the new filter is published only once the
+     * delegate serves every loaded route.
+     */
+    @Override
+    public Mono<Void> loadCompleted() {
+        var completed = delegate() instanceof RouteLoadListener listener
+                ? listener.loadCompleted()
+                : Mono.<Void>empty();
+        return completed.then(Mono.fromRunnable(this::finishLoad));
+    }
+
+    /**
+     * Replaces the live filter with one built from {@code routeKeys}, for callers that know the
+     * complete key set, such as the file reloader after applying a diff.
+     */
+    public void rebuild(Collection<String> routeKeys) {
+        current = RouteKeyFilter.of(routeKeys, falsePositiveRate);
+    }
+
+    private boolean rejects(String key) {
+        var filter = current;
+        return filter != null && rejected(filter.mightContain(key));
+    }
+
+    private boolean rejects(String channel, String transaction) {
+        var filter = current;
+        return filter != null && rejected(filter.mightContain(channel, transaction));
+    }
+
+    private boolean rejected(boolean mightContain) {
+        if (mightContain) {
+            return false;
+        }
+        filterHits.increment();
+        return true;
+    }
+
+    /**
+     * Records the key in the load first, then in the live filter, so {@link #finishLoad()} sees every
+     * key that reached only the filter it replaces.
+     */
+    private void remember(String key) {
+        var loading = next;
+        if (loading != null) {
+            loading.add(key);
+        }
+        var filter = current;
+        if (filter != null) {
+            filter.add(key);
+        }
+    }
+
+    /**
+     * Counts keys the filter let through but the cache did not have. With an evicting cache this
+     * also counts loaded routes that were evicted, so it is an upper bound of true false positives.
+     */
+    private void missed(int count) {
+        if (count > 0 && current != null) {
+            falsePositives.add(count);
+        }
+    }
+
+    /**
+     * @return lookups answered by the filter alone
+     */
+    public long filterHits() {
+        return filterHits.sum();
+    }
+
+    /**
+     * @return lookups that passed the filter and still missed in the cache
+     */
+    public long falsePositives() {
+        return falsePositives.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "filter=[" + current + "], filterHits=" + filterHits() + ", falsePositives=" + falsePositives();
+    }
+}
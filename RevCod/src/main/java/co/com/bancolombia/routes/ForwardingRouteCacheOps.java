@@ -0,0 +1,108 @@
+package co.com.bancolombia.routes;
+
+import co.com.bancolombia.d2b.model.cache.FunctionalCacheOps;
+import co.com.bancolombia.router.configuredroute.ConfiguredRoute;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Base of the route cache decorators: forwards every operation to the delegate, bulk ones in a
+ * single batch, so a decorator only overrides what it observes or changes. Synchronous lookups are
+ * offered by wrapping a decorator with {@link #indexed}, which decorators take part in through
+ * {@link #findIndexed}.
+ */
+public abstract class ForwardingRouteCacheOps implements FunctionalCacheOps<ConfiguredRoute>, BulkCacheOps {
+
+    private final FunctionalCacheOps<ConfiguredRoute> delegate;
+
+    protected ForwardingRouteCacheOps(FunctionalCacheOps<ConfiguredRoute> delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Mono<ConfiguredRoute> saveInCache(String key, ConfiguredRoute value) {
+        return delegate.saveInCache(key, value);
+    }
+
+    @Override
+    public Mono<Integer> saveAll(Map<String, ConfiguredRoute> routes) {
+        return BulkCacheOps.saveAll(delegate, routes, routes.size(), DEFAULT_CONCURRENCY);
+    }
+
+    @Override
+    public Mono<ConfiguredRoute> getFromCache(String key) {
+        return delegate.getFromCache(key);
+    }
+
+    @Override
+    public Mono<Map<String, ConfiguredRoute>> findAll(Collection<String> keys) {
+        return BulkCacheOps.findAll(delegate, keys, keys.size(), DEFAULT_CONCURRENCY);
+    }
+
+    public FunctionalCacheOps<ConfiguredRoute> delegate() {
+        return delegate;
+    }
+
+    /**
+     * Resolves a synchronous lookup on the delegate's {@code lookup}; decorators override it to
+     * observe or short-circuit it as they do {@link #getFromCache}.
+     */
+    ConfiguredRoute findIndexed(RouteLookup lookup, String channel, String transaction) {
+        return lookup.find(channel, transaction);
+    }
+
+    /**
+     * {@code decorator}, also offering {@link RouteLookup} when its delegate resolves routes
+     * synchronously; over reactive delegates it is returned as is, reached through
+     * {@link #getFromCache} alone, so a lookup never blocks the caller.
+     */
+    public static FunctionalCacheOps<ConfiguredRoute> indexed(ForwardingRouteCacheOps decorator) {
+        return decorator.delegate() instanceof RouteLookup lookup ? new Indexed(decorator, lookup) : decorator;
+    }
+
+    /**
+     * @return the decorator {@code cache} offers {@link RouteLookup} for, or {@code cache} itself
+     */
+    public static FunctionalCacheOps<ConfiguredRoute> unwrapped(FunctionalCacheOps<ConfiguredRoute> cache) {
+        return cache instanceof Indexed indexed ? indexed.decorator() : cache;
+    }
+
+    /**
+     * Decorator over a delegate with a synchronous {@link RouteLookup}, see {@link #indexed}. Load
+     * events are passed on, so it stands in for the decorator wherever the cache is loaded.
+     */
+    public static final class Indexed extends ForwardingRouteCacheOps implements RouteLookup, RouteLoadListener {
+
+        private final ForwardingRouteCacheOps decorator;
+        private final RouteLookup lookup;
+
+        private Indexed(ForwardingRouteCacheOps decorator, RouteLookup lookup) {
+            super(decorator);
+            this.decorator = decorator;
+            this.lookup = lookup;
+        }
+
+        public ForwardingRouteCacheOps decorator() {
+            return decorator;
+        }
+
+        @Override
+        public ConfiguredRoute find(String channel, String transaction) {
+            return decorator.findIndexed(lookup, channel, transaction);
+        }
+
+        @Override
+        public void loadStarted() {
+            if (decorator instanceof RouteLoadListener listener) {
+                listener.loadStarted();
+            }
+        }
+
+        @Override
+        public Mono<Void> loadCompleted() {
+            return decorator instanceof RouteLoadListener listener ? listener.loadCompleted() : Mono.empty();
+        }
+    }
+}
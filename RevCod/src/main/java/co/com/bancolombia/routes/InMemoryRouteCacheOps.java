@@ -0,0 +1,131 @@
+package co.com.bancolombia.routes;
+
+import co.com.bancolombia.d2b.model.cache.FunctionalCacheOps;
+import co.com.bancolombia.router.configuredroute.ConfiguredRoute;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-process route table that keeps {@link ConfiguredRoute} instances by reference, skipping the
+ * JSON round trip of the serializing stash. Lookups are lock-free reads over a
+ * {@link ConcurrentHashMap}, either by cache key or through a per-channel transaction index; stored
+ * routes are shared with every caller and must be treated as read-only.
+ */
+public class InMemoryRouteCacheOps implements FunctionalCacheOps<ConfiguredRoute>, EvictableCacheOps, RouteLookup,
+        BulkCacheOps {
+
+    private static final int DEFAULT_CAPACITY = 1024;
+
+    private final Map<String, ConfiguredRoute> routes;
+    private final Map<String, Map<String, ConfiguredRoute>> byChannel = new ConcurrentHashMap<>();
+
+    public InMemoryRouteCacheOps() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public InMemoryRouteCacheOps(int expectedSize) {
+        this.routes = new ConcurrentHashMap<>(Math.max(expectedSize, 1));
+    }
+
+    @Override
+    public Mono<ConfiguredRoute> saveInCache(String key, ConfiguredRoute value) {
+        return Mono.fromSupplier(() -> {
+            put(key, value);
+            return value;
+        });
+    }
+
+    @Override
+    public Mono<Integer> saveAll(Map<String, ConfiguredRoute> values) {
+        return Mono.fromSupplier(() -> {
+            values.forEach(this::put);
+            return values.size();
+        });
+    }
+
+    @Override
+    public Mono<Map<String, ConfiguredRoute>> findAll(Collection<String> keys) {
+        return Mono.fromSupplier(() -> {
+            Map<String, ConfiguredRoute> found = new LinkedHashMap<>(keys.size() * 4 / 3 + 1);
+            for (var key : keys) {
+                var route = routes.get(key);
+                if (route != null) {
+                    found.put(key, route);
+                }
+            }
+            return found;
+        });
+    }
+
+    @Override
+    public Mono<ConfiguredRoute> getFromCache(String key) {
+        return Mono.fromSupplier(() -> routes.get(key));
+    }
+
+    @Override
+    public Mono<Boolean> evict(String key) {
+        return Mono.fromSupplier(() -> {
+            var removed = routes.remove(key);
+            unindex(removed);
+            return removed != null;
+        });
+    }
+
+    @Override
+    public ConfiguredRoute find(String channel, String transaction) {
+        if (channel == null || transaction == null) {
+            return null;
+        }
+        var transactions = byChannel.get(channel);
+        return transactions == null ? null : transactions.get(transaction);
+    }
+
+    /**
+     * Replaces the route of {@code key} atomically with its index entries: the new route is indexed
+     * before the one it replaces is unindexed, so a present key is never missing from the index.
+     */
+    private void put(String key, ConfiguredRoute value) {
+        routes.compute(key, (routeKey, previous) -> {
+            index(value);
+            if (previous != null && !sameIndexEntry(previous, value)) {
+                unindex(previous);
+            }
+            return value;
+        });
+    }
+
+    private static boolean sameIndexEntry(ConfiguredRoute previous, ConfiguredRoute route) {
+        return Objects.equals(previous.getChannel(), route.getChannel())
+                && Objects.equals(previous.getTransaction(), route.getTransaction());
+    }
+
+    private void index(ConfiguredRoute route) {
+        if (route.getChannel() != null && route.getTransaction() != null) {
+            byChannel.computeIfAbsent(route.getChannel(), channel -> new ConcurrentHashMap<>())
+                    .put(route.getTransaction(), route);
+        }
+    }
+
+    private void unindex(ConfiguredRoute route) {
+        if (route == null || route.getChannel() == null || route.getTransaction() == null) {
+            return;
+        }
+        var transactions = byChannel.get(route.getChannel());
+        if (transactions != null) {
+            transactions.remove(route.getTransaction(), route);
+        }
+    }
+
+    public ConfiguredRoute get(String key) {
+        return routes.get(key);
+    }
+
+    public int size() {
+        return routes.size();
+    }
+}
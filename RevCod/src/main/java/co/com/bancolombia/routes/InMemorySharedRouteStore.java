@@ -0,0 +1,108 @@
+package co.com.bancolombia.routes;
+
+import co.com.bancolombia.router.configuredroute.ConfiguredRoute;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Embedded {@link SharedRouteStore} for tests and single-replica deployments. Routes are kept as
+ * their JSON bytes, like a remote store would, so each near-cache reads its own copy and never
+ * shares instances with the replica that wrote them. Round trips are counted.
+ */
+public class InMemorySharedRouteStore implements SharedRouteStore {
+
+    private final Map<String, byte[]> routes = new ConcurrentHashMap<>();
+    private final LongAdder reads = new LongAdder();
+    private long version;
+    private String fingerprint;
+
+    @Override
+    public Mono<ConfiguredRoute> get(String key) {
+        return Mono.fromSupplier(() -> {
+            reads.increment();
+            var json = routes.get(key);
+            return json == null ? null : read(json);
+        });
+    }
+
+    @Override
+    public Mono<ConfiguredRoute> put(String key, ConfiguredRoute route) {
+        return Mono.fromSupplier(() -> {
+            routes.put(key, write(route));
+            return route;
+        });
+    }
+
+    @Override
+    public Mono<Boolean> remove(String key) {
+        return Mono.fromSupplier(() -> routes.remove(key) != null);
+    }
+
+    @Override
+    public Flux<String> keys() {
+        return Flux.defer(() -> Flux.fromIterable(List.copyOf(routes.keySet())));
+    }
+
+    @Override
+    public Mono<Long> version() {
+        return Mono.fromSupplier(this::currentVersion);
+    }
+
+    @Override
+    public Mono<String> fingerprint() {
+        return Mono.fromSupplier(this::currentFingerprint);
+    }
+
+    @Override
+    public Mono<Long> publish(String sourceFingerprint) {
+        return Mono.fromSupplier(() -> {
+            synchronized (this) {
+                fingerprint = sourceFingerprint;
+                return ++version;
+            }
+        });
+    }
+
+    private synchronized long currentVersion() {
+        return version;
+    }
+
+    private synchronized String currentFingerprint() {
+        return fingerprint;
+    }
+
+    private static ConfiguredRoute read(byte[] json) {
+        try {
+            return RoutesJson.routeReader().readValue(json);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private static byte[] write(ConfiguredRoute route) {
+        try {
+            return RoutesJson.routeWriter().writeValueAsBytes(route);
+        } catch (JsonProcessingException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    public int size() {
+        return routes.size();
+    }
+
+    /**
+     * @return route lookups served, i.e. the round trips a remote store would have taken
+     */
+    public long reads() {
+        return reads.sum();
+    }
+}
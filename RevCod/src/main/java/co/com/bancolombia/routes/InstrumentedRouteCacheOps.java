@@ -0,0 +1,56 @@
+package co.com.bancolombia.routes;
+
+import co.com.bancolombia.d2b.model.cache.FunctionalCacheOps;
+import co.com.bancolombia.router.configuredroute.ConfiguredRoute;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Decorates the route cache to report lookup hit/miss per channel and lookup latency to
+ * {@link RouteMetrics}. Saves, bulk ones included, are passed through untouched.
+ */
+public class InstrumentedRouteCacheOps extends ForwardingRouteCacheOps {
+
+    private final RouteMetrics metrics;
+
+    public InstrumentedRouteCacheOps(FunctionalCacheOps<ConfiguredRoute> delegate, RouteMetrics metrics) {
+        super(delegate);
+        this.metrics = metrics;
+    }
+
+    @Override
+    public Mono<ConfiguredRoute> getFromCache(String key) {
+        return Mono.defer(() -> {
+            var start = System.nanoTime();
+            return super.getFromCache(key)
+                    .doOnNext(route -> metrics.keyLookup(key, true, System.nanoTime() - start))
+                    .switchIfEmpty(Mono.fromRunnable(() -> metrics.keyLookup(key, false, System.nanoTime() - start)));
+        });
+    }
+
+    /**
+     * Reports every key of the batch as a hit or a miss, each with an equal share of the batch
+     * latency.
+     */
+    @Override
+    public Mono<Map<String, ConfiguredRoute>> findAll(Collection<String> keys) {
+        return Mono.defer(() -> {
+            var start = System.nanoTime();
+            return super.findAll(keys)
+                    .doOnNext(found -> {
+                        var share = (System.nanoTime() - start) / Math.max(keys.size(), 1);
+                        keys.forEach(key -> metrics.keyLookup(key, found.containsKey(key), share));
+                    });
+        });
+    }
+
+    @Override
+    ConfiguredRoute findIndexed(RouteLookup lookup, String channel, String transaction) {
+        var start = System.nanoTime();
+        var route = lookup.find(channel, transaction);
+        metrics.lookup(channel, route != null, System.nanoTime() - start);
+        return route;
+    }
+}
@@ -0,0 +1,99 @@
+package co.com.bancolombia.routes;
+
+import co.com.bancolombia.exceptions.TechnicalException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static co.com.bancolombia.exceptions.messages.TechnicalErrorMessage.JACKSON_MAPPER_ERROR;
+
+/**
+ * Serializes payloads with many masked fields without paying one KMS round trip per field. A first
+ * pass writes the payload with every {@link CachingMaskSerializer} in collecting mode, gathering
+ * the distinct values missing from the {@link MaskedValueCache}. Those are then resolved
+ * concurrently, at most {@code concurrency} at a time, which primes the cache, and a second pass
+ * writes the payload from cache. Payloads whose masked values are all cached take a single pass.
+ * <p>
+ * {@link #write(Object)} is the non-blocking form for reactive callers; {@link #writeValueAsString}
+ * waits for it and refuses to run on a non-blocking Reactor thread.
+ */
+public class MaskBatchWriter {
+
+    public static final String BLOCKING_WRITE_ON_NON_BLOCKING_THREAD =
+            "Blocking masked write on non-blocking thread, use write(payload) instead: ";
+
+    private final ObjectMapper objectMapper;
+    private final int concurrency;
+
+    public MaskBatchWriter(ObjectMapper objectMapper, int concurrency) {
+        this.objectMapper = objectMapper;
+        this.concurrency = Math.max(concurrency, 1);
+    }
+
+    /**
+     * @throws IllegalStateException when called on a non-blocking Reactor thread; use
+     *                               {@link #write(Object)} there
+     */
+    public String writeValueAsString(Object payload) {
+        if (Schedulers.isInNonBlockingThread()) {
+            throw new IllegalStateException(BLOCKING_WRITE_ON_NON_BLOCKING_THREAD + Thread.currentThread().getName());
+        }
+        return write(payload).block();
+    }
+
+    /**
+     * Writes {@code payload} without blocking the subscriber's thread: uncached values are masked
+     * on {@link Schedulers#boundedElastic()} and the second pass runs where the last of them completes.
+     */
+    public Mono<String> write(Object payload) {
+        return Mono.defer(() -> {
+            Map<String, Object> pending = new LinkedHashMap<>();
+            var collected = serialize(() -> objectMapper.writer()
+                    .withAttribute(CachingMaskSerializer.PENDING_VALUES, pending)
+                    .writeValueAsString(payload));
+            if (pending.isEmpty()) {
+                return Mono.just(collected);
+            }
+            return resolve(pending)
+                    .then(Mono.fromCallable(() -> serialize(() -> objectMapper.writeValueAsString(payload))));
+        });
+    }
+
+    /**
+     * Masks every pending value on its own, concurrently; each write goes through the caching
+     * serializer and leaves its output in the cache.
+     */
+    Mono<Void> resolve(Map<String, Object> pending) {
+        return Flux.fromIterable(pending.values())
+                .flatMap(value -> Mono.fromCallable(() -> {
+                    try (var buffer = new TokenBuffer(objectMapper, false)) {
+                        objectMapper.writeValue(buffer, value);
+                    }
+                    return value;
+                }).subscribeOn(Schedulers.boundedElastic()), concurrency)
+                .then();
+    }
+
+    private static String serialize(JsonWrite write) {
+        try {
+            return write.get();
+        } catch (IOException exception) {
+            throw new TechnicalException(exception, JACKSON_MAPPER_ERROR);
+        }
+    }
+
+    @FunctionalInterface
+    private interface JsonWrite {
+        String get() throws IOException;
+    }
+
+    public int concurrency() {
+        return concurrency;
+    }
+}
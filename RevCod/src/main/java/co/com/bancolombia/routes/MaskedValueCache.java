@@ -0,0 +1,130 @@
+package co.com.bancolombia.routes;
+
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+
+/**
+ * Bounded, expiring memo of KMS-backed mask/unmask output, keyed by {@link #key} of the serializer
+ * type and the plain value. Concurrent requests for the same key share a single KMS call: the first
+ * caller computes the entry while the others wait for it. Hit/miss statistics are recorded for sizing.
+ */
+public class MaskedValueCache {
+
+    /**
+     * Produces the serialized KMS output of one value; only invoked on a miss.
+     */
+    @FunctionalInterface
+    public interface Loader {
+        TokenBuffer load() throws IOException;
+    }
+
+    private static final String KEY_ALGORITHM = "HmacSHA256";
+
+    private final Cache<String, TokenBuffer> values;
+    private final long capacity;
+    private final ThreadLocal<Mac> keyMacs;
+
+    public MaskedValueCache(long capacity, Duration expireAfterWrite) {
+        this.capacity = capacity;
+        var builder = Caffeine.newBuilder().recordStats();
+        if (capacity > 0) {
+            builder.maximumSize(capacity);
+        }
+        if (expireAfterWrite != null && !expireAfterWrite.isZero() && !expireAfterWrite.isNegative()) {
+            builder.expireAfterWrite(expireAfterWrite);
+        }
+        this.values = builder.executor(Runnable::run).build();
+        var secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        var keySecret = new SecretKeySpec(secret, KEY_ALGORITHM);
+        this.keyMacs = ThreadLocal.withInitial(() -> keyMac(keySecret));
+    }
+
+    /**
+     * Cache key of a plain value: an HMAC of it under a secret generated for this cache, so the cache
+     * holds neither the plain value nor an unkeyed digest that could be matched against guesses.
+     *
+     * @param plainValue JSON form of the value; only read
+     */
+    public String key(Class<?> type, byte[] plainValue) {
+        var mac = keyMacs.get();
+        mac.update(type.getName().getBytes(StandardCharsets.UTF_8));
+        mac.update((byte) 0);
+        return Base64.getEncoder().withoutPadding().encodeToString(mac.doFinal(plainValue));
+    }
+
+    private static Mac keyMac(SecretKeySpec keySecret) {
+        try {
+            var mac = Mac.getInstance(KEY_ALGORITHM);
+            mac.init(keySecret);
+            return mac;
+        } catch (GeneralSecurityException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    public TokenBuffer get(String key, Loader loader) throws IOException {
+        try {
+            return values.get(key, ignored -> {
+                try {
+                    return loader.load();
+                } catch (IOException exception) {
+                    throw new UncheckedIOException(exception);
+                }
+            });
+        } catch (UncheckedIOException exception) {
+            throw exception.getCause();
+        }
+    }
+
+    public TokenBuffer getIfPresent(String key) {
+        return values.getIfPresent(key);
+    }
+
+    public void put(String key, TokenBuffer value) {
+        values.put(key, value);
+    }
+
+    /**
+     * @return configured capacity, or {@code -1} when unbounded
+     */
+    public long capacity() {
+        return capacity > 0 ? capacity : -1;
+    }
+
+    public long size() {
+        values.cleanUp();
+        return values.estimatedSize();
+    }
+
+    public long hitCount() {
+        return values.stats().hitCount();
+    }
+
+    public long missCount() {
+        return values.stats().missCount();
+    }
+
+    public CacheStats stats() {
+        return values.stats();
+    }
+
+    @Override
+    public String toString() {
+        var stats = values.stats();
+        return "capacity=" + capacity() + ", size=" + size() + ", hits=" + stats.hitCount()
+                + ", misses=" + stats.missCount() + ", loadFailures=" + stats.loadFailureCount();
+    }
+}
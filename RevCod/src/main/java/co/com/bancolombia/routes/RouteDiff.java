@@ -0,0 +1,73 @@
+package co.com.bancolombia.routes;
+
+import co.com.bancolombia.router.configuredroute.ConfiguredRoute;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Difference between two loads of the route catalog, keyed by the route cache key. Routes are
+ * compared with {@link ConfiguredRoute#equals(Object)}.
+ */
+public final class RouteDiff {
+
+    private final Map<String, ConfiguredRoute> added;
+    private final Map<String, ConfiguredRoute> changed;
+    private final Set<String> removed;
+
+    private RouteDiff(Map<String, ConfiguredRoute> added, Map<String, ConfiguredRoute> changed,
+                      Set<String> removed) {
+        this.added = Map.copyOf(added);
+        this.changed = Map.copyOf(changed);
+        this.removed = Set.copyOf(removed);
+    }
+
+    public static RouteDiff between(Map<String, ConfiguredRoute> previous, Map<String, ConfiguredRoute> current) {
+        Map<String, ConfiguredRoute> added = new HashMap<>();
+        Map<String, ConfiguredRoute> changed = new HashMap<>();
+        Set<String> removed = new HashSet<>(previous.keySet());
+        current.forEach((routeKey, route) -> {
+            var old = previous.get(routeKey);
+            if (old == null) {
+                added.put(routeKey, route);
+            } else if (!Objects.equals(old, route)) {
+                changed.put(routeKey, route);
+            }
+            removed.remove(routeKey);
+        });
+        return new RouteDiff(added, changed, removed);
+    }
+
+    public Map<String, ConfiguredRoute> getAdded() {
+        return added;
+    }
+
+    public Map<String, ConfiguredRoute> getChanged() {
+        return changed;
+    }
+
+    public Set<String> getRemoved() {
+        return removed;
+    }
+
+    /**
+     * Added and changed routes together, i.e. everything that has to be written to the cache.
+     */
+    public Map<String, ConfiguredRoute> upserts() {
+        Map<String, ConfiguredRoute> upserts = new HashMap<>(added);
+        upserts.putAll(changed);
+        return upserts;
+    }
+
+    public boolean isEmpty() {
+        return added.isEmpty() && changed.isEmpty() && removed.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "added=" + added.size() + ", changed=" + changed.size() + ", removed=" + removed.size();
+    }
+}
@@ -0,0 +1,287 @@
+package co.com.bancolombia.routes;
+
+import co.com.bancolombia.exceptions.TechnicalException;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.exc.StreamReadException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+import static co.com.bancolombia.exceptions.messages.TechnicalErrorMessage.JACKSON_MAPPER_ERROR;
+
+/**
+ * Reads a top-level routes array element by element for every way {@link RoutesConfig} loads it:
+ * eagerly, as a pull cursor behind a stream, or into elements bound later in parallel. Elements are
+ * framed either by one streaming parser over the whole source ({@link #strict}), which fails the
+ * read when the source ends before the array is closed, or by a {@link RouteElementScanner}
+ * ({@link #resilient}), which hands each element its own parser so a malformed one is rejected on its
+ * own and a truncated source keeps the elements before the cut. Either way every element goes
+ * through the same step: the {@link ElementBinder} reads it, and an element that does not come back
+ * as a value is reported as a {@link RouteRejection}. Only the element being read is held in memory.
+ * Not thread-safe.
+ *
+ * @param <T> what each element is bound to
+ */
+final class RouteElementReader<T> implements Closeable {
+
+    static final String TRAILING_TOKENS = "Unexpected content after the element";
+
+    private final Elements elements;
+    private final ElementBinder<T> binder;
+    private final Consumer<RouteRejection> rejected;
+    private int index = -1;
+
+    private RouteElementReader(Elements elements, ElementBinder<T> binder, Consumer<RouteRejection> rejected) {
+        this.elements = elements;
+        this.binder = binder;
+        this.rejected = rejected;
+    }
+
+    /**
+     * Reads the array through {@code parser}, which is closed with the reader.
+     */
+    static <T> RouteElementReader<T> strict(JsonParser parser, ElementBinder<T> binder,
+                                            Consumer<RouteRejection> rejected) {
+        return new RouteElementReader<>(new ParsedElements(parser), binder, rejected);
+    }
+
+    /**
+     * Reads the array from {@code input}, which is closed with the reader, parsing each element with
+     * a parser of {@code factory}.
+     */
+    static <T> RouteElementReader<T> resilient(InputStream input, JsonFactory factory, ElementBinder<T> binder,
+                                               Consumer<RouteRejection> rejected) {
+        return new RouteElementReader<>(new ScannedElements(new RouteElementScanner(input), factory), binder,
+                rejected);
+    }
+
+    /**
+     * @return the next element bound, or {@code null} once the array is exhausted
+     * @throws IllegalStateException when the source does not start with an array
+     * @throws IOException or {@link TechnicalException} when a strict source breaks between elements or
+     *                     ends before the array is closed
+     */
+    T next() throws IOException {
+        Element element;
+        while ((element = elements.next()) != null) {
+            index = element.index;
+            if (element.reason != null) {
+                reject(element, element.reason, element.detail);
+                continue;
+            }
+            try {
+                var value = binder.bind(element.parser);
+                elements.finish();
+                if (value != null) {
+                    return value;
+                }
+                reject(element, RouteRejection.Reason.INVALID_ROUTE, RoutesConfig.MISSING_ROUTE_FIELDS);
+            } catch (StreamReadException exception) {
+                elements.recover();
+                reject(element, RouteRejection.Reason.SYNTAX_ERROR, exception.getOriginalMessage());
+            } catch (JsonProcessingException exception) {
+                elements.recover();
+                reject(element, RouteRejection.Reason.MAPPING_ERROR, exception.getOriginalMessage());
+            } catch (TechnicalException exception) {
+                elements.recover();
+                reject(element, RouteRejection.Reason.MAPPING_ERROR, exception.getMessage());
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Array index of the element last read, or {@code -1} before the first one.
+     */
+    int index() {
+        return index;
+    }
+
+    private void reject(Element element, RouteRejection.Reason reason, String detail) {
+        rejected.accept(new RouteRejection(element.index, element.byteOffset, reason, detail));
+    }
+
+    @Override
+    public void close() throws IOException {
+        elements.close();
+    }
+
+    /**
+     * Reads one element from a parser positioned on its first token.
+     */
+    @FunctionalInterface
+    interface ElementBinder<T> {
+
+        /**
+         * Leaves {@code parser} on the last token of the element, also when it is not bound.
+         *
+         * @return the element bound, or {@code null} when it is not a route
+         * @throws TechnicalException or {@link JsonProcessingException} when the element cannot be bound
+         */
+        T bind(JsonParser parser) throws IOException;
+    }
+
+    /**
+     * Where the current element is: its position, and either the parser to bind it from or why it was
+     * rejected before binding.
+     */
+    private static final class Element {
+        private int index;
+        private long byteOffset;
+        private JsonParser parser;
+        private RouteRejection.Reason reason;
+        private String detail;
+
+        private Element at(int index, long byteOffset, JsonParser parser) {
+            this.index = index;
+            this.byteOffset = byteOffset;
+            this.parser = parser;
+            this.reason = null;
+            this.detail = null;
+            return this;
+        }
+
+        private Element rejected(int index, long byteOffset, RouteRejection.Reason reason, String detail) {
+            at(index, byteOffset, null);
+            this.reason = reason;
+            this.detail = detail;
+            return this;
+        }
+    }
+
+    private interface Elements extends Closeable {
+
+        /**
+         * @return the next element, or {@code null} once the array is exhausted
+         */
+        Element next() throws IOException;
+
+        /**
+         * Checks that nothing follows the element just bound.
+         */
+        void finish() throws IOException;
+
+        /**
+         * Moves past the rest of an element that failed to bind.
+         */
+        void recover() throws IOException;
+    }
+
+    private static final class ParsedElements implements Elements {
+        private final JsonParser parser;
+        private final Element element = new Element();
+        private JsonStreamContext array;
+        private int count;
+
+        private ParsedElements(JsonParser parser) {
+            this.parser = parser;
+        }
+
+        @Override
+        public Element next() throws IOException {
+            if (array == null) {
+                if (parser.nextToken() != JsonToken.START_ARRAY) {
+                    throw new IllegalStateException(RoutesConfig.EXPECTED_AN_ARRAY);
+                }
+                array = parser.getParsingContext();
+            }
+            var token = parser.nextToken();
+            if (token == JsonToken.END_ARRAY) {
+                return null;
+            }
+            if (token == null) {
+                throw new TechnicalException(JACKSON_MAPPER_ERROR);
+            }
+            return element.at(count++, parser.getTokenLocation().getByteOffset(), parser);
+        }
+
+        @Override
+        public void finish() {
+            // the binder leaves the parser on the element's last token
+        }
+
+        @Override
+        public void recover() throws IOException {
+            while (parser.getParsingContext() != array && parser.nextToken() != null) {
+                // skip the tokens left of the element
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            parser.close();
+        }
+    }
+
+    private static final class ScannedElements implements Elements {
+        private final RouteElementScanner scanner;
+        private final JsonFactory factory;
+        private final Element element = new Element();
+        private JsonParser parser;
+
+        private ScannedElements(RouteElementScanner scanner, JsonFactory factory) {
+            this.scanner = scanner;
+            this.factory = factory;
+        }
+
+        @Override
+        public Element next() throws IOException {
+            closeParser();
+            var scanned = scanner.next();
+            if (scanned == null) {
+                return null;
+            }
+            if (scanned.truncated) {
+                return element.rejected(scanned.index, scanned.byteOffset, RouteRejection.Reason.TRUNCATED,
+                        RoutesConfig.UNCLOSED_ARRAY);
+            }
+            if (scanned.brokenString) {
+                return element.rejected(scanned.index, scanned.byteOffset, RouteRejection.Reason.SYNTAX_ERROR,
+                        RoutesConfig.LINE_BREAK_IN_STRING);
+            }
+            parser = factory.createParser(scanned.bytes);
+            try {
+                parser.nextToken();
+            } catch (StreamReadException exception) {
+                return element.rejected(scanned.index, scanned.byteOffset, RouteRejection.Reason.SYNTAX_ERROR,
+                        exception.getOriginalMessage());
+            }
+            return element.at(scanned.index, scanned.byteOffset, parser);
+        }
+
+        @Override
+        public void finish() throws IOException {
+            if (parser.nextToken() != null) {
+                throw new JsonParseException(parser, TRAILING_TOKENS);
+            }
+        }
+
+        @Override
+        public void recover() {
+            // the next element gets a parser of its own
+        }
+
+        private void closeParser() throws IOException {
+            if (parser != null) {
+                parser.close();
+                parser = null;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                closeParser();
+            } finally {
+                scanner.close();
+            }
+        }
+    }
+}
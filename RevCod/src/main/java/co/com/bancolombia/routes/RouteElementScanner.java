@@ -0,0 +1,180 @@
+package co.com.bancolombia.routes;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+/**
+ * Splits a top-level JSON array into the raw bytes of its elements without parsing them, so a
+ * malformed element can be rejected on its own and scanning resumes at the next top-level comma.
+ * Only the open containers, string state and escapes are tracked. A raw line break inside a string
+ * (never valid JSON) ends the string, which keeps an unterminated string from swallowing the elements
+ * after it. Likewise a comma followed by an opening brace inside an object (never valid JSON, where a
+ * field name must follow) ends an element missing its closing brace, and scanning resumes with the
+ * next element at that brace. Only the element being scanned is held in memory. Not thread-safe;
+ * bytes are read through a private buffer rather than the synchronized per-byte reads of
+ * {@code BufferedInputStream}.
+ */
+final class RouteElementScanner implements Closeable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final InputStream input;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int position;
+    private int limit;
+    private byte[] element = new byte[256];
+    private int length;
+    private long offset;
+    private int index;
+    private byte[] containers = new byte[16];
+    private int pending = -1;
+    private boolean started;
+    private boolean finished;
+
+    RouteElementScanner(InputStream input) {
+        this.input = input;
+    }
+
+    /**
+     * @return the next element, or {@code null} once the array is closed or the input ends
+     * @throws IllegalStateException when the input does not start with an array
+     */
+    Element next() throws IOException {
+        if (!started) {
+            var first = skipWhitespace();
+            if (first == 0xEF && read() == 0xBB && read() == 0xBF) {
+                first = skipWhitespace();
+            }
+            if (first != '[') {
+                throw new IllegalStateException(RoutesConfig.EXPECTED_AN_ARRAY);
+            }
+            started = true;
+        }
+        if (finished) {
+            return null;
+        }
+        int b = skipWhitespace();
+        while (b == ',') {
+            b = skipWhitespace();
+        }
+        if (b == ']' || b < 0) {
+            finished = true;
+            return b < 0 ? new Element(index++, offset, new byte[0], true, false) : null;
+        }
+        var start = offset - 1;
+        length = 0;
+        int depth = 0;
+        boolean inString = false;
+        boolean escaped = false;
+        boolean brokenString = false;
+        while (true) {
+            if (inString) {
+                if (escaped) {
+                    escaped = false;
+                } else if (b == '\\') {
+                    escaped = true;
+                } else if (b == '"') {
+                    inString = false;
+                } else if (b == '\n' || b == '\r') {
+                    inString = false;
+                    brokenString = true;
+                }
+            } else if (b == '"') {
+                inString = true;
+            } else if (b == '{' || b == '[') {
+                if (depth == containers.length) {
+                    containers = Arrays.copyOf(containers, depth * 2);
+                }
+                containers[depth++] = (byte) b;
+            } else if (b == '}' || b == ']') {
+                if (depth == 0) {
+                    finished = b == ']';
+                    break;
+                }
+                depth--;
+            } else if (b == ',' && depth == 0) {
+                break;
+            } else if (b == ',' && containers[depth - 1] == '{') {
+                var following = skipWhitespace();
+                if (following == '{') {
+                    pending = following;
+                    break;
+                }
+                append(b);
+                b = following;
+                if (b < 0) {
+                    finished = true;
+                    return new Element(index++, start, Arrays.copyOf(element, length), true, brokenString);
+                }
+                continue;
+            }
+            append(b);
+            b = read();
+            if (b < 0) {
+                finished = true;
+                return new Element(index++, start, Arrays.copyOf(element, length), true, brokenString);
+            }
+        }
+        return new Element(index++, start, Arrays.copyOf(element, length), false, brokenString);
+    }
+
+    private int skipWhitespace() throws IOException {
+        int b;
+        do {
+            b = read();
+        } while (b == ' ' || b == '\n' || b == '\r' || b == '\t');
+        return b;
+    }
+
+    private void append(int b) {
+        if (length == element.length) {
+            element = Arrays.copyOf(element, length * 2);
+        }
+        element[length++] = (byte) b;
+    }
+
+    private int read() throws IOException {
+        if (pending >= 0) {
+            var b = pending;
+            pending = -1;
+            return b;
+        }
+        if (position == limit) {
+            limit = input.read(buffer, 0, BUFFER_SIZE);
+            position = 0;
+            if (limit <= 0) {
+                limit = 0;
+                return -1;
+            }
+        }
+        offset++;
+        return buffer[position++] & 0xFF;
+    }
+
+    @Override
+    public void close() throws IOException {
+        input.close();
+    }
+
+    /**
+     * Raw bytes of one array element with its position in the array and in the source.
+     */
+    static final class Element {
+
+        final int index;
+        final long byteOffset;
+        final byte[] bytes;
+        final boolean truncated;
+        final boolean brokenString;
+
+        private Element(int index, long byteOffset, byte[] bytes, boolean truncated, boolean brokenString) {
+            this.index = index;
+            this.byteOffset = byteOffset;
+            this.bytes = bytes;
+            this.truncated = truncated;
+            this.brokenString = brokenString;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package co.com.bancolombia.routes;
+
+import co.com.bancolombia.d2b.model.cache.FunctionalCacheOps;
+import co.com.bancolombia.exceptions.TechnicalException;
+import co.com.bancolombia.logging.technical.LoggerFactory;
+import co.com.bancolombia.logging.technical.logger.TechLogger;
+import co.com.bancolombia.router.configuredroute.ConfiguredRoute;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Re-reads the routes sources and applies only the routes that were added, changed or removed since
+ * the previous successful load. A file that cannot be parsed (for instance while it is still being
+ * written) is ignored and the cache keeps its current content until the file is valid again.
+ * Parsed routes go through the same validation pass as a full load, and every applied reload is
+ * handed to {@code reporter} like a full load report.
+ */
+public class RouteFileReloader {
+
+    private static final TechLogger techLogger = LoggerFactory.getLog(RouteFileReloader.class.getName());
+    public static final String ROUTES_FILE_NOT_READY = "Routes file {} is not valid yet, keeping current routes: {}";
+    public static final String ROUTES_RELOADED = "ROUTES RELOADED - {}";
+    public static final String ROUTES_NOT_EVICTED = "Cache does not support eviction, {} removed routes remain";
+
+    private final String location;
+    private final Function<RouteLoadSummary, List<ConfiguredRoute>> parser;
+    private final Function<List<ConfiguredRoute>, RouteValidator.Result> validator;
+    private final FunctionalCacheOps<ConfiguredRoute> cacheOps;
+    private final Consumer<RouteLoadReport> reporter;
+    private Map<String, ConfiguredRoute> loaded = Map.of();
+
+    /**
+     * @param location  the routes file, directory or glob, for logging
+     * @param parser    reads the sources, counting skipped and failed elements in the given summary
+     * @param validator drops invalid routes and deduplicates the rest by cache key
+     */
+    public RouteFileReloader(String location, Function<RouteLoadSummary, List<ConfiguredRoute>> parser,
+                             Function<List<ConfiguredRoute>, RouteValidator.Result> validator,
+                             FunctionalCacheOps<ConfiguredRoute> cacheOps, Consumer<RouteLoadReport> reporter) {
+        this.location = location;
+        this.parser = parser;
+        this.validator = validator;
+        this.cacheOps = cacheOps;
+        this.reporter = reporter;
+    }
+
+    /**
+     * @return {@code false} when the file could not be parsed and nothing was applied
+     */
+    public synchronized boolean reload() {
+        var start = System.nanoTime();
+        var summary = new RouteLoadSummary();
+        List<ConfiguredRoute> routes;
+        try {
+            routes = parser.apply(summary);
+        } catch (TechnicalException | IllegalStateException exception) {
+            techLogger.info(ROUTES_FILE_NOT_READY, location, exception.getMessage());
+            return false;
+        }
+        var validated = validator.apply(routes);
+        var current = validated.asMap();
+        var diff = RouteDiff.between(loaded, current);
+        if (!diff.isEmpty()) {
+            apply(diff);
+            techLogger.info(ROUTES_RELOADED, diff);
+        }
+        loaded = current;
+        if (ForwardingRouteCacheOps.unwrapped(cacheOps) instanceof FilteredRouteCacheOps filtered) {
+            filtered.rebuild(current.keySet());
+        }
+        validated.getRoutes().forEach(summary::loaded);
+        reporter.accept(summary.report(Duration.ofNanos(System.nanoTime() - start)));
+        return true;
+    }
+
+    private void apply(RouteDiff diff) {
+        if (cacheOps instanceof RouteRegistry registry) {
+            registry.apply(diff);
+            return;
+        }
+        BulkCacheOps.saveAll(cacheOps, diff.upserts()).block();
+        var target = ForwardingRouteCacheOps.unwrapped(cacheOps) instanceof FilteredRouteCacheOps filtered
+                ? filtered.delegate()
+                : cacheOps;
+        if (target instanceof EvictableCacheOps evictable) {
+            Flux.fromIterable(diff.getRemoved())
+                    .flatMap(evictable::evict)
+                    .then()
+                    .block();
+        } else if (!diff.getRemoved().isEmpty()) {
+            techLogger.info(ROUTES_NOT_EVICTED, diff.getRemoved().size());
+        }
+        if (target instanceof RouteLoadListener listener) {
+            listener.loadCompleted().block();
+        }
+    }
+
+    public synchronized Map<String, ConfiguredRoute> loaded() {
+        return loaded;
+    }
+}
@@ -0,0 +1,195 @@
+package co.com.bancolombia.routes;
+
+import co.com.bancolombia.logging.technical.LoggerFactory;
+import co.com.bancolombia.logging.technical.logger.TechLogger;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+
+/**
+ * Watches the routes file and runs a debounced callback once it stops changing. Uses a
+ * {@link WatchService} on the parent directory and falls back to polling size and modification
+ * time when the file system does not support watching (or when polling is forced).
+ * {@link #ofSources} watches every file a directory or glob {@code config-routes.file} resolves
+ * to, including files added or removed later; globs may span subdirectories, so they are polled.
+ */
+public class RouteFileWatcher implements Closeable {
+
+    private static final TechLogger techLogger = LoggerFactory.getLog(RouteFileWatcher.class.getName());
+    public static final String WATCH_SERVICE_UNAVAILABLE = "WatchService unavailable for {}, polling every {} ms";
+    public static final String ROUTES_FILE_CHANGE_FAILED = "Error handling routes file change: {}";
+    private static final String KUBERNETES_DATA_PREFIX = "..";
+
+    private final Path location;
+    private final Path directory;
+    private final Predicate<String> watchedName;
+    private final SourceSet sources;
+    private final Duration debounce;
+    private final Duration pollInterval;
+    private final Runnable onChange;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        var thread = new Thread(runnable, "routes-file-watcher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private ScheduledFuture<?> pending;
+    private WatchService watchService;
+    private String lastSeen;
+    private volatile boolean closed;
+
+    public RouteFileWatcher(Path file, Duration debounce, Duration pollInterval, Runnable onChange) {
+        this(file.toAbsolutePath(), file.toAbsolutePath().getParent(),
+                file.getFileName().toString()::equals, () -> List.of(file.toAbsolutePath()), debounce, pollInterval, onChange);
+    }
+
+    private RouteFileWatcher(Path location, Path directory, Predicate<String> watchedName,
+                             SourceSet sources, Duration debounce, Duration pollInterval,
+                             Runnable onChange) {
+        this.location = location;
+        this.directory = directory;
+        this.watchedName = watchedName;
+        this.sources = sources;
+        this.debounce = debounce;
+        this.pollInterval = pollInterval;
+        this.onChange = onChange;
+    }
+
+    /**
+     * Watches the file, directory or glob {@code location} as {@link RouteSources#resolve} reads it.
+     */
+    @SuppressWarnings("findsecbugs:PATH_TRAVERSAL_IN")
+    public static RouteFileWatcher ofSources(String location, Duration debounce, Duration pollInterval,
+                                             Runnable onChange) {
+        if (!RouteSources.isMultiple(location)) {
+            return new RouteFileWatcher(Path.of(location), debounce, pollInterval, onChange);
+        }
+        SourceSet sources = () -> RouteSources.resolve(location);
+        if (RouteSources.isGlob(location)) {
+            return new RouteFileWatcher(Path.of(location), null, name -> false, sources, debounce, pollInterval,
+                    onChange);
+        }
+        return new RouteFileWatcher(Path.of(location).toAbsolutePath(), Path.of(location).toAbsolutePath(),
+                name -> name.endsWith(RouteSources.JSON_EXTENSION), sources, debounce, pollInterval, onChange);
+    }
+
+    public RouteFileWatcher start(boolean forcePolling) {
+        lastSeen = fingerprint();
+        if (!forcePolling && directory != null) {
+            try {
+                startWatchService();
+                return this;
+            } catch (IOException | UnsupportedOperationException exception) {
+                techLogger.info(WATCH_SERVICE_UNAVAILABLE, location, pollInterval.toMillis());
+            }
+        } else if (directory == null) {
+            techLogger.info(WATCH_SERVICE_UNAVAILABLE, location, pollInterval.toMillis());
+        }
+        scheduler.scheduleWithFixedDelay(this::poll, pollInterval.toMillis(), pollInterval.toMillis(),
+                TimeUnit.MILLISECONDS);
+        return this;
+    }
+
+    private void startWatchService() throws IOException {
+        watchService = directory.getFileSystem().newWatchService();
+        directory.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+        var thread = new Thread(this::watch, "routes-file-watch-service");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void watch() {
+        try {
+            while (!closed) {
+                WatchKey watchKey = watchService.take();
+                for (WatchEvent<?> event : watchKey.pollEvents()) {
+                    var changed = String.valueOf(event.context());
+                    // Kubernetes ConfigMap volumes swap a "..data" symlink instead of touching the file
+                    if (watchedName.test(changed) || changed.startsWith(KUBERNETES_DATA_PREFIX)) {
+                        changed();
+                    }
+                }
+                watchKey.reset();
+            }
+        } catch (ClosedWatchServiceException exception) {
+            closed = true;
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    void poll() {
+        var current = fingerprint();
+        if (!current.equals(lastSeen)) {
+            lastSeen = current;
+            changed();
+        }
+    }
+
+    /**
+     * Path, modification time and size of every watched file, so added and removed files count too.
+     */
+    private String fingerprint() {
+        var fingerprint = new StringBuilder();
+        try {
+            for (Path source : sources.resolve()) {
+                var attributes = Files.readAttributes(source, BasicFileAttributes.class);
+                fingerprint.append(source).append('=').append(attributes.lastModifiedTime())
+                        .append('/').append(attributes.size()).append(';');
+            }
+        } catch (IOException exception) {
+            return "";
+        }
+        return fingerprint.toString();
+    }
+
+    synchronized void changed() {
+        if (closed) {
+            return;
+        }
+        if (pending != null) {
+            pending.cancel(false);
+        }
+        pending = scheduler.schedule(this::fire, debounce.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private void fire() {
+        try {
+            onChange.run();
+        } catch (RuntimeException exception) {
+            techLogger.info(ROUTES_FILE_CHANGE_FAILED, exception.getMessage());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        scheduler.shutdownNow();
+        if (watchService != null) {
+            watchService.close();
+        }
+    }
+
+    @FunctionalInterface
+    private interface SourceSet {
+        List<Path> resolve() throws IOException;
+    }
+}
@@ -0,0 +1,152 @@
+package co.com.bancolombia.routes;
+
+import co.com.bancolombia.router.configuredroute.ConfiguredRoute;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Immutable per-channel route index built once per load. Besides exact transaction codes, a route
+ * may declare a prefix transaction ending in {@value #WILDCARD} (e.g. {@code 95*}) or the bare
+ * {@value #WILDCARD} as the default route of its channel. Resolution picks the most specific
+ * route: the exact code, else the longest matching prefix, else the channel default. Prefixes are
+ * compiled into a per-channel trie, so resolution costs O(transaction length) and never scans the
+ * route list.
+ */
+public final class RouteIndex implements RouteLookup {
+
+    public static final char WILDCARD = '*';
+    static final RouteIndex EMPTY = new RouteIndex(Map.of());
+
+    private final Map<String, Channel> channels;
+
+    private RouteIndex(Map<String, Channel> channels) {
+        this.channels = channels;
+    }
+
+    public static RouteIndex of(Collection<ConfiguredRoute> routes) {
+        Map<String, Channel> channels = new HashMap<>();
+        routes.forEach(route -> {
+            if (route.getChannel() != null && route.getTransaction() != null) {
+                channels.computeIfAbsent(route.getChannel(), channel -> new Channel()).add(route);
+            }
+        });
+        channels.values().forEach(Channel::seal);
+        return new RouteIndex(Collections.unmodifiableMap(channels));
+    }
+
+    public static boolean isPattern(String transaction) {
+        return transaction != null && !transaction.isEmpty()
+                && transaction.charAt(transaction.length() - 1) == WILDCARD;
+    }
+
+    @Override
+    public ConfiguredRoute find(String channel, String transaction) {
+        if (channel == null || transaction == null) {
+            return null;
+        }
+        var index = channels.get(channel);
+        return index == null ? null : index.find(transaction);
+    }
+
+    /**
+     * Exact-code lookup only, ignoring prefix and default routes.
+     */
+    public ConfiguredRoute findExact(String channel, String transaction) {
+        if (channel == null || transaction == null) {
+            return null;
+        }
+        var index = channels.get(channel);
+        return index == null ? null : index.exact.get(transaction);
+    }
+
+    /**
+     * @return whether any route of any channel is a prefix or default route
+     */
+    public boolean hasPatterns() {
+        return channels.values().stream().anyMatch(channel -> channel.patterns > 0);
+    }
+
+    private static final class Channel {
+        private Map<String, ConfiguredRoute> exact = new HashMap<>();
+        private final Node prefixes = new Node();
+        private int patterns;
+
+        private void add(ConfiguredRoute route) {
+            var transaction = route.getTransaction();
+            if (isPattern(transaction)) {
+                prefixes.insert(transaction, transaction.length() - 1, route);
+                patterns++;
+            } else {
+                exact.put(transaction, route);
+            }
+        }
+
+        private void seal() {
+            exact = Collections.unmodifiableMap(exact);
+        }
+
+        private ConfiguredRoute find(String transaction) {
+            var route = exact.get(transaction);
+            return route != null || patterns == 0 ? route : prefixes.longestPrefix(transaction);
+        }
+    }
+
+    /**
+     * Trie node over transaction characters; children are kept sorted for binary search.
+     */
+    private static final class Node {
+        private char[] labels = new char[0];
+        private Node[] children = new Node[0];
+        private ConfiguredRoute route;
+
+        private void insert(String prefix, int length, ConfiguredRoute prefixRoute) {
+            var node = this;
+            for (int i = 0; i < length; i++) {
+                node = node.childOrAdd(prefix.charAt(i));
+            }
+            node.route = prefixRoute;
+        }
+
+        private Node childOrAdd(char label) {
+            var position = Arrays.binarySearch(labels, label);
+            if (position >= 0) {
+                return children[position];
+            }
+            var insertion = -position - 1;
+            var child = new Node();
+            labels = insert(labels, insertion, label);
+            var grown = Arrays.copyOf(children, children.length + 1);
+            System.arraycopy(children, insertion, grown, insertion + 1, children.length - insertion);
+            grown[insertion] = child;
+            children = grown;
+            return child;
+        }
+
+        private static char[] insert(char[] values, int position, char value) {
+            var grown = Arrays.copyOf(values, values.length + 1);
+            System.arraycopy(values, position, grown, position + 1, values.length - position);
+            grown[position] = value;
+            return grown;
+        }
+
+        private ConfiguredRoute longestPrefix(String transaction) {
+            var node = this;
+            var best = route;
+            for (int i = 0; i < transaction.length(); i++) {
+                var position = Arrays.binarySearch(node.labels, transaction.charAt(i));
+                if (position < 0) {
+                    break;
+                }
+                node = node.children[position];
+                if (node.route != null) {
+                    best = node.route;
+                }
+            }
+            return best;
+        }
+    }
+}
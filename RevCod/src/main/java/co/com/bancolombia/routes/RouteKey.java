@@ -0,0 +1,45 @@
+package co.com.bancolombia.routes;
+
+import co.com.bancolombia.router.configuredroute.ConfiguredRoute;
+
+/**
+ * Builds the {@code channel-transaction} cache key with a single concatenation instead of
+ * {@code String.format}, which parses its pattern on every call.
+ */
+public final class RouteKey {
+
+    public static final char SEPARATOR = '-';
+
+    private RouteKey() {
+    }
+
+    public static String of(String channel, String transaction) {
+        return channel + SEPARATOR + transaction;
+    }
+
+    public static String of(ConfiguredRoute route) {
+        return of(route.getChannel(), route.getTransaction());
+    }
+
+    /**
+     * @return {@code of(channel, transaction).hashCode()}, computed from the hash codes the parts
+     * already cache instead of building the key
+     */
+    public static int hash(String channel, String transaction) {
+        var suffix = String.valueOf(transaction);
+        var prefix = 31 * String.valueOf(channel).hashCode() + SEPARATOR;
+        return prefix * power31(suffix.length()) + suffix.hashCode();
+    }
+
+    private static int power31(int exponent) {
+        var result = 1;
+        var base = 31;
+        for (var remaining = exponent; remaining > 0; remaining >>>= 1) {
+            if ((remaining & 1) != 0) {
+                result *= base;
+            }
+            base *= base;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,117 @@
+package co.com.bancolombia.routes;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bloom filter over route cache keys. {@link #mightContain} never answers {@code false} for an
+ * added key, so a negative answer proves the route does not exist; a positive answer is wrong with
+ * roughly the false-positive probability the filter was sized for. All the bits of one key fall in
+ * a single 512-bit block, so a query touches one cache line whatever the number of hashes. Adding
+ * is lock-free and safe while other threads query.
+ */
+public final class RouteKeyFilter {
+
+    static final double DEFAULT_FALSE_POSITIVE_RATE = 0.01;
+    private static final int MAX_HASHES = 16;
+    private static final int BLOCK_WORDS = 8;
+    private static final int BLOCK_BITS = BLOCK_WORDS * Long.SIZE;
+
+    private final AtomicLongArray bits;
+    private final int blocks;
+    private final long bitSize;
+    private final int hashes;
+    private final LongAdder keys = new LongAdder();
+
+    public RouteKeyFilter(long expectedKeys, double falsePositiveRate) {
+        var expected = Math.max(expectedKeys, 1);
+        var rate = falsePositiveRate > 0 && falsePositiveRate < 1 ? falsePositiveRate : DEFAULT_FALSE_POSITIVE_RATE;
+        var size = (long) Math.ceil(-expected * Math.log(rate) / (Math.log(2) * Math.log(2)));
+        this.blocks = (int) Math.max(1, Math.min((size + BLOCK_BITS - 1) / BLOCK_BITS, Integer.MAX_VALUE / BLOCK_WORDS));
+        this.bits = new AtomicLongArray(blocks * BLOCK_WORDS);
+        this.bitSize = (long) blocks * BLOCK_BITS;
+        this.hashes = (int) Math.max(1, Math.min(MAX_HASHES, Math.round((double) bitSize / expected * Math.log(2))));
+    }
+
+    public static RouteKeyFilter of(Collection<String> routeKeys, double falsePositiveRate) {
+        var filter = new RouteKeyFilter(routeKeys.size(), falsePositiveRate);
+        routeKeys.forEach(filter::add);
+        return filter;
+    }
+
+    public void add(String routeKey) {
+        var hash = mix(routeKey.hashCode());
+        var block = block(hash);
+        var second = (int) (hash >>> 32) | 1;
+        for (int i = 0; i < hashes; i++) {
+            var bit = (i * second + (second >>> 16)) & (BLOCK_BITS - 1);
+            var word = block + (bit >>> 6);
+            var mask = 1L << bit;
+            var current = bits.get(word);
+            while ((current & mask) == 0 && !bits.weakCompareAndSetVolatile(word, current, current | mask)) {
+                current = bits.get(word);
+            }
+        }
+        keys.increment();
+    }
+
+    public boolean mightContain(String routeKey) {
+        return mightContain(routeKey.hashCode());
+    }
+
+    /**
+     * Same answer as {@code mightContain(RouteKey.of(channel, transaction))}, without building the key.
+     */
+    public boolean mightContain(String channel, String transaction) {
+        return mightContain(RouteKey.hash(channel, transaction));
+    }
+
+    private boolean mightContain(int keyHash) {
+        var hash = mix(keyHash);
+        var block = block(hash);
+        var second = (int) (hash >>> 32) | 1;
+        for (int i = 0; i < hashes; i++) {
+            var bit = (i * second + (second >>> 16)) & (BLOCK_BITS - 1);
+            if ((bits.get(block + (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int block(long hash) {
+        return (int) (((hash & 0xffffffffL) * blocks) >>> 32) * BLOCK_WORDS;
+    }
+
+    /**
+     * Spreads the cached {@link String#hashCode()} to 64 bits, so a query does not read the key's
+     * characters again. Keys sharing a hash code only add false positives, never false negatives.
+     */
+    private static long mix(int keyHash) {
+        var hash = keyHash * 0x9e3779b97f4a7c15L;
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        return hash ^ (hash >>> 33);
+    }
+
+    public long bitSize() {
+        return bitSize;
+    }
+
+    public int hashes() {
+        return hashes;
+    }
+
+    /**
+     * @return number of {@link #add} calls, counting repeated keys each time
+     */
+    public long keys() {
+        return keys.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "bits=" + bitSize + ", hashes=" + hashes + ", keys=" + keys();
+    }
+}
@@ -0,0 +1,14 @@
+package co.com.bancolombia.routes;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Route caches that keep state derived from a whole load (a key filter, a published catalog
+ * version), told when a full load starts and once every route of it has been saved.
+ */
+interface RouteLoadListener {
+
+    void loadStarted();
+
+    Mono<Void> loadCompleted();
+}
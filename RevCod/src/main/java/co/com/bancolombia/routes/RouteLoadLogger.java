@@ -0,0 +1,82 @@
+package co.com.bancolombia.routes;
+
+import co.com.bancolombia.logging.technical.logger.TechLogger;
+import co.com.bancolombia.router.configuredroute.ConfiguredRoute;
+
+import java.io.Closeable;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Optional per-route detail for summary logging: one in every {@code sampleRate} loaded routes is
+ * handed to a bounded queue drained by a single background thread. Offering never blocks the
+ * loader; when the queue is full the line is dropped and counted.
+ */
+public class RouteLoadLogger implements Closeable {
+
+    private final TechLogger logger;
+    private final int sampleRate;
+    private final BlockingQueue<String> queue;
+    private final AtomicLong seen = new AtomicLong();
+    private final LongAdder dropped = new LongAdder();
+    private Thread drainer;
+    private volatile boolean closed;
+
+    public RouteLoadLogger(TechLogger logger, int sampleRate, int queueCapacity) {
+        this.logger = logger;
+        this.sampleRate = sampleRate;
+        this.queue = new ArrayBlockingQueue<>(Math.max(queueCapacity, 1));
+    }
+
+    public void routeLoaded(ConfiguredRoute route) {
+        if (sampleRate <= 0 || seen.getAndIncrement() % sampleRate != 0) {
+            return;
+        }
+        startDrainer();
+        if (!queue.offer(RoutesConfig.ROUTE_LOADED + RouteKey.of(route))) {
+            dropped.increment();
+        }
+    }
+
+    private synchronized void startDrainer() {
+        if (drainer != null || closed) {
+            return;
+        }
+        drainer = new Thread(this::drain, "routes-load-logger");
+        drainer.setDaemon(true);
+        drainer.start();
+    }
+
+    private void drain() {
+        try {
+            while (!closed) {
+                logger.info(queue.take());
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        } finally {
+            String line;
+            while ((line = queue.poll()) != null) {
+                logger.info(line);
+            }
+        }
+    }
+
+    public long dropped() {
+        return dropped.sum();
+    }
+
+    public int pending() {
+        return queue.size();
+    }
+
+    @Override
+    public synchronized void close() {
+        closed = true;
+        if (drainer != null) {
+            drainer.interrupt();
+        }
+    }
+}
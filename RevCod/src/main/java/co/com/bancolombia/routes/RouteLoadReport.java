@@ -0,0 +1,75 @@
+package co.com.bancolombia.routes;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Outcome of a route load: how many routes reached the cache, how many array elements were skipped
+ * for missing {@code channel}/{@code transaction}, how many failed to read or map, and how long the
+ * whole load took. Loads that track detail also carry loaded routes per channel and the array
+ * indices of the rejected elements.
+ */
+public final class RouteLoadReport {
+
+    private final long loaded;
+    private final long skipped;
+    private final long failed;
+    private final Duration duration;
+    private final Map<String, Long> routesPerChannel;
+    private final List<Integer> skippedIndices;
+    private final List<Integer> failedIndices;
+
+    public RouteLoadReport(long loaded, long skipped, long failed, Duration duration) {
+        this(loaded, skipped, failed, duration, Map.of(), List.of(), List.of());
+    }
+
+    public RouteLoadReport(long loaded, long skipped, long failed, Duration duration,
+                           Map<String, Long> routesPerChannel, List<Integer> skippedIndices,
+                           List<Integer> failedIndices) {
+        this.loaded = loaded;
+        this.skipped = skipped;
+        this.failed = failed;
+        this.duration = duration;
+        this.routesPerChannel = routesPerChannel;
+        this.skippedIndices = skippedIndices;
+        this.failedIndices = failedIndices;
+    }
+
+    public long getLoaded() {
+        return loaded;
+    }
+
+    public long getSkipped() {
+        return skipped;
+    }
+
+    public long getFailed() {
+        return failed;
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+
+    public Map<String, Long> getRoutesPerChannel() {
+        return routesPerChannel;
+    }
+
+    public List<Integer> getSkippedIndices() {
+        return skippedIndices;
+    }
+
+    public List<Integer> getFailedIndices() {
+        return failedIndices;
+    }
+
+    @Override
+    public String toString() {
+        return "loaded=" + loaded + ", skipped=" + skipped + ", failed=" + failed
+                + ", duration=" + duration.toMillis() + "ms"
+                + ", channels=" + routesPerChannel
+                + ", skippedIndices=" + skippedIndices
+                + ", failedIndices=" + failedIndices;
+    }
+}
@@ -0,0 +1,44 @@
+package co.com.bancolombia.routes;
+
+import co.com.bancolombia.router.configuredroute.ConfiguredRoute;
+
+import java.util.List;
+
+/**
+ * Routes read from a source together with every array element that was rejected on the way, so a
+ * bad element costs only itself instead of the whole catalog.
+ */
+public final class RouteLoadResult {
+
+    private static final int MAX_LOGGED_REJECTIONS = 20;
+
+    private final List<ConfiguredRoute> routes;
+    private final List<RouteRejection> rejections;
+
+    public RouteLoadResult(List<ConfiguredRoute> routes, List<RouteRejection> rejections) {
+        this.routes = routes;
+        this.rejections = rejections;
+    }
+
+    public List<ConfiguredRoute> getRoutes() {
+        return routes;
+    }
+
+    public List<RouteRejection> getRejections() {
+        return rejections;
+    }
+
+    /**
+     * @return {@code false} when the source ended before the routes array was closed
+     */
+    public boolean isComplete() {
+        return rejections.stream().noneMatch(rejection -> rejection.getReason() == RouteRejection.Reason.TRUNCATED);
+    }
+
+    @Override
+    public String toString() {
+        var logged = rejections.size() > MAX_LOGGED_REJECTIONS ? rejections.subList(0, MAX_LOGGED_REJECTIONS) : rejections;
+        return "routes=" + routes.size() + ", rejected=" + rejections.size() + ", rejections=" + logged
+                + (logged.size() < rejections.size() ? "..." : "");
+    }
+}
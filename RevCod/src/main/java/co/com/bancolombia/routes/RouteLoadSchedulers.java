@@ -0,0 +1,80 @@
+package co.com.bancolombia.routes;
+
+import co.com.bancolombia.logging.technical.LoggerFactory;
+import co.com.bancolombia.logging.technical.logger.TechLogger;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Schedulers for the blocking part of a route load: reading route files and calling the blocking
+ * {@code Mapper}. Virtual threads are looked up reflectively, so the same build runs on JDK 17,
+ * where the virtual-thread mode falls back to {@link Schedulers#boundedElastic()}.
+ */
+public final class RouteLoadSchedulers {
+
+    private static final TechLogger techLogger = LoggerFactory.getLog(RouteLoadSchedulers.class.getName());
+    public static final String CALLER_EXECUTION = "caller";
+    public static final String BOUNDED_ELASTIC_EXECUTION = "bounded-elastic";
+    public static final String VIRTUAL_THREAD_EXECUTION = "virtual-threads";
+    public static final String VIRTUAL_THREADS_UNAVAILABLE =
+            "Virtual threads are not available on this JVM, loading routes on boundedElastic";
+
+    private static final AtomicBoolean FALLBACK_LOGGED = new AtomicBoolean();
+
+    private RouteLoadSchedulers() {
+    }
+
+    /**
+     * @return scheduler the load subscribes on: the calling thread for {@value #CALLER_EXECUTION},
+     *         otherwise {@link #offload(String)}, which an unset mode also gets, matching the
+     *         {@value #BOUNDED_ELASTIC_EXECUTION} default of {@code config-routes.load.execution}
+     */
+    public static Scheduler of(String mode) {
+        if (CALLER_EXECUTION.equalsIgnoreCase(mode)) {
+            return Schedulers.immediate();
+        }
+        return offload(mode);
+    }
+
+    /**
+     * @return one virtual thread per task for {@value #VIRTUAL_THREAD_EXECUTION} when the JVM has
+     *         them, {@link Schedulers#boundedElastic()} otherwise
+     */
+    public static Scheduler offload(String mode) {
+        if (VIRTUAL_THREAD_EXECUTION.equalsIgnoreCase(mode)) {
+            if (VirtualThreads.SCHEDULER != null) {
+                return VirtualThreads.SCHEDULER;
+            }
+            if (FALLBACK_LOGGED.compareAndSet(false, true)) {
+                techLogger.info(VIRTUAL_THREADS_UNAVAILABLE);
+            }
+        }
+        return Schedulers.boundedElastic();
+    }
+
+    public static boolean virtualThreadsAvailable() {
+        return VirtualThreads.SCHEDULER != null;
+    }
+
+    /**
+     * Holder creating the shared virtual-thread scheduler on first use.
+     */
+    private static final class VirtualThreads {
+
+        private static final Scheduler SCHEDULER = create();
+
+        private static Scheduler create() {
+            try {
+                var executor = (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor")
+                        .invoke(null);
+                return Schedulers.fromExecutorService(executor, "routes-virtual");
+            } catch (ReflectiveOperationException | LinkageError exception) {
+                return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package co.com.bancolombia.routes;
+
+import co.com.bancolombia.router.configuredroute.ConfiguredRoute;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Collects the outcome of a single load as it runs, so the load can be reported as one record
+ * instead of a log line per route. Only the first {@value #MAX_INDICES} rejected indices of each
+ * kind are kept; the counters are always exact.
+ */
+public final class RouteLoadSummary {
+
+    static final int MAX_INDICES = 100;
+    private static final String UNKNOWN_CHANNEL = "unknown";
+
+    private final Map<String, Long> routesPerChannel = new TreeMap<>();
+    private final List<Integer> skippedIndices = new ArrayList<>();
+    private final List<Integer> failedIndices = new ArrayList<>();
+    private long loaded;
+    private long skipped;
+    private long failed;
+
+    public synchronized void loaded(ConfiguredRoute route) {
+        loaded++;
+        routesPerChannel.merge(route.getChannel() == null ? UNKNOWN_CHANNEL : route.getChannel(), 1L, Long::sum);
+    }
+
+    public synchronized void skipped(int index) {
+        skipped++;
+        if (skippedIndices.size() < MAX_INDICES) {
+            skippedIndices.add(index);
+        }
+    }
+
+    public synchronized void failed(int index) {
+        failed++;
+        if (failedIndices.size() < MAX_INDICES) {
+            failedIndices.add(index);
+        }
+    }
+
+    /**
+     * Forgets everything recorded so far, e.g. when a load falls back to another source.
+     */
+    public synchronized void clear() {
+        routesPerChannel.clear();
+        skippedIndices.clear();
+        failedIndices.clear();
+        loaded = 0;
+        skipped = 0;
+        failed = 0;
+    }
+
+    public synchronized RouteLoadReport report(Duration duration) {
+        return new RouteLoadReport(loaded, skipped, failed, duration, Map.copyOf(routesPerChannel),
+                List.copyOf(skippedIndices), List.copyOf(failedIndices));
+    }
+}
@@ -0,0 +1,16 @@
+package co.com.bancolombia.routes;
+
+import co.com.bancolombia.router.configuredroute.ConfiguredRoute;
+
+/**
+ * Route resolution by channel and transaction. Implementations index routes per channel, so a
+ * lookup never builds the composite {@code channel-transaction} key. {@link RouteIndex} based
+ * implementations also resolve prefix ({@code 95*}) and channel default ({@code *}) routes.
+ */
+public interface RouteLookup {
+
+    /**
+     * @return the configured route, or {@code null} when there is none
+     */
+    ConfiguredRoute find(String channel, String transaction);
+}
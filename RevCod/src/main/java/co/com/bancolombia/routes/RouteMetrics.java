@@ -0,0 +1,71 @@
+package co.com.bancolombia.routes;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.function.LongSupplier;
+
+/**
+ * Instrumentation surface of the route subsystem. Every callback defaults to a no-op, so
+ * {@link #NOOP} costs nothing on the lookup path and adapters (e.g. to a Micrometer registry)
+ * only override what they export.
+ */
+public interface RouteMetrics {
+
+    RouteMetrics NOOP = new RouteMetrics() {
+    };
+
+    /**
+     * An array element was dropped for missing {@code channel}/{@code transaction}.
+     */
+    default void nodeSkipped() {
+    }
+
+    /**
+     * An array element could not be read or mapped.
+     */
+    default void nodeFailed() {
+    }
+
+    default void loadCompleted(long routes, Duration duration) {
+    }
+
+    /**
+     * An asynchronous load failed; {@link #loadCompleted} is not called for it.
+     */
+    default void loadFailed(Throwable error) {
+    }
+
+    /**
+     * Channels of the catalog just loaded, the only ones lookups are counted under; lookups of any
+     * other channel are counted together, so callers cannot grow per-channel state at will.
+     */
+    default void channelsLoaded(Collection<String> channels) {
+    }
+
+    /**
+     * Gauges of a sized route cache, registered once when it is created and read whenever the
+     * metrics are exported.
+     *
+     * @param capacity maximum number of routes, or {@code -1} when unbounded
+     */
+    default void cacheGauges(LongSupplier capacity, LongSupplier size) {
+    }
+
+    /**
+     * A sized route cache dropped a route for capacity or expiry, not for an explicit eviction.
+     */
+    default void routeEvicted() {
+    }
+
+    default void lookup(String channel, boolean hit, long nanos) {
+    }
+
+    /**
+     * A lookup by {@code channel-transaction} key. Splits the key and reports it to
+     * {@link #lookup}; adapters that can match the channel in place override it to skip the split.
+     */
+    default void keyLookup(String routeKey, boolean hit, long nanos) {
+        var separator = routeKey.indexOf(RouteKey.SEPARATOR);
+        lookup(separator < 0 ? routeKey : routeKey.substring(0, separator), hit, nanos);
+    }
+}
@@ -0,0 +1,257 @@
+package co.com.bancolombia.routes;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * In-process {@link RouteMetrics} built on striped {@link LongAdder} counters and a
+ * {@link LatencyHistogram}, so recording a lookup is a few uncontended increments. Per-channel
+ * counters exist only for the channels of loaded catalogs and are found by hash: channel lookups go
+ * through a concurrent map, and key lookups hash the key prefix up to each separator in place and
+ * probe an open-addressing table, so no lookup allocates. Lookups of any other channel are counted
+ * under {@value #UNKNOWN_CHANNEL}.
+ */
+public class RouteMetricsRecorder implements RouteMetrics {
+
+    public static final String UNKNOWN_CHANNEL = "unknown";
+
+    private final LongAdder skipped = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder loadFailures = new LongAdder();
+    private final ChannelCounters unknown = new ChannelCounters(UNKNOWN_CHANNEL);
+    private final Map<String, ChannelCounters> byChannel = new ConcurrentHashMap<>();
+    private volatile ChannelCounters[] channels = new ChannelCounters[0];
+    private volatile ChannelCounters[] prefixes = prefixTable(channels);
+    private final LatencyHistogram lookupLatency = new LatencyHistogram();
+    private volatile long lastLoadedRoutes;
+    private volatile Duration lastLoadDuration = Duration.ZERO;
+    private final LongAdder cacheEvictions = new LongAdder();
+    private volatile LongSupplier cacheCapacity = () -> 0;
+    private volatile LongSupplier cacheSize = () -> 0;
+
+    @Override
+    public void nodeSkipped() {
+        skipped.increment();
+    }
+
+    @Override
+    public void nodeFailed() {
+        failed.increment();
+    }
+
+    @Override
+    public void loadCompleted(long routes, Duration duration) {
+        loads.increment();
+        lastLoadedRoutes = routes;
+        lastLoadDuration = duration;
+    }
+
+    @Override
+    public void loadFailed(Throwable error) {
+        loadFailures.increment();
+    }
+
+    @Override
+    public void cacheGauges(LongSupplier capacity, LongSupplier size) {
+        cacheCapacity = capacity;
+        cacheSize = size;
+    }
+
+    @Override
+    public void routeEvicted() {
+        cacheEvictions.increment();
+    }
+
+    @Override
+    public synchronized void channelsLoaded(Collection<String> loaded) {
+        List<ChannelCounters> grown = new ArrayList<>(Arrays.asList(channels));
+        for (var channel : loaded) {
+            if (channel != null && !byChannel.containsKey(channel)) {
+                grown.add(byChannel.computeIfAbsent(channel, ChannelCounters::new));
+            }
+        }
+        if (grown.size() > channels.length) {
+            channels = grown.toArray(new ChannelCounters[0]);
+            prefixes = prefixTable(channels);
+        }
+    }
+
+    @Override
+    public void lookup(String channel, boolean hit, long nanos) {
+        var counters = channel == null ? null : byChannel.get(channel);
+        record(counters == null ? unknown : counters, hit, nanos);
+    }
+
+    @Override
+    public void keyLookup(String routeKey, boolean hit, long nanos) {
+        var counters = routeKey == null ? null : prefixOf(routeKey);
+        record(counters == null ? unknown : counters, hit, nanos);
+    }
+
+    private void record(ChannelCounters counters, boolean hit, long nanos) {
+        (hit ? counters.hits : counters.misses).increment();
+        lookupLatency.record(nanos);
+    }
+
+    public long skippedNodes() {
+        return skipped.sum();
+    }
+
+    public long failedNodes() {
+        return failed.sum();
+    }
+
+    public long loads() {
+        return loads.sum();
+    }
+
+    public long loadFailures() {
+        return loadFailures.sum();
+    }
+
+    public long lastLoadedRoutes() {
+        return lastLoadedRoutes;
+    }
+
+    public Duration lastLoadDuration() {
+        return lastLoadDuration;
+    }
+
+    public double lastLoadRoutesPerSecond() {
+        var nanos = lastLoadDuration.toNanos();
+        return nanos == 0 ? 0 : lastLoadedRoutes * 1_000_000_000d / nanos;
+    }
+
+    /**
+     * @return current capacity of the route cache, {@code -1} when unbounded or {@code 0} when no
+     * sized cache registered
+     */
+    public long cacheCapacity() {
+        return cacheCapacity.getAsLong();
+    }
+
+    public long cacheSize() {
+        return cacheSize.getAsLong();
+    }
+
+    public long cacheEvictions() {
+        return cacheEvictions.sum();
+    }
+
+    public long hits(String channel) {
+        var counters = UNKNOWN_CHANNEL.equals(channel) ? unknown : byChannel.get(channel);
+        return counters == null ? 0 : counters.hits.sum();
+    }
+
+    public long misses(String channel) {
+        var counters = UNKNOWN_CHANNEL.equals(channel) ? unknown : byChannel.get(channel);
+        return counters == null ? 0 : counters.misses.sum();
+    }
+
+    public long lookupLatencyPercentile(double quantile) {
+        return lookupLatency.percentile(quantile);
+    }
+
+    @Override
+    public String toString() {
+        var summary = new StringBuilder("loads=").append(loads())
+                .append(", loadFailures=").append(loadFailures())
+                .append(", lastLoadedRoutes=").append(lastLoadedRoutes)
+                .append(", lastLoadMs=").append(lastLoadDuration.toMillis())
+                .append(", routesPerSecond=").append((long) lastLoadRoutesPerSecond())
+                .append(", skipped=").append(skippedNodes())
+                .append(", failed=").append(failedNodes())
+                .append(", lookupP50Ns=").append(lookupLatencyPercentile(0.5))
+                .append(", lookupP99Ns=").append(lookupLatencyPercentile(0.99));
+        var capacity = cacheCapacity();
+        if (capacity != 0) {
+            summary.append(", cacheCapacity=").append(capacity)
+                    .append(", cacheSize=").append(cacheSize())
+                    .append(", cacheEvictions=").append(cacheEvictions());
+        }
+        for (var counters : channels) {
+            append(summary, counters);
+        }
+        if (unknown.hits.sum() + unknown.misses.sum() > 0) {
+            append(summary, unknown);
+        }
+        return summary.toString();
+    }
+
+    private static void append(StringBuilder summary, ChannelCounters counters) {
+        summary.append(", ").append(counters.channel)
+                .append("[hits=").append(counters.hits.sum())
+                .append(", misses=").append(counters.misses.sum()).append(']');
+    }
+
+    /**
+     * @return the counters of the channel {@code routeKey} starts with, matched without splitting the
+     * key: the prefix hash is built as {@link String#hashCode()} would and probed at every separator,
+     * since channels may contain one themselves
+     */
+    private ChannelCounters prefixOf(String routeKey) {
+        var table = prefixes;
+        var hash = 0;
+        for (int i = 0; i < routeKey.length(); i++) {
+            var c = routeKey.charAt(i);
+            if (c == RouteKey.SEPARATOR && i > 0) {
+                var counters = probe(table, routeKey, i, hash);
+                if (counters != null) {
+                    return counters;
+                }
+            }
+            hash = 31 * hash + c;
+        }
+        return null;
+    }
+
+    private static ChannelCounters probe(ChannelCounters[] table, String routeKey, int length, int hash) {
+        var mask = table.length - 1;
+        for (int slot = spread(hash) & mask; table[slot] != null; slot = (slot + 1) & mask) {
+            var channel = table[slot].channel;
+            if (channel.hashCode() == hash && channel.length() == length
+                    && routeKey.regionMatches(0, channel, 0, length)) {
+                return table[slot];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Linear-probing table at most half full, so every probe reaches an empty slot.
+     */
+    private static ChannelCounters[] prefixTable(ChannelCounters[] channels) {
+        var table = new ChannelCounters[Integer.highestOneBit(channels.length * 2 + 1) * 2];
+        var mask = table.length - 1;
+        for (var counters : channels) {
+            var slot = spread(counters.channel.hashCode()) & mask;
+            while (table[slot] != null) {
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = counters;
+        }
+        return table;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private static final class ChannelCounters {
+        private final String channel;
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+
+        private ChannelCounters(String channel) {
+            this.channel = channel;
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package co.com.bancolombia.routes;
+
+import co.com.bancolombia.d2b.model.cache.FunctionalCacheOps;
+import co.com.bancolombia.router.configuredroute.ConfiguredRoute;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Copy-on-write route table. A complete immutable snapshot is built away from the lookup path and
+ * published with a single reference swap, so readers never lock and never observe a partially
+ * loaded catalog.
+ */
+public class RouteRegistry implements FunctionalCacheOps<ConfiguredRoute>, RouteLookup, BulkCacheOps {
+
+    private final Function<ConfiguredRoute, String> key;
+    private final AtomicReference<RouteTable> snapshot = new AtomicReference<>(RouteTable.EMPTY);
+
+    public RouteRegistry(Function<ConfiguredRoute, String> key) {
+        this.key = key;
+    }
+
+    /**
+     * Replaces the whole table with {@code routes}. As with sequential cache saves, the last
+     * route for a repeated key wins.
+     *
+     * @return the snapshot that was replaced
+     */
+    public Map<String, ConfiguredRoute> publish(Collection<ConfiguredRoute> routes) {
+        Map<String, ConfiguredRoute> table = new HashMap<>(routes.size() * 4 / 3 + 1);
+        routes.forEach(route -> table.put(key.apply(route), route));
+        return snapshot.getAndSet(new RouteTable(table)).routes();
+    }
+
+    /**
+     * Applies an incremental change set as a new snapshot, leaving untouched routes shared with
+     * the previous one.
+     */
+    public void apply(RouteDiff diff) {
+        snapshot.updateAndGet(current -> {
+            Map<String, ConfiguredRoute> table = new HashMap<>(current.routes());
+            table.keySet().removeAll(diff.getRemoved());
+            table.putAll(diff.upserts());
+            return new RouteTable(table);
+        });
+    }
+
+    public ConfiguredRoute find(String routeKey) {
+        return snapshot.get().get(routeKey);
+    }
+
+    @Override
+    public ConfiguredRoute find(String channel, String transaction) {
+        return snapshot.get().find(channel, transaction);
+    }
+
+    /**
+     * Index compiled from the current snapshot, resolving prefix and default transactions too.
+     */
+    public RouteIndex index() {
+        return snapshot.get().index();
+    }
+
+    public Map<String, ConfiguredRoute> snapshot() {
+        return snapshot.get().routes();
+    }
+
+    public int size() {
+        return snapshot.get().size();
+    }
+
+    /**
+     * Single-entry update, copying the current snapshot. Bulk loads should go through
+     * {@link #publish(Collection)} or {@link #saveAll(Map)} instead.
+     */
+    @Override
+    public Mono<ConfiguredRoute> saveInCache(String routeKey, ConfiguredRoute value) {
+        return Mono.fromSupplier(() -> {
+            snapshot.updateAndGet(current -> {
+                Map<String, ConfiguredRoute> table = new HashMap<>(current.routes());
+                table.put(routeKey, value);
+                return new RouteTable(table);
+            });
+            return value;
+        });
+    }
+
+    /**
+     * Adds {@code routes} to the current snapshot with a single copy and reindex, however many
+     * there are; {@link BulkCacheOps#saveAll(FunctionalCacheOps, Map, int, int)} therefore never
+     * splits them into chunks.
+     */
+    @Override
+    public Mono<Integer> saveAll(Map<String, ConfiguredRoute> routes) {
+        return Mono.fromSupplier(() -> {
+            snapshot.updateAndGet(current -> {
+                Map<String, ConfiguredRoute> table = new HashMap<>(current.routes());
+                table.putAll(routes);
+                return new RouteTable(table);
+            });
+            return routes.size();
+        });
+    }
+
+    @Override
+    public boolean chunksSaves() {
+        return false;
+    }
+
+    @Override
+    public Mono<ConfiguredRoute> getFromCache(String routeKey) {
+        return Mono.fromSupplier(() -> find(routeKey));
+    }
+
+    /**
+     * Resolves every key against the same snapshot.
+     */
+    @Override
+    public Mono<Map<String, ConfiguredRoute>> findAll(Collection<String> routeKeys) {
+        return Mono.fromSupplier(() -> {
+            var table = snapshot.get();
+            Map<String, ConfiguredRoute> found = new LinkedHashMap<>(routeKeys.size() * 4 / 3 + 1);
+            for (var routeKey : routeKeys) {
+                var route = table.get(routeKey);
+                if (route != null) {
+                    found.put(routeKey, route);
+                }
+            }
+            return found;
+        });
+    }
+}
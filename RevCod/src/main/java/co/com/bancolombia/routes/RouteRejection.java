@@ -0,0 +1,60 @@
+package co.com.bancolombia.routes;
+
+/**
+ * An element of the routes array that did not become a route: its position in the array, the byte
+ * offset in the source where it starts, and why it was rejected.
+ */
+public final class RouteRejection {
+
+    public enum Reason {
+        /**
+         * The element is not well-formed JSON; loading resumed at the next top-level element.
+         */
+        SYNTAX_ERROR,
+        /**
+         * Well-formed, but not an object with {@code channel} and {@code transaction}.
+         */
+        INVALID_ROUTE,
+        /**
+         * Well-formed route that could not be bound to {@code ConfiguredRoute}.
+         */
+        MAPPING_ERROR,
+        /**
+         * The source ended before the array was closed; the element is whatever was read.
+         */
+        TRUNCATED
+    }
+
+    private final int index;
+    private final long byteOffset;
+    private final Reason reason;
+    private final String detail;
+
+    public RouteRejection(int index, long byteOffset, Reason reason, String detail) {
+        this.index = index;
+        this.byteOffset = byteOffset;
+        this.reason = reason;
+        this.detail = detail;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public long getByteOffset() {
+        return byteOffset;
+    }
+
+    public Reason getReason() {
+        return reason;
+    }
+
+    public String getDetail() {
+        return detail;
+    }
+
+    @Override
+    public String toString() {
+        return "#" + index + "@" + byteOffset + " " + reason + (detail == null ? "" : ": " + detail);
+    }
+}
@@ -0,0 +1,55 @@
+package co.com.bancolombia.routes;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+import jdk.jfr.Timestamp;
+
+/**
+ * JFR view of a {@link RouteTrace} entry, committed when the trace is dumped. The event time is the
+ * dump; {@code recordedAt} is when the lookup or load happened.
+ */
+@Name(RouteResolutionEvent.NAME)
+@Label("Route Resolution")
+@Category({"Bancolombia", "Routes"})
+@Description("Sampled route lookup or load from the routes audit trace")
+@StackTrace(false)
+public class RouteResolutionEvent extends Event {
+
+    public static final String NAME = "co.com.bancolombia.routes.RouteResolution";
+
+    @Label("Kind")
+    String kind;
+
+    @Label("Key")
+    String key;
+
+    @Label("Hit")
+    boolean hit;
+
+    @Label("Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    long durationNanos;
+
+    @Label("Thread")
+    String thread;
+
+    @Label("Recorded At")
+    @Timestamp(Timestamp.MILLISECONDS_SINCE_EPOCH)
+    long recordedAt;
+
+    static RouteResolutionEvent of(RouteTrace.Entry entry) {
+        var event = new RouteResolutionEvent();
+        event.kind = entry.getKind().name();
+        event.key = entry.getKey();
+        event.hit = entry.isHit();
+        event.durationNanos = entry.getDurationNanos();
+        event.thread = entry.getThread();
+        event.recordedAt = entry.getTimestamp();
+        return event;
+    }
+}
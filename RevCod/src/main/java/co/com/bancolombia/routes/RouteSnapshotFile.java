@@ -0,0 +1,316 @@
+package co.com.bancolombia.routes;
+
+import co.com.bancolombia.logging.technical.LoggerFactory;
+import co.com.bancolombia.logging.technical.logger.TechLogger;
+import co.com.bancolombia.router.configuredroute.ConfiguredRoute;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.CRC32;
+
+/**
+ * Compact binary snapshot of a validated route catalog, so later boots can skip JSON parsing.
+ *
+ * <p>Layout (big endian): magic, format version, SHA-256 of the content of the JSON source the
+ * snapshot was built from, route count, a string table holding every field name and string value
+ * once (channels are dictionary encoded this way), the routes as tagged value trees referencing the
+ * table, and a trailing CRC32 of everything before it. Snapshots are read through a memory-mapped
+ * {@link FileChannel}; a missing, stale or corrupt snapshot reads as empty so callers fall back to
+ * the JSON file.
+ */
+public class RouteSnapshotFile {
+
+    private static final TechLogger techLogger = LoggerFactory.getLog(RouteSnapshotFile.class.getName());
+    public static final String SNAPSHOT_DISCARDED = "Route snapshot {} discarded: {}";
+    public static final String SNAPSHOT_WRITE_FAILED = "Route snapshot {} could not be written: {}";
+    public static final String STALE = "stale";
+    public static final String CORRUPT = "corrupt";
+
+    static final int MAGIC = 0x52544E53;
+    static final int VERSION = 2;
+
+    private static final byte NULL = 0;
+    private static final byte FALSE = 1;
+    private static final byte TRUE = 2;
+    private static final byte LONG = 3;
+    private static final byte DECIMAL = 4;
+    private static final byte STRING = 5;
+    private static final byte ARRAY = 6;
+    private static final byte OBJECT = 7;
+
+    private final ObjectMapper objectMapper;
+    private final ObjectReader routeReader;
+
+    public RouteSnapshotFile(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.routeReader = objectMapper.readerFor(ConfiguredRoute.class);
+    }
+
+    /**
+     * Writes {@code routes} as a snapshot of the source stamped {@code source}, replacing
+     * {@code snapshot} atomically. The stamp must be taken before the source is read, so a source
+     * changed while it was parsed leaves a snapshot that already reads as stale.
+     *
+     * @return {@code false} when the snapshot could not be written
+     */
+    public boolean write(Path snapshot, SourceStamp source, List<ConfiguredRoute> routes) {
+        try {
+            var strings = new StringTable();
+            var body = new ByteArrayOutputStream(routes.size() * 32);
+            var bodyOut = new DataOutputStream(body);
+            for (ConfiguredRoute route : routes) {
+                writeNode(objectMapper.valueToTree(route), bodyOut, strings);
+            }
+            var payload = new ByteArrayOutputStream(body.size() + strings.bytes + 64);
+            var out = new DataOutputStream(payload);
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.write(source.digest);
+            out.writeInt(routes.size());
+            out.writeInt(strings.values.size());
+            for (byte[] value : strings.values) {
+                out.writeInt(value.length);
+                out.write(value);
+            }
+            body.writeTo(out);
+            var crc = new CRC32();
+            crc.update(payload.toByteArray());
+            out.writeLong(crc.getValue());
+            replace(snapshot, payload);
+            return true;
+        } catch (IOException | IllegalArgumentException exception) {
+            techLogger.info(SNAPSHOT_WRITE_FAILED, snapshot, exception.getMessage());
+            return false;
+        }
+    }
+
+    private static void replace(Path snapshot, ByteArrayOutputStream payload) throws IOException {
+        var directory = snapshot.toAbsolutePath().getParent();
+        var temporary = Files.createTempFile(directory, snapshot.getFileName().toString(), ".tmp");
+        try (var output = new BufferedOutputStream(Files.newOutputStream(temporary))) {
+            payload.writeTo(output);
+        }
+        try {
+            Files.move(temporary, snapshot, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException exception) {
+            Files.move(temporary, snapshot, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Reads the snapshot if it exists, is intact and was built from the current content of
+     * {@code source}.
+     */
+    public Optional<List<ConfiguredRoute>> read(Path snapshot, Path source) {
+        try {
+            return read(snapshot, SourceStamp.of(source));
+        } catch (IOException exception) {
+            techLogger.info(SNAPSHOT_DISCARDED, snapshot, exception.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Reads the snapshot if it exists, is intact and was built from the source stamped {@code source}.
+     */
+    public Optional<List<ConfiguredRoute>> read(Path snapshot, SourceStamp source) {
+        if (!Files.isRegularFile(snapshot)) {
+            return Optional.empty();
+        }
+        try (var channel = FileChannel.open(snapshot, StandardOpenOption.READ)) {
+            var buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return Optional.ofNullable(decode(snapshot, buffer, source));
+        } catch (IOException | RuntimeException exception) {
+            techLogger.info(SNAPSHOT_DISCARDED, snapshot, exception.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private List<ConfiguredRoute> decode(Path snapshot, ByteBuffer buffer, SourceStamp source) throws IOException {
+        if (buffer.remaining() < Long.BYTES || !checksumMatches(buffer)) {
+            techLogger.info(SNAPSHOT_DISCARDED, snapshot, CORRUPT);
+            return null;
+        }
+        if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+            techLogger.info(SNAPSHOT_DISCARDED, snapshot, CORRUPT);
+            return null;
+        }
+        var digest = new byte[SourceStamp.DIGEST_BYTES];
+        buffer.get(digest);
+        if (!Arrays.equals(digest, source.digest)) {
+            techLogger.info(SNAPSHOT_DISCARDED, snapshot, STALE);
+            return null;
+        }
+        var routeCount = buffer.getInt();
+        var strings = new String[buffer.getInt()];
+        for (int i = 0; i < strings.length; i++) {
+            var bytes = new byte[buffer.getInt()];
+            buffer.get(bytes);
+            strings[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+        List<ConfiguredRoute> routes = new ArrayList<>(routeCount);
+        for (int i = 0; i < routeCount; i++) {
+            var tokens = new TokenBuffer(objectMapper, false);
+            readNode(buffer, strings, tokens);
+            try (var parser = tokens.asParser(objectMapper)) {
+                routes.add(routeReader.readValue(parser));
+            }
+        }
+        return routes;
+    }
+
+    private static boolean checksumMatches(ByteBuffer buffer) {
+        var payloadLength = buffer.limit() - Long.BYTES;
+        var crc = new CRC32();
+        crc.update(buffer.duplicate().limit(payloadLength));
+        return crc.getValue() == buffer.getLong(payloadLength);
+    }
+
+    private static void writeNode(JsonNode node, DataOutputStream out, StringTable strings) throws IOException {
+        switch (node.getNodeType()) {
+            case OBJECT -> {
+                out.writeByte(OBJECT);
+                out.writeInt(node.size());
+                for (Iterator<Map.Entry<String, JsonNode>> fields = node.fields(); fields.hasNext(); ) {
+                    var field = fields.next();
+                    out.writeInt(strings.indexOf(field.getKey()));
+                    writeNode(field.getValue(), out, strings);
+                }
+            }
+            case ARRAY -> {
+                out.writeByte(ARRAY);
+                out.writeInt(node.size());
+                for (JsonNode element : node) {
+                    writeNode(element, out, strings);
+                }
+            }
+            case BOOLEAN -> out.writeByte(node.booleanValue() ? TRUE : FALSE);
+            case NUMBER -> {
+                if (node.canConvertToExactIntegral() && node.canConvertToLong()) {
+                    out.writeByte(LONG);
+                    out.writeLong(node.longValue());
+                } else {
+                    out.writeByte(DECIMAL);
+                    out.writeInt(strings.indexOf(node.decimalValue().toString()));
+                }
+            }
+            case STRING -> {
+                out.writeByte(STRING);
+                out.writeInt(strings.indexOf(node.textValue()));
+            }
+            case NULL, MISSING -> out.writeByte(NULL);
+            default -> throw new IllegalArgumentException("Unsupported node type " + node.getNodeType());
+        }
+    }
+
+    private static void readNode(ByteBuffer buffer, String[] strings, TokenBuffer tokens) throws IOException {
+        var tag = buffer.get();
+        switch (tag) {
+            case OBJECT -> {
+                var size = buffer.getInt();
+                tokens.writeStartObject();
+                for (int i = 0; i < size; i++) {
+                    tokens.writeFieldName(strings[buffer.getInt()]);
+                    readNode(buffer, strings, tokens);
+                }
+                tokens.writeEndObject();
+            }
+            case ARRAY -> {
+                var size = buffer.getInt();
+                tokens.writeStartArray();
+                for (int i = 0; i < size; i++) {
+                    readNode(buffer, strings, tokens);
+                }
+                tokens.writeEndArray();
+            }
+            case TRUE -> tokens.writeBoolean(true);
+            case FALSE -> tokens.writeBoolean(false);
+            case LONG -> tokens.writeNumber(buffer.getLong());
+            case DECIMAL -> tokens.writeNumber(new BigDecimal(strings[buffer.getInt()]));
+            case STRING -> tokens.writeString(strings[buffer.getInt()]);
+            case NULL -> tokens.writeNull();
+            default -> throw new IllegalStateException(CORRUPT);
+        }
+    }
+
+    private static final class StringTable {
+        private final Map<String, Integer> indexes = new HashMap<>();
+        private final List<byte[]> values = new ArrayList<>();
+        private int bytes;
+
+        private int indexOf(String value) {
+            return indexes.computeIfAbsent(value, key -> {
+                var encoded = key.getBytes(StandardCharsets.UTF_8);
+                values.add(encoded);
+                bytes += encoded.length + Integer.BYTES;
+                return values.size() - 1;
+            });
+        }
+    }
+
+    /**
+     * SHA-256 of the content of a JSON source, which a snapshot must match to be read. Unlike size
+     * and modification time it also tells apart same-size edits made within the clock resolution,
+     * or files restored with their old timestamp.
+     */
+    public static final class SourceStamp {
+        static final int DIGEST_BYTES = 32;
+
+        private final byte[] digest;
+
+        private SourceStamp(byte[] digest) {
+            if (digest.length != DIGEST_BYTES) {
+                throw new IllegalArgumentException("Not a SHA-256 digest");
+            }
+            this.digest = digest;
+        }
+
+        /**
+         * @param fingerprint hex SHA-256 of the source, as from {@link RoutesConfig#sourceFingerprint()}
+         */
+        public static SourceStamp of(String fingerprint) {
+            return new SourceStamp(HexFormat.of().parseHex(fingerprint));
+        }
+
+        public static SourceStamp of(Path source) throws IOException {
+            MessageDigest digest;
+            try {
+                digest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException exception) {
+                throw new IllegalStateException(exception);
+            }
+            try (var input = Files.newInputStream(source);
+                 var sink = new DigestOutputStream(OutputStream.nullOutputStream(), digest)) {
+                input.transferTo(sink);
+            }
+            return new SourceStamp(digest.digest());
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package co.com.bancolombia.routes;
+
+import co.com.bancolombia.router.configuredroute.ConfiguredRoute;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Resolves {@code config-routes.file} into the route files it names: a single file, every
+ * {@code *.json} file of a directory, or the files matching a glob such as
+ * {@code routes/**}{@code /*.json}. Files are always returned sorted by path, which is also their
+ * precedence when merged: for a duplicated channel+transaction key the file that sorts last wins,
+ * just like the last element wins inside a single file.
+ */
+public final class RouteSources {
+
+    static final String JSON_EXTENSION = ".json";
+    private static final String GLOB_CHARS = "*?[{";
+
+    private RouteSources() {
+    }
+
+    public static boolean isGlob(String location) {
+        return location != null && location.chars().anyMatch(c -> GLOB_CHARS.indexOf(c) >= 0);
+    }
+
+    /**
+     * @return {@code true} when {@code location} names a directory or a glob instead of one file
+     */
+    @SuppressWarnings("findsecbugs:PATH_TRAVERSAL_IN")
+    public static boolean isMultiple(String location) {
+        return isGlob(location) || (location != null && Files.isDirectory(Path.of(location)));
+    }
+
+    @SuppressWarnings("findsecbugs:PATH_TRAVERSAL_IN")
+    public static List<Path> resolve(String location) throws IOException {
+        if (isGlob(location)) {
+            return glob(location);
+        }
+        var path = Path.of(location);
+        if (Files.isDirectory(path)) {
+            try (Stream<Path> files = Files.list(path)) {
+                return files.filter(Files::isRegularFile)
+                        .filter(file -> file.getFileName().toString().endsWith(JSON_EXTENSION))
+                        .sorted()
+                        .toList();
+            }
+        }
+        return Files.exists(path) ? List.of(path) : List.of();
+    }
+
+    @SuppressWarnings("findsecbugs:PATH_TRAVERSAL_IN")
+    private static List<Path> glob(String pattern) throws IOException {
+        var matcher = FileSystems.getDefault().getPathMatcher("glob:" + pattern);
+        var base = baseDirectory(pattern);
+        if (!Files.isDirectory(base)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.walk(base)) {
+            return files.filter(Files::isRegularFile)
+                    .filter(matcher::matches)
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    /**
+     * Longest leading part of {@code pattern} without glob characters, or the working directory.
+     */
+    @SuppressWarnings("findsecbugs:PATH_TRAVERSAL_IN")
+    static Path baseDirectory(String pattern) {
+        var separator = pattern.indexOf('/') >= 0 ? '/' : File.separatorChar;
+        var firstGlob = 0;
+        while (firstGlob < pattern.length() && GLOB_CHARS.indexOf(pattern.charAt(firstGlob)) < 0) {
+            firstGlob++;
+        }
+        var end = pattern.lastIndexOf(separator, firstGlob);
+        if (end < 0) {
+            return Path.of("");
+        }
+        return Path.of(end == 0 ? pattern.substring(0, 1) : pattern.substring(0, end));
+    }
+
+    /**
+     * Merges the routes read from {@code files} (in the same order) by {@code key}, later files
+     * overriding earlier ones, and counts every overridden key, describing the first
+     * {@value RouteValidator#MAX_REPORTED}.
+     */
+    public static Merge merge(List<Path> files, List<List<ConfiguredRoute>> routes,
+                              Function<ConfiguredRoute, String> key) {
+        Map<String, ConfiguredRoute> merged = new LinkedHashMap<>();
+        Map<String, Path> origins = new LinkedHashMap<>();
+        List<String> duplicates = new ArrayList<>();
+        var duplicateCount = 0;
+        for (int i = 0; i < files.size(); i++) {
+            var file = files.get(i);
+            for (ConfiguredRoute route : routes.get(i)) {
+                var routeKey = key.apply(route);
+                var previous = origins.put(routeKey, file);
+                merged.put(routeKey, route);
+                if (previous != null && duplicateCount++ < RouteValidator.MAX_REPORTED) {
+                    duplicates.add(routeKey + " in " + previous + " overridden by " + file);
+                }
+            }
+        }
+        return new Merge(List.copyOf(merged.values()), Collections.unmodifiableList(duplicates), duplicateCount);
+    }
+
+    /**
+     * Merged routes in first-seen key order, plus the number of overridden duplicates and a
+     * description of the first {@value RouteValidator#MAX_REPORTED}.
+     */
+    public static final class Merge {
+        private final List<ConfiguredRoute> routes;
+        private final List<String> duplicates;
+        private final int duplicateCount;
+
+        private Merge(List<ConfiguredRoute> routes, List<String> duplicates, int duplicateCount) {
+            this.routes = routes;
+            this.duplicates = duplicates;
+            this.duplicateCount = duplicateCount;
+        }
+
+        public List<ConfiguredRoute> getRoutes() {
+            return routes;
+        }
+
+        public List<String> getDuplicates() {
+            return duplicates;
+        }
+
+        public int getDuplicateCount() {
+            return duplicateCount;
+        }
+
+        @Override
+        public String toString() {
+            var omitted = duplicateCount - duplicates.size();
+            return duplicateCount + " " + duplicates + (omitted > 0 ? " and " + omitted + " more" : "");
+        }
+    }
+}
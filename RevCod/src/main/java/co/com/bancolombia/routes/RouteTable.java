@@ -0,0 +1,42 @@
+package co.com.bancolombia.routes;
+
+import co.com.bancolombia.router.configuredroute.ConfiguredRoute;
+
+import java.util.Map;
+
+/**
+ * Immutable route snapshot held by {@link RouteRegistry}: the flat cache-key table plus the
+ * {@link RouteIndex} compiled from it for allocation-free, prefix-aware lookups.
+ */
+final class RouteTable {
+
+    static final RouteTable EMPTY = new RouteTable(Map.of());
+
+    private final Map<String, ConfiguredRoute> routes;
+    private final RouteIndex index;
+
+    RouteTable(Map<String, ConfiguredRoute> routes) {
+        this.routes = Map.copyOf(routes);
+        this.index = routes.isEmpty() ? RouteIndex.EMPTY : RouteIndex.of(this.routes.values());
+    }
+
+    Map<String, ConfiguredRoute> routes() {
+        return routes;
+    }
+
+    ConfiguredRoute get(String routeKey) {
+        return routes.get(routeKey);
+    }
+
+    ConfiguredRoute find(String channel, String transaction) {
+        return index.find(channel, transaction);
+    }
+
+    RouteIndex index() {
+        return index;
+    }
+
+    int size() {
+        return routes.size();
+    }
+}
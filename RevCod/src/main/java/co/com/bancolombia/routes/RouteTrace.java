@@ -0,0 +1,229 @@
+package co.com.bancolombia.routes;
+
+import co.com.bancolombia.exceptions.TechnicalException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static co.com.bancolombia.exceptions.messages.TechnicalErrorMessage.JACKSON_MAPPER_ERROR;
+
+/**
+ * Opt-in audit trace of route resolution and loading: the last {@link #capacity()} sampled events
+ * (key, hit or miss, duration, thread) kept in a ring of preallocated parallel arrays. Writers claim
+ * a sequence with one atomic increment and never lock or allocate. Each slot carries the sequence it
+ * holds, swapped to a writing mark while it is written: a writer takes the slot only by swapping an
+ * older, settled sequence, and drops its event when another writer a lap apart holds the slot, so two
+ * writers never interleave in one slot. {@link #snapshot()} keeps an entry only if its slot held the
+ * same sequence before and after the fields were read, so entries overwritten during a dump are left
+ * out instead of blocking writers. The buffer can be dumped as JSON or as {@link RouteResolutionEvent}
+ * JFR events.
+ * <p>
+ * One lookup in {@code sampleRate} is recorded; loads are always recorded. {@link #DISABLED} samples
+ * nothing, and the routes module installs no tracing decorator at all unless the trace is enabled.
+ */
+public class RouteTrace {
+
+    public static final RouteTrace DISABLED = new RouteTrace(0, 1);
+
+    private static final long WRITING = -1;
+    private static final long EMPTY = -2;
+
+    public enum Kind {
+        LOOKUP, LOAD
+    }
+
+    private final int capacity;
+    private final int mask;
+    private final int sampleRate;
+    private final AtomicLong next = new AtomicLong();
+    private final AtomicLongArray sequences;
+    private final Kind[] kinds;
+    private final String[] keys;
+    private final boolean[] hits;
+    private final long[] durations;
+    private final String[] threads;
+    private final long[] timestamps;
+
+    /**
+     * @param capacity   events kept, rounded up to a power of two; {@code 0} disables the trace
+     * @param sampleRate records one lookup in {@code sampleRate}; {@code 1} or less records them all
+     */
+    public RouteTrace(int capacity, int sampleRate) {
+        this.capacity = capacity <= 0 ? 0 : Integer.highestOneBit(Math.max(capacity, 2) * 2 - 1);
+        this.mask = this.capacity - 1;
+        this.sampleRate = Math.max(sampleRate, 1);
+        this.sequences = new AtomicLongArray(this.capacity);
+        this.kinds = new Kind[this.capacity];
+        this.keys = new String[this.capacity];
+        this.hits = new boolean[this.capacity];
+        this.durations = new long[this.capacity];
+        this.threads = new String[this.capacity];
+        this.timestamps = new long[this.capacity];
+        for (int slot = 0; slot < this.capacity; slot++) {
+            sequences.set(slot, EMPTY);
+        }
+    }
+
+    /**
+     * Decides whether the next lookup is traced, so callers only time and build keys for sampled ones.
+     */
+    public boolean sampled() {
+        return capacity > 0 && (sampleRate == 1 || ThreadLocalRandom.current().nextInt(sampleRate) == 0);
+    }
+
+    public void lookup(String key, boolean hit, long nanos) {
+        record(Kind.LOOKUP, key, hit, nanos);
+    }
+
+    /**
+     * @param loaded whether the load produced any route
+     */
+    public void load(String source, boolean loaded, long nanos) {
+        if (capacity > 0) {
+            record(Kind.LOAD, source, loaded, nanos);
+        }
+    }
+
+    private void record(Kind kind, String key, boolean hit, long nanos) {
+        var sequence = next.getAndIncrement();
+        var slot = (int) sequence & mask;
+        var held = sequences.get(slot);
+        if (held == WRITING || held > sequence || !sequences.compareAndSet(slot, held, WRITING)) {
+            return;
+        }
+        VarHandle.storeStoreFence();
+        kinds[slot] = kind;
+        keys[slot] = key;
+        hits[slot] = hit;
+        durations[slot] = nanos;
+        threads[slot] = Thread.currentThread().getName();
+        timestamps[slot] = System.currentTimeMillis();
+        sequences.set(slot, sequence);
+    }
+
+    /**
+     * @return the buffered events, oldest first, leaving out any being overwritten while read or
+     * dropped by a writer that found its slot still being written
+     */
+    public List<Entry> snapshot() {
+        var end = next.get();
+        var start = Math.max(0, end - capacity);
+        List<Entry> entries = new ArrayList<>((int) (end - start));
+        for (var sequence = start; sequence < end; sequence++) {
+            var slot = (int) sequence & mask;
+            if (sequences.get(slot) != sequence) {
+                continue;
+            }
+            var entry = new Entry(sequence, kinds[slot], keys[slot], hits[slot], durations[slot], threads[slot],
+                    timestamps[slot]);
+            VarHandle.loadLoadFence();
+            if (sequences.get(slot) == sequence) {
+                entries.add(entry);
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * @return the buffered events as a JSON array, oldest first
+     */
+    public String toJson() {
+        try {
+            return RoutesJson.mapper().writeValueAsString(snapshot());
+        } catch (JsonProcessingException exception) {
+            throw new TechnicalException(exception, JACKSON_MAPPER_ERROR);
+        }
+    }
+
+    /**
+     * Commits one {@link RouteResolutionEvent} per buffered event, when a JFR recording has it
+     * enabled.
+     *
+     * @return number of events committed
+     */
+    public int emitJfrEvents() {
+        if (!new RouteResolutionEvent().isEnabled()) {
+            return 0;
+        }
+        var entries = snapshot();
+        entries.forEach(entry -> RouteResolutionEvent.of(entry).commit());
+        return entries.size();
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public int sampleRate() {
+        return sampleRate;
+    }
+
+    /**
+     * @return events recorded since startup, including those already overwritten
+     */
+    public long recorded() {
+        return next.get();
+    }
+
+    @Override
+    public String toString() {
+        return "capacity=" + capacity + ", sampleRate=" + sampleRate + ", recorded=" + recorded();
+    }
+
+    /**
+     * One traced event. {@code timestamp} is in epoch milliseconds.
+     */
+    public static final class Entry {
+
+        private final long sequence;
+        private final Kind kind;
+        private final String key;
+        private final boolean hit;
+        private final long durationNanos;
+        private final String thread;
+        private final long timestamp;
+
+        Entry(long sequence, Kind kind, String key, boolean hit, long durationNanos, String thread, long timestamp) {
+            this.sequence = sequence;
+            this.kind = kind;
+            this.key = key;
+            this.hit = hit;
+            this.durationNanos = durationNanos;
+            this.thread = thread;
+            this.timestamp = timestamp;
+        }
+
+        public long getSequence() {
+            return sequence;
+        }
+
+        public Kind getKind() {
+            return kind;
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        public boolean isHit() {
+            return hit;
+        }
+
+        public long getDurationNanos() {
+            return durationNanos;
+        }
+
+        public String getThread() {
+            return thread;
+        }
+
+        public long getTimestamp() {
+            return timestamp;
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package co.com.bancolombia.routes;
+
+import co.com.bancolombia.router.configuredroute.ConfiguredRoute;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Load-time pass between parsing and caching: drops routes that break the field constraints and
+ * deduplicates the rest by cache key, so the cache is written once per key. On a duplicated key the
+ * last route in input order wins, as it did when every route was saved in turn; duplicates whose
+ * content differs from the route they replace are reported as conflicts, and distinct
+ * channel/transaction pairs that build the same key (e.g. {@code A-B}+{@code 1} and
+ * {@code A}+{@code B-1}) as collisions.
+ * <p>
+ * Keys are deduplicated in an open-addressing table of {@code int} slots with cached hash codes,
+ * so the pass allocates no map entries or boxed values per route.
+ */
+public final class RouteValidator {
+
+    static final int MAX_REPORTED = 100;
+    public static final String MISSING_FIELD = "missing %s";
+    public static final String BLANK_FIELD = "blank %s";
+
+    private final Function<ConfiguredRoute, String> key;
+
+    public RouteValidator(Function<ConfiguredRoute, String> key) {
+        this.key = key;
+    }
+
+    public Result validate(List<ConfiguredRoute> routes) {
+        var result = new Result(routes.size());
+        var table = new KeyTable(routes.size());
+        for (int position = 0; position < routes.size(); position++) {
+            var route = routes.get(position);
+            var violation = violation(route);
+            if (violation != null) {
+                result.invalid(position, violation);
+                continue;
+            }
+            var routeKey = key.apply(route);
+            var slot = table.indexOf(routeKey);
+            if (slot < 0) {
+                table.add(routeKey, result.keys.size());
+                result.keys.add(routeKey);
+                result.routes.add(route);
+            } else {
+                var previous = result.routes.set(slot, route);
+                result.duplicated(routeKey, !Objects.equals(previous, route), collides(previous, route));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return the first field constraint {@code route} breaks, or {@code null} when it is valid
+     */
+    static String violation(ConfiguredRoute route) {
+        var channel = fieldViolation(RoutesConfig.CHANNEL, route.getChannel());
+        if (channel != null) {
+            return channel;
+        }
+        return fieldViolation(RoutesConfig.TRANSACTION, route.getTransaction());
+    }
+
+    private static boolean collides(ConfiguredRoute previous, ConfiguredRoute route) {
+        return !previous.getChannel().equals(route.getChannel())
+                || !previous.getTransaction().equals(route.getTransaction());
+    }
+
+    private static String fieldViolation(String field, String value) {
+        if (value == null) {
+            return String.format(MISSING_FIELD, field);
+        }
+        return value.isBlank() ? String.format(BLANK_FIELD, field) : null;
+    }
+
+    /**
+     * Unique valid routes in first-seen key order, plus what was dropped on the way. Violations name
+     * the route by its position in the parsed list. Only the first {@value #MAX_REPORTED}
+     * conflicting keys, colliding keys and violations are kept; the counters are exact.
+     */
+    public static final class Result {
+
+        private final List<String> keys;
+        private final List<ConfiguredRoute> routes;
+        private final List<String> conflicts = new ArrayList<>();
+        private final List<String> violations = new ArrayList<>();
+        private final List<String> collisions = new ArrayList<>();
+        private int duplicates;
+        private int conflictCount;
+        private int collisionCount;
+        private int invalid;
+
+        private Result(int expected) {
+            this.keys = new ArrayList<>(expected);
+            this.routes = new ArrayList<>(expected);
+        }
+
+        private void invalid(int position, String violation) {
+            invalid++;
+            if (violations.size() < MAX_REPORTED) {
+                violations.add("#" + position + " " + violation);
+            }
+        }
+
+        private void duplicated(String routeKey, boolean conflicting, boolean colliding) {
+            duplicates++;
+            if (colliding) {
+                collisionCount++;
+                if (collisions.size() < MAX_REPORTED) {
+                    collisions.add(routeKey);
+                }
+            }
+            if (conflicting) {
+                conflictCount++;
+                if (conflicts.size() < MAX_REPORTED) {
+                    conflicts.add(routeKey);
+                }
+            }
+        }
+
+        public List<ConfiguredRoute> getRoutes() {
+            return routes;
+        }
+
+        /**
+         * @return unique routes by cache key, in first-seen key order
+         */
+        public Map<String, ConfiguredRoute> asMap() {
+            Map<String, ConfiguredRoute> unique = new LinkedHashMap<>(keys.size() * 4 / 3 + 1);
+            for (int i = 0; i < keys.size(); i++) {
+                unique.put(keys.get(i), routes.get(i));
+            }
+            return unique;
+        }
+
+        public int getDuplicates() {
+            return duplicates;
+        }
+
+        public int getConflictCount() {
+            return conflictCount;
+        }
+
+        public List<String> getConflicts() {
+            return conflicts;
+        }
+
+        /**
+         * @return keys built by more than one distinct channel/transaction pair
+         */
+        public int getCollisionCount() {
+            return collisionCount;
+        }
+
+        public List<String> getCollisions() {
+            return collisions;
+        }
+
+        public int getInvalid() {
+            return invalid;
+        }
+
+        public List<String> getViolations() {
+            return violations;
+        }
+
+        /**
+         * @return whether anything was dropped
+         */
+        public boolean hasRejections() {
+            return duplicates > 0 || invalid > 0;
+        }
+
+        @Override
+        public String toString() {
+            return "unique=" + routes.size() + ", duplicates=" + duplicates + ", conflicts=" + conflictCount
+                    + (conflicts.isEmpty() ? "" : " " + conflicts)
+                    + (collisionCount == 0 ? "" : ", collisions=" + collisionCount + " " + collisions)
+                    + ", invalid=" + invalid
+                    + (violations.isEmpty() ? "" : " " + violations);
+        }
+    }
+
+    /**
+     * Linear-probing table from key to position, sized once for the whole input.
+     */
+    private static final class KeyTable {
+
+        private final String[] keys;
+        private final int[] hashes;
+        private final int[] positions;
+        private final int mask;
+
+        private KeyTable(int expected) {
+            var capacity = Integer.highestOneBit(Math.max(expected, 2) * 2 - 1) << 1;
+            this.keys = new String[capacity];
+            this.hashes = new int[capacity];
+            this.positions = new int[capacity];
+            this.mask = capacity - 1;
+        }
+
+        private int indexOf(String routeKey) {
+            var hash = spread(routeKey.hashCode());
+            for (int slot = hash & mask; keys[slot] != null; slot = (slot + 1) & mask) {
+                if (hashes[slot] == hash && keys[slot].equals(routeKey)) {
+                    return positions[slot];
+                }
+            }
+            return -1;
+        }
+
+        private void add(String routeKey, int position) {
+            var hash = spread(routeKey.hashCode());
+            var slot = hash & mask;
+            while (keys[slot] != null) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = routeKey;
+            hashes[slot] = hash;
+            positions[slot] = position;
+        }
+
+        private static int spread(int hash) {
+            return (hash ^ (hash >>> 16)) * 0x45d9f3b;
+        }
+    }
+}
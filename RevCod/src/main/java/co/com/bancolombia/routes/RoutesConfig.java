@@ -19,28 +19,47 @@ import co.com.bancolombia.router.configuredroute.ConfiguredRoute;
 import co.com.bancolombia.router.configuredroute.gateway.Mapper;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
-import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.SynchronousSink;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
 import java.util.ArrayList;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 import static co.com.bancolombia.exceptions.messages.TechnicalErrorMessage.JACKSON_MAPPER_ERROR;
-import static com.fasterxml.jackson.databind.DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES;
 
 @Configuration
-public class RoutesConfig {
+public class RoutesConfig implements DisposableBean {
 
     private static final TechLogger techLogger = LoggerFactory.getLog(RoutesProvider.class.getName());
     public static final String ERROR_READING_ROUTES_FROM_FILE = "Error reading routes from file," +
@@ -51,96 +70,1039 @@ public class RoutesConfig {
     public static final String ERROR_PROCESSING_READ_NODE = "Error processing Read Node content: {}";
     public static final String CHANNEL = "channel";
     public static final String TRANSACTION = "transaction";
+    public static final String STASH_CACHE = "stash";
+    public static final String IN_MEMORY_CACHE = "in-memory";
+    public static final String SNAPSHOT_CACHE = "snapshot";
+    public static final String EVICTING_CACHE = "evicting";
+    public static final String TWO_TIER_CACHE = "two-tier";
+    public static final String ROUTES_ALREADY_PUBLISHED = "ROUTES ALREADY PUBLISHED - shared version {}, skipping load";
+    public static final String SHARED_STORE_NOT_CONFIGURED = "No SharedRouteStore bean, using an embedded in-memory store";
+    public static final String ROUTES_CACHE_STATS = "ROUTES CACHE STATS - {}";
+    public static final String ROUTES_PUBLISHED = "ROUTES PUBLISHED - {} routes, replacing {}";
+    public static final String ROUTES_LOAD_REPORT = "ROUTES LOAD REPORT - {}";
+    public static final String ROUTES_LOAD_FAILED = "ROUTES LOAD FAILED - {}";
+    public static final String ROUTES_DUPLICATED = "ROUTES DUPLICATED - {}";
+    public static final String ROUTES_REJECTED = "ROUTES REJECTED - {}";
+    public static final String ROUTES_VALIDATED = "ROUTES VALIDATED - {}";
+    public static final String STRING_ROUTES_SOURCE = "config-routes.string";
+    public static final String MISSING_ROUTE_FIELDS = "Expected an object with channel and transaction";
+    public static final String LINE_BREAK_IN_STRING = "Line break inside a string";
+    public static final String UNCLOSED_ARRAY = "Source ended before the routes array was closed";
+    public static final String ROUTES_FILTER_STATS = "ROUTES FILTER STATS - {}";
+    public static final String ERROR_READING_ROUTES_SOURCE = "Error reading routes source {}, skipping it";
+    public static final String ASYNC_LOAD = "async";
+    public static final String BLOCKING_LOAD = "blocking";
+    public static final String PER_ROUTE_LOG = "per-route";
+    public static final String SUMMARY_LOG = "summary";
 
+    private static final ObjectMapper ROUTES_MAPPER = RoutesJson.mapper();
+    private static final ObjectReader ROUTE_READER = RoutesJson.routeReader();
+    private static final RouteSnapshotFile SNAPSHOTS = new RouteSnapshotFile(ROUTES_MAPPER);
 
-    private static final int SIZE = 999;
     @Value("${config-routes.string}")
     private String stringRoutes;
     @Value("${config-routes.file}")
     private String fileRoutes;
+    @Value("${config-routes.snapshot.file:}")
+    private String snapshotRoutes;
+    @Value("${config-routes.cache-type:" + STASH_CACHE + "}")
+    private String cacheType;
+    @Value("${config-routes.cache.max-size:0}")
+    private long cacheMaxSize;
+    @Value("${config-routes.cache.expire-after-seconds:0}")
+    private long cacheExpireAfterSeconds;
+    @Value("${config-routes.load.mode:" + ASYNC_LOAD + "}")
+    private String loadMode;
+    @Value("${config-routes.load.parallelism:#{T(java.lang.Runtime).getRuntime().availableProcessors()}}")
+    private int loadParallelism;
+    @Value("${config-routes.load.timeout-ms:300000}")
+    private long loadTimeoutMs;
+    @Value("${config-routes.load.execution:" + RouteLoadSchedulers.BOUNDED_ELASTIC_EXECUTION + "}")
+    private String loadExecution;
+    @Value("${config-routes.load.streaming:false}")
+    private boolean streamingLoad;
+    @Value("${config-routes.load.resilient:false}")
+    private boolean resilientLoad;
+    @Value("${config-routes.watch.enabled:false}")
+    private boolean watchRoutes;
+    @Value("${config-routes.watch.polling:false}")
+    private boolean pollRoutes;
+    @Value("${config-routes.watch.debounce-ms:500}")
+    private long watchDebounceMs;
+    @Value("${config-routes.watch.poll-interval-ms:2000}")
+    private long watchPollIntervalMs;
+    @Value("${config-routes.near-cache.max-size:10000}")
+    private long nearCacheMaxSize;
+    @Value("${config-routes.near-cache.expire-after-seconds:300}")
+    private long nearCacheExpireAfterSeconds;
+    @Value("${config-routes.near-cache.version-check-ms:1000}")
+    private long nearCacheVersionCheckMs;
+    @Value("${config-routes.filter.enabled:false}")
+    private boolean filterEnabled;
+    @Value("${config-routes.filter.expected-keys:10000}")
+    private long filterExpectedKeys;
+    @Value("${config-routes.filter.false-positive-rate:0.01}")
+    private double filterFalsePositiveRate;
+    @Value("${config-routes.metrics.enabled:false}")
+    private boolean metricsEnabled;
+    @Value("${config-routes.log.mode:" + PER_ROUTE_LOG + "}")
+    private String logMode;
+    @Value("${config-routes.log.sample-rate:0}")
+    private int logSampleRate;
+    @Value("${config-routes.log.queue-size:1024}")
+    private int logQueueSize;
+    @Value("${config-routes.bulk.chunk-size:" + BulkCacheOps.DEFAULT_CHUNK_SIZE + "}")
+    private int bulkChunkSize;
+    @Value("${config-routes.bulk.concurrency:" + BulkCacheOps.DEFAULT_CONCURRENCY + "}")
+    private int bulkConcurrency;
+    @Value("${config-routes.trace.enabled:false}")
+    private boolean traceEnabled;
+    @Value("${config-routes.trace.capacity:4096}")
+    private int traceCapacity;
+    @Value("${config-routes.trace.sample-rate:100}")
+    private int traceSampleRate;
+    @Value("${data-mask.cache.enabled:false}")
+    private boolean maskCacheEnabled;
+    @Value("${data-mask.cache.max-size:10000}")
+    private long maskCacheMaxSize;
+    @Value("${data-mask.cache.ttl-seconds:300}")
+    private long maskCacheTtlSeconds;
+    @Value("${data-mask.batch.concurrency:16}")
+    private int maskBatchConcurrency;
+
+    private RouteFileWatcher routeFileWatcher;
+    private RouteMetrics routeMetrics;
+    private RouteTrace routeTrace;
+    private RouteLoadLogger routeLoadLogger;
+    private MaskedValueCache maskedValueCache;
+    @Autowired(required = false)
+    private SharedRouteStore sharedRouteStore;
 
     private final Function<ConfiguredRoute,String> key =
-            conf -> String.format("%s-%s", conf.getChannel(), conf.getTransaction());
+            conf -> RouteKey.of(conf.getChannel(), conf.getTransaction());
+    private final RouteValidator routeValidator = new RouteValidator(key);
 
+    /**
+     * Mapper with the KMS masking serializers. With {@code data-mask.cache.enabled} their output is
+     * memoized per value in {@link #maskedValueCache()}.
+     */
     @Bean
     @Primary
     public ObjectMapper objectMapperBean(final KmsServices kms) {
         var module = new SimpleModule();
-        module.addSerializer(DataMask.class, new JsonSerializer(DataMask.class, kms));
-        module.addSerializer(DataUnmasked.class, new JsonDeserializer(DataUnmasked.class, kms));
-        return new ObjectMapper()
-                .enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS)
-                .registerModule(module)
-                .disable(FAIL_ON_UNKNOWN_PROPERTIES);
+        module.addSerializer(DataMask.class, maskSerializer(DataMask.class, new JsonSerializer(DataMask.class, kms)));
+        module.addSerializer(DataUnmasked.class,
+                maskSerializer(DataUnmasked.class, new JsonDeserializer(DataUnmasked.class, kms)));
+        return RoutesJson.configure(new ObjectMapper())
+                .registerModule(module);
+    }
+
+    @SuppressWarnings("unchecked")
+    private com.fasterxml.jackson.databind.JsonSerializer<Object> maskSerializer(
+            Class<?> type, com.fasterxml.jackson.databind.JsonSerializer<?> kmsSerializer) {
+        if (!maskCacheEnabled) {
+            return (com.fasterxml.jackson.databind.JsonSerializer<Object>) kmsSerializer;
+        }
+        return new CachingMaskSerializer(type, kmsSerializer, maskCache(), ROUTES_MAPPER.writer());
+    }
+
+    @Bean
+    public MaskedValueCache maskedValueCache() {
+        return maskCache();
+    }
+
+    /**
+     * Two-pass writer for payloads with many masked fields: their distinct uncached values are
+     * masked concurrently, bounded by {@code data-mask.batch.concurrency}. Needs
+     * {@code data-mask.cache.enabled}; without the cache it writes in a single plain pass.
+     */
+    @Bean
+    public MaskBatchWriter maskBatchWriter(ObjectMapper objectMapper) {
+        return new MaskBatchWriter(objectMapper, maskBatchConcurrency);
+    }
+
+    private synchronized MaskedValueCache maskCache() {
+        if (maskedValueCache == null) {
+            maskedValueCache = new MaskedValueCache(maskCacheMaxSize, Duration.ofSeconds(maskCacheTtlSeconds));
+        }
+        return maskedValueCache;
+    }
+
+    @Bean
+    public RouteMetrics routeMetrics() {
+        return metrics();
     }
 
+    private RouteMetrics metrics() {
+        if (routeMetrics == null) {
+            routeMetrics = metricsEnabled ? new RouteMetricsRecorder() : RouteMetrics.NOOP;
+        }
+        return routeMetrics;
+    }
+
+    /**
+     * Audit trace of sampled lookups and of loads, for diagnosing slow or missing routes; dump it
+     * with {@link RouteTrace#toJson()} or {@link RouteTrace#emitJfrEvents()}. {@link RouteTrace#DISABLED}
+     * unless {@code config-routes.trace.enabled}.
+     */
+    @Bean
+    public RouteTrace routeTrace() {
+        return trace();
+    }
+
+    private synchronized RouteTrace trace() {
+        if (routeTrace == null) {
+            routeTrace = traceEnabled ? new RouteTrace(traceCapacity, traceSampleRate) : RouteTrace.DISABLED;
+        }
+        return routeTrace;
+    }
+
+    private synchronized RouteLoadLogger loadLogger() {
+        if (routeLoadLogger == null) {
+            routeLoadLogger = new RouteLoadLogger(techLogger, logSampleRate, logQueueSize);
+        }
+        return routeLoadLogger;
+    }
+
+    private boolean isSummaryLog() {
+        return SUMMARY_LOG.equalsIgnoreCase(logMode);
+    }
+
+    /**
+     * Per-route detail of a load: the historical synchronous line in {@code per-route} mode, or a
+     * sampled line through the async {@link RouteLoadLogger} in {@code summary} mode.
+     */
+    private void logRouteLoaded(ConfiguredRoute route) {
+        if (isSummaryLog()) {
+            loadLogger().routeLoaded(route);
+        } else {
+            techLogger.info(new StringBuilder(ROUTE_LOADED)
+                    .append(route.getChannel()).append("-").append(route.getTransaction()));
+        }
+    }
+
+    /**
+     * Route cache selected by {@code config-routes.cache-type}, already loaded (or loading, in async
+     * mode). With {@code config-routes.metrics.enabled} lookups are reported to {@link RouteMetrics},
+     * and with {@code config-routes.trace.enabled} sampled lookups are recorded in the
+     * {@link RouteTrace}.
+     */
     @Bean
     public FunctionalCacheOps<ConfiguredRoute> cacheForRoutes(Mapper mapper) {
+        var cache = createRouteCache(mapper);
+        var instrumented = metricsEnabled
+                ? ForwardingRouteCacheOps.indexed(new InstrumentedRouteCacheOps(cache, metrics()))
+                : cache;
+        return traceEnabled
+                ? ForwardingRouteCacheOps.indexed(new TracingRouteCacheOps(instrumented, trace()))
+                : instrumented;
+    }
+
+    private FunctionalCacheOps<ConfiguredRoute> createRouteCache(Mapper mapper) {
+        if (SNAPSHOT_CACHE.equalsIgnoreCase(cacheType)) {
+            var registry = new RouteRegistry(key);
+            if (watchRoutes(registry)) {
+                return registry;
+            }
+            if (isBlockingLoad()) {
+                reloadRoutes(mapper, registry).block(Duration.ofMillis(loadTimeoutMs));
+            } else {
+                reloadRoutes(mapper, registry).subscribe(published -> { }, this::loadFailed);
+            }
+            return registry;
+        }
+        var cache = filterEnabled
+                ? ForwardingRouteCacheOps.indexed(
+                        new FilteredRouteCacheOps(localCache(), filterExpectedKeys, filterFalsePositiveRate))
+                : localCache();
+        if (watchRoutes(cache)) {
+            return cache;
+        }
+        if (stored(cache) instanceof TwoTierRouteCacheOps twoTier
+                && Boolean.TRUE.equals(twoTier.isPublished().block(Duration.ofMillis(loadTimeoutMs)))) {
+            techLogger.info(ROUTES_ALREADY_PUBLISHED, twoTier.version());
+            return cache;
+        }
+        if (streamingLoad) {
+            var load = loadRoutesStreaming(mapper, cache);
+            if (isBlockingLoad()) {
+                load.block(Duration.ofMillis(loadTimeoutMs));
+            } else {
+                load.subscribe(report -> { }, this::loadFailed);
+            }
+        } else if (isBlockingLoad()) {
+            loadRoutesInParallel(mapper, cache).block(Duration.ofMillis(loadTimeoutMs));
+        } else {
+            routeInformationLoaded(mapper, cache);
+        }
+        return cache;
+    }
+
+    private boolean isBlockingLoad() {
+        return BLOCKING_LOAD.equalsIgnoreCase(loadMode);
+    }
+
+    /**
+     * When watching is enabled, performs the initial load through a {@link RouteFileReloader} and
+     * keeps applying incremental changes of {@code config-routes.file} to {@code cacheOps}. A
+     * directory or glob source is watched as the whole set of files it resolves to.
+     *
+     * @return {@code true} if the routes sources were loaded by the reloader
+     */
+    public boolean watchRoutes(FunctionalCacheOps<ConfiguredRoute> cacheOps) {
+        if (!watchRoutes) {
+            return false;
+        }
+        var reloader = new RouteFileReloader(fileRoutes, this::reloadRouteSources, this::validate, cacheOps,
+                this::loadReported);
+        var loaded = reloader.reload();
+        routeFileWatcher = RouteFileWatcher.ofSources(fileRoutes, Duration.ofMillis(watchDebounceMs),
+                Duration.ofMillis(watchPollIntervalMs), reloader::reload)
+                .start(pollRoutes);
+        return loaded;
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        if (routeFileWatcher != null) {
+            routeFileWatcher.close();
+        }
+        if (routeLoadLogger != null) {
+            routeLoadLogger.close();
+        }
+    }
+
+    private FunctionalCacheOps<ConfiguredRoute> localCache() {
+        if (IN_MEMORY_CACHE.equalsIgnoreCase(cacheType)) {
+            return new InMemoryRouteCacheOps();
+        }
+        if (EVICTING_CACHE.equalsIgnoreCase(cacheType)) {
+            var evicting = new EvictingRouteCacheOps(cacheMaxSize, Duration.ofSeconds(cacheExpireAfterSeconds),
+                    metrics());
+            metrics().cacheGauges(evicting::capacity, evicting::size);
+            return evicting;
+        }
+        if (TWO_TIER_CACHE.equalsIgnoreCase(cacheType)) {
+            return twoTierCache();
+        }
+        return stashCache();
+    }
+
+    /**
+     * Near-cache sized by {@code config-routes.near-cache.*} in front of the {@link SharedRouteStore}
+     * bean. Without one the shared tier is an embedded store, i.e. not shared across replicas.
+     */
+    private TwoTierRouteCacheOps twoTierCache() {
+        var shared = sharedRouteStore;
+        if (shared == null) {
+            techLogger.info(SHARED_STORE_NOT_CONFIGURED);
+            shared = new InMemorySharedRouteStore();
+        }
+        return new TwoTierRouteCacheOps(shared, nearCacheMaxSize, Duration.ofSeconds(nearCacheExpireAfterSeconds),
+                Duration.ofMillis(nearCacheVersionCheckMs), this::sourceFingerprint);
+    }
+
+    private static FunctionalCacheOps<ConfiguredRoute> stored(FunctionalCacheOps<ConfiguredRoute> cache) {
+        return ForwardingRouteCacheOps.unwrapped(cache) instanceof FilteredRouteCacheOps filtered
+                ? filtered.delegate()
+                : cache;
+    }
+
+    /**
+     * SHA-256 of the routes source bytes: every file of {@code config-routes.file} in load order, or
+     * {@code config-routes.string} when the file cannot be read. Identifies a catalog without
+     * parsing it.
+     */
+    @SuppressWarnings("findsecbugs:PATH_TRAVERSAL_IN")
+    public String sourceFingerprint() {
+        try {
+            return fileFingerprint();
+        } catch (IOException exception) {
+            var digest = sha256();
+            digest.update(String.valueOf(stringRoutes).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest());
+        }
+    }
+
+    /**
+     * SHA-256 of every file of {@code config-routes.file}, failing instead of falling back when one
+     * cannot be read.
+     */
+    @SuppressWarnings("findsecbugs:PATH_TRAVERSAL_IN")
+    private String fileFingerprint() throws IOException {
+        var digest = sha256();
+        try (var sink = new DigestOutputStream(OutputStream.nullOutputStream(), digest)) {
+            var files = RouteSources.isMultiple(fileRoutes) ? RouteSources.resolve(fileRoutes) : List.of(Path.of(fileRoutes));
+            for (Path file : files) {
+                try (var input = Files.newInputStream(file)) {
+                    input.transferTo(sink);
+                }
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    /**
+     * Serializing stash sized by {@code config-routes.cache.max-size}; when unset it is not capped,
+     * so the whole loaded catalog fits instead of silently losing entries.
+     */
+    private FunctionalCacheOps<ConfiguredRoute> stashCache() {
         Stash memoryStash = new MemoryStash.Builder()
-                .expireAfter(Integer.MAX_VALUE)
-                .maxSize(SIZE)
+                .expireAfter(cacheExpireAfterSeconds > 0
+                        ? (int) Math.min(cacheExpireAfterSeconds, Integer.MAX_VALUE) : Integer.MAX_VALUE)
+                .maxSize(cacheMaxSize > 0 ? (int) Math.min(cacheMaxSize, Integer.MAX_VALUE) : Integer.MAX_VALUE)
                 .build();
         ObjectCache<ConfiguredRoute> objectCache = new SingleTierObjectCacheUseCase<>(memoryStash,
-                new SerializatorHelper<>(new ObjectMapper()));
-        var cache = new FunctionalCacheOpsImpl<>(objectCache, ConfiguredRoute.class);
-        routeInformationLoaded(mapper, cache);
-        return cache;
+                new SerializatorHelper<>(ROUTES_MAPPER));
+        return new FunctionalCacheOpsImpl<>(objectCache, ConfiguredRoute.class);
     }
 
-    @SuppressWarnings("findsecbugs:PATH_TRAVERSAL_IN")
     public void routeInformationLoaded(Mapper mapper, FunctionalCacheOps<ConfiguredRoute> cacheOps) {
-        Mono.just(new File(fileRoutes))
+        var start = System.nanoTime();
+        var summary = new RouteLoadSummary();
+        loadRoutes(mapper, summary)
+                .doOnSubscribe(subscription -> loadStarted(cacheOps))
+                .map(this::validate)
+                .flatMap(validated -> saveValidated(cacheOps, validated, summary))
+                .then(Mono.fromSupplier(() -> summary.report(Duration.ofNanos(System.nanoTime() - start))))
+                .flatMap(report -> loadCompleted(cacheOps).thenReturn(report))
+                .subscribe(this::loadReported, this::loadFailed);
+    }
+
+    /**
+     * Runs the {@link RouteValidator} pass over a parsed catalog, logging what it dropped.
+     */
+    private RouteValidator.Result validate(List<ConfiguredRoute> routes) {
+        var validated = routeValidator.validate(routes);
+        if (validated.hasRejections()) {
+            techLogger.info(ROUTES_VALIDATED, validated);
+        }
+        return validated;
+    }
+
+    /**
+     * Writes the unique routes of {@code validated} through the cache's bulk operation, in chunks of
+     * {@code config-routes.bulk.chunk-size} routes with at most {@code config-routes.bulk.concurrency}
+     * chunks in flight, and records them in {@code summary}.
+     */
+    private Mono<List<ConfiguredRoute>> saveValidated(FunctionalCacheOps<ConfiguredRoute> cacheOps,
+                                                      RouteValidator.Result validated, RouteLoadSummary summary) {
+        var routes = validated.getRoutes();
+        routes.forEach(this::logRouteLoaded);
+        return BulkCacheOps.saveAll(cacheOps, validated.asMap(), bulkChunkSize, bulkConcurrency)
+                .doOnSuccess(saved -> routes.forEach(summary::loaded))
+                .thenReturn(routes);
+    }
+
+    /**
+     * Resolves several routes in one call, as fan-out requests need, through the cache's bulk lookup
+     * with the same chunking and concurrency cap as bulk saves.
+     *
+     * @return the routes found, by cache key; keys without a route are left out
+     */
+    public Mono<Map<String, ConfiguredRoute>> findRoutes(FunctionalCacheOps<ConfiguredRoute> cacheOps,
+                                                         Collection<String> routeKeys) {
+        return BulkCacheOps.findAll(cacheOps, routeKeys, bulkChunkSize, bulkConcurrency);
+    }
+
+    /**
+     * Full loads notify caches that keep per-load state: a {@link FilteredRouteCacheOps} swaps in the
+     * key filter built from the loaded keys, a {@link TwoTierRouteCacheOps} publishes a new shared
+     * catalog version.
+     */
+    private static void loadStarted(FunctionalCacheOps<ConfiguredRoute> cacheOps) {
+        if (cacheOps instanceof RouteLoadListener listener) {
+            listener.loadStarted();
+        }
+    }
+
+    /**
+     * Completes a full load in every load mode, blocking or not: notifies listeners, then logs the
+     * key filter and sized-cache stats. {@link RouteMetrics} follows the sized cache live instead.
+     */
+    private Mono<Void> loadCompleted(FunctionalCacheOps<ConfiguredRoute> cacheOps) {
+        var completed = cacheOps instanceof RouteLoadListener listener
+                ? listener.loadCompleted()
+                : Mono.<Void>empty();
+        return completed.then(Mono.fromRunnable(() -> {
+            if (ForwardingRouteCacheOps.unwrapped(cacheOps) instanceof FilteredRouteCacheOps filtered) {
+                techLogger.info(ROUTES_FILTER_STATS, filtered);
+            }
+            if (stored(cacheOps) instanceof EvictingRouteCacheOps evicting) {
+                techLogger.info(ROUTES_CACHE_STATS, evicting);
+            }
+        }));
+    }
+
+    private void loadReported(RouteLoadReport report) {
+        techLogger.info(ROUTES_LOAD_REPORT, report);
+        metrics().channelsLoaded(report.getRoutesPerChannel().keySet());
+        metrics().loadCompleted(report.getLoaded(), report.getDuration());
+        trace().load(fileRoutes != null ? fileRoutes : STRING_ROUTES_SOURCE, report.getLoaded() > 0,
+                report.getDuration().toNanos());
+    }
+
+    /**
+     * Error path of loads nobody waits for, which would otherwise fail without a trace.
+     */
+    private void loadFailed(Throwable error) {
+        techLogger.info(ROUTES_LOAD_FAILED, error.toString());
+        metrics().loadFailed(error);
+    }
+
+    /**
+     * Parses the configured routes into a fresh snapshot on a worker thread and publishes it to
+     * {@code registry} in one swap. Emits the number of published routes.
+     */
+    public Mono<Integer> reloadRoutes(Mapper mapper, RouteRegistry registry) {
+        return Mono.defer(() -> {
+            var start = System.nanoTime();
+            var summary = new RouteLoadSummary();
+            return loadRoutes(mapper, summary)
+                    .map(this::validate)
+                    .map(RouteValidator.Result::getRoutes)
+                    .map(routes -> {
+                        var previous = registry.publish(routes);
+                        techLogger.info(ROUTES_PUBLISHED, registry.size(), previous.size());
+                        routes.forEach(summary::loaded);
+                        loadReported(summary.report(Duration.ofNanos(System.nanoTime() - start)));
+                        return registry.size();
+                    });
+        }).subscribeOn(RouteLoadSchedulers.offload(loadExecution));
+    }
+
+    /**
+     * Scheduler that file reads and blocking {@link Mapper} calls of a load subscribe on, selected by
+     * {@code config-routes.load.execution}: {@code bounded-elastic} (the default, also used when the
+     * property is empty), {@code virtual-threads} (JDK 21, {@code bounded-elastic} elsewhere) or
+     * {@code caller}, which keeps them on the subscribing thread.
+     */
+    private Scheduler loadScheduler() {
+        return RouteLoadSchedulers.of(loadExecution);
+    }
+
+    /**
+     * Loads every route and completes only once all of them are saved in {@code cacheOps}. The file
+     * is read on the {@link #loadScheduler()}; elements are bound on the parallel scheduler with
+     * bounded concurrency (on the blocking offload scheduler when the fallback goes through the
+     * {@link Mapper}) in input order, then validated and deduplicated by the {@link RouteValidator},
+     * so the last duplicate still wins, and saved in one bulk write.
+     */
+    public Mono<RouteLoadReport> loadRoutesInParallel(Mapper mapper, FunctionalCacheOps<ConfiguredRoute> cacheOps) {
+        var start = System.nanoTime();
+        var parallelism = parallelism();
+        var summary = new RouteLoadSummary();
+        var routeElements = RouteSources.isMultiple(fileRoutes)
+                ? loadRouteSources(summary).map(RouteElements::new)
+                : Mono.fromCallable(() -> readRouteElements(mapper, summary)).subscribeOn(loadScheduler());
+        return routeElements
+                .doOnSubscribe(subscription -> loadStarted(cacheOps))
+                .flatMap(elements -> elements.routes(parallelism)
+                        .collectList()
+                        .map(this::validate)
+                        .flatMap(validated -> saveValidated(cacheOps, validated, summary))
+                        .doOnNext(routes -> writeSnapshot(elements.stamp, routes))
+                        .map(routes -> summary.report(Duration.ofNanos(System.nanoTime() - start))))
+                .flatMap(report -> loadCompleted(cacheOps).thenReturn(report))
+                .doOnNext(this::loadReported);
+    }
+
+    /**
+     * Elements bound, or source files read, at once: {@code config-routes.load.parallelism}, or the
+     * number of available processors when it is unset or not positive.
+     */
+    private int parallelism() {
+        return loadParallelism > 0 ? loadParallelism : Runtime.getRuntime().availableProcessors();
+    }
+
+    @SuppressWarnings("findsecbugs:PATH_TRAVERSAL_IN")
+    private RouteElements readRouteElements(Mapper mapper, RouteLoadSummary summary) throws IOException {
+        var file = new File(fileRoutes);
+        if (!file.exists()) {
+            return new RouteElements(this::bindNode, summary);
+        }
+        var stamp = sourceStamp();
+        var snapshot = readSnapshot(stamp);
+        if (snapshot.isPresent()) {
+            return new RouteElements(snapshot.get());
+        }
+        if (resilientLoad) {
+            List<RouteRejection> rejections = new ArrayList<>();
+            try (var reader = RouteElementReader.resilient(Files.newInputStream(file.toPath()),
+                    ROUTES_MAPPER.getFactory(), this::readValidNode, collected(rejections))) {
+                var elements = readRouteElements(reader, new RouteElements(this::bindNode, summary));
+                rejected(rejections, summary);
+                elements.stamp = stamp;
+                return elements;
+            }
+        }
+        try (var reader = RouteElementReader.strict(ROUTES_MAPPER.getFactory().createParser(file),
+                this::readValidNode, counted(summary))) {
+            var elements = readRouteElements(reader, new RouteElements(this::bindNode, summary));
+            elements.stamp = stamp;
+            return elements;
+        } catch (TechnicalException | IOException exception) {
+            techLogger.info(ERROR_READING_ROUTES_FROM_FILE);
+            summary.clear();
+            try (var reader = RouteElementReader.strict(ROUTES_MAPPER.getFactory().createParser(stringRoutes),
+                    this::readValidNode, counted(summary))) {
+                var elements = readRouteElements(reader, new RouteElements(node -> mapNode(node, mapper), summary));
+                elements.scheduler = RouteLoadSchedulers.offload(loadExecution);
+                return elements;
+            }
+        }
+    }
+
+    private static RouteElements readRouteElements(RouteElementReader<JsonNode> reader, RouteElements elements)
+            throws IOException {
+        JsonNode node;
+        while ((node = reader.next()) != null) {
+            elements.nodes.add(node);
+            elements.indices.add(reader.index());
+        }
+        return elements;
+    }
+
+    private static final class RouteElements {
+        private final List<JsonNode> nodes = new ArrayList<>();
+        private final List<Integer> indices = new ArrayList<>();
+        private final Function<JsonNode, ConfiguredRoute> binder;
+        private final List<ConfiguredRoute> snapshot;
+        private final RouteLoadSummary summary;
+        private RouteSnapshotFile.SourceStamp stamp;
+        private Scheduler scheduler = Schedulers.parallel();
+
+        private RouteElements(Function<JsonNode, ConfiguredRoute> binder, RouteLoadSummary summary) {
+            this.binder = binder;
+            this.snapshot = null;
+            this.summary = summary;
+        }
+
+        private RouteElements(List<ConfiguredRoute> snapshot) {
+            this.binder = null;
+            this.snapshot = snapshot;
+            this.summary = null;
+        }
+
+        private Flux<ConfiguredRoute> routes(int parallelism) {
+            if (snapshot != null) {
+                return Flux.fromIterable(snapshot);
+            }
+            return Flux.range(0, nodes.size())
+                    .flatMapSequential(position -> Mono.fromCallable(() -> bind(position))
+                            .subscribeOn(scheduler), parallelism);
+        }
+
+        private ConfiguredRoute bind(int position) {
+            var route = binder.apply(nodes.get(position));
+            if (route == null) {
+                summary.failed(indices.get(position));
+            }
+            return route;
+        }
+    }
+
+    /**
+     * Reads the binary snapshot configured in {@code config-routes.snapshot.file}, if it is present
+     * and was built from the current content of {@code config-routes.file}.
+     */
+    public Optional<List<ConfiguredRoute>> readSnapshot() {
+        return readSnapshot(sourceStamp());
+    }
+
+    @SuppressWarnings("findsecbugs:PATH_TRAVERSAL_IN")
+    private Optional<List<ConfiguredRoute>> readSnapshot(RouteSnapshotFile.SourceStamp stamp) {
+        return stamp == null ? Optional.empty() : SNAPSHOTS.read(Path.of(snapshotRoutes), stamp);
+    }
+
+    /**
+     * Stamps {@code config-routes.file} with its {@link #sourceFingerprint()} before it is read, to
+     * check the snapshot against and to write the snapshot built from it with.
+     *
+     * @return {@code null} when no snapshot is configured or the file cannot be read
+     */
+    private RouteSnapshotFile.SourceStamp sourceStamp() {
+        if (snapshotRoutes == null || snapshotRoutes.isBlank() || RouteSources.isMultiple(fileRoutes)) {
+            return null;
+        }
+        try {
+            return RouteSnapshotFile.SourceStamp.of(fileFingerprint());
+        } catch (IOException exception) {
+            return null;
+        }
+    }
+
+    @SuppressWarnings("findsecbugs:PATH_TRAVERSAL_IN")
+    private void writeSnapshot(RouteSnapshotFile.SourceStamp stamp, List<ConfiguredRoute> routes) {
+        if (stamp != null) {
+            SNAPSHOTS.write(Path.of(snapshotRoutes), stamp, routes);
+        }
+    }
+
+    @SuppressWarnings("findsecbugs:PATH_TRAVERSAL_IN")
+    public Mono<List<ConfiguredRoute>> loadRoutes(Mapper mapper) {
+        return loadRoutes(mapper, new RouteLoadSummary());
+    }
+
+    /**
+     * Same as {@link #loadRoutes(Mapper)}, recording skipped and failed array indices in
+     * {@code summary}. When the file cannot be read the summary describes the fallback load.
+     */
+    @SuppressWarnings("findsecbugs:PATH_TRAVERSAL_IN")
+    public Mono<List<ConfiguredRoute>> loadRoutes(Mapper mapper, RouteLoadSummary summary) {
+        if (RouteSources.isMultiple(fileRoutes)) {
+            return loadRouteSources(summary);
+        }
+        return Mono.just(new File(fileRoutes))
                 .filter(File::exists)
                 .flatMap(file -> {
-                    try {
-                        var jsonContent = new String(Files.readAllBytes(file.toPath()));
-                        return processJsonNodes(jsonContent, mapper);
+                    var stamp = sourceStamp();
+                    var snapshot = readSnapshot(stamp);
+                    if (snapshot.isPresent()) {
+                        return Mono.just(snapshot.get());
+                    }
+                    try (InputStream input = Files.newInputStream(file.toPath())) {
+                        var routes = resilientLoad
+                                ? Mono.just(readRoutesResilient(input, summary))
+                                : processJsonStream(input, summary);
+                        return routes.doOnNext(parsed -> writeSnapshot(stamp, parsed));
                     } catch (TechnicalException | IOException exception) {
                         techLogger.info(ERROR_READING_ROUTES_FROM_FILE);
-                        return processJsonNodes(stringRoutes, mapper);
+                        summary.clear();
+                        return processJsonNodes(stringRoutes, mapper, summary);
                     }
                 })
-                .flatMapIterable(configuredRoutes -> configuredRoutes)
-                .doOnNext(route -> techLogger.info(new StringBuilder(ROUTE_LOADED)
-                        .append(route.getChannel()).append("-").append(route.getTransaction())))
-                .flatMap(route -> cacheOps.saveInCache(key.apply(route), route))
-                .then()
-                .subscribe();
+                .subscribeOn(loadScheduler());
     }
 
+    public Mono<List<ConfiguredRoute>> processJsonNodes(String jsonContent, Mapper mapper) {
+        return processJsonNodes(jsonContent, mapper, new RouteLoadSummary());
+    }
 
     @SuppressWarnings("fb-contrib:EXS_EXCEPTION_SOFTENING_NO_CONSTRAINTS")
-    public Mono<List<ConfiguredRoute>> processJsonNodes(String jsonContent, Mapper mapper) {
-        List<ConfiguredRoute> validRoutes = new ArrayList<>();
-        var objectMapper = new ObjectMapper();
-        var jsonFactory = objectMapper.getFactory();
-        try (JsonParser parser = jsonFactory.createParser(jsonContent)) {
-            if (parser.nextToken() != JsonToken.START_ARRAY) {
-                throw new IllegalStateException(EXPECTED_AN_ARRAY);
-            }
-            while (parser.nextToken() != JsonToken.END_ARRAY) {
-                JsonNode node = readNode(parser, objectMapper);
-                if (isValidNode(node)) {
-                    ConfiguredRoute route = mapNode(node, mapper);
-                    if (route != null) {
-                        validRoutes.add(route);
-                    }
-                }
-            }
+    public Mono<List<ConfiguredRoute>> processJsonNodes(String jsonContent, Mapper mapper, RouteLoadSummary summary) {
+        try (var reader = RouteElementReader.strict(ROUTES_MAPPER.getFactory().createParser(jsonContent),
+                parser -> mapValidNode(parser, mapper), counted(summary))) {
+            return Mono.just(readAll(reader));
         } catch (IOException exception) {
             throw new TechnicalException(exception, JACKSON_MAPPER_ERROR);
         }
-        return Mono.just(validRoutes);
     }
 
 
-    private JsonNode readNode(JsonParser parser, ObjectMapper objectMapper) {
+    /**
+     * Streams the routes array from {@code input} and binds every valid element straight into a
+     * {@link ConfiguredRoute} through the shared {@link ObjectReader}, without buffering the file
+     * as text or building a tree of each element first.
+     */
+    public Mono<List<ConfiguredRoute>> processJsonStream(InputStream input) {
+        return processJsonStream(input, new RouteLoadSummary());
+    }
+
+    public Mono<List<ConfiguredRoute>> processJsonStream(InputStream input, RouteLoadSummary summary) {
+        return Mono.just(readRoutes(input, summary));
+    }
+
+    private List<ConfiguredRoute> readRoutes(InputStream input, RouteLoadSummary summary) {
+        try (var reader = RouteElementReader.strict(ROUTES_MAPPER.getFactory().createParser(input),
+                RoutesConfig::bindRoute, counted(summary))) {
+            return readAll(reader);
+        } catch (IOException exception) {
+            throw new TechnicalException(exception, JACKSON_MAPPER_ERROR);
+        }
+    }
+
+    /**
+     * Reads the routes array from {@code input} one element at a time, so a malformed element is
+     * rejected on its own and the elements after it still load. Each rejection carries the element
+     * index, its byte offset in {@code input} and the reason. Only the element being read is
+     * buffered.
+     */
+    public RouteLoadResult readRoutesResilient(InputStream input) {
+        List<RouteRejection> rejections = new ArrayList<>();
+        try (var reader = RouteElementReader.resilient(input, ROUTES_MAPPER.getFactory(), RoutesConfig::bindRoute,
+                collected(rejections))) {
+            return new RouteLoadResult(readAll(reader), rejections);
+        } catch (IOException exception) {
+            throw new TechnicalException(exception, JACKSON_MAPPER_ERROR);
+        }
+    }
+
+    private List<ConfiguredRoute> readRoutesResilient(InputStream input, RouteLoadSummary summary) {
+        var result = readRoutesResilient(input);
+        rejected(result.getRejections(), summary);
+        return result.getRoutes();
+    }
+
+    private List<ConfiguredRoute> readCompleteRoutes(InputStream input, RouteLoadSummary summary) {
+        var result = readRoutesResilient(input);
+        if (!result.isComplete()) {
+            throw new TechnicalException(JACKSON_MAPPER_ERROR);
+        }
+        rejected(result.getRejections(), summary);
+        return result.getRoutes();
+    }
+
+    private static <T> List<T> readAll(RouteElementReader<T> reader) throws IOException {
+        List<T> values = new ArrayList<>();
+        T value;
+        while ((value = reader.next()) != null) {
+            values.add(value);
+        }
+        return values;
+    }
+
+    /**
+     * Counts each element rejected by a strict read in {@code summary} and the metrics as it is
+     * read, logging why it failed.
+     */
+    private Consumer<RouteRejection> counted(RouteLoadSummary summary) {
+        return rejection -> {
+            recordRejection(rejection);
+            if (rejection.getReason() == RouteRejection.Reason.INVALID_ROUTE) {
+                summary.skipped(rejection.getIndex());
+                return;
+            }
+            techLogger.info(rejection.getReason() == RouteRejection.Reason.SYNTAX_ERROR
+                    ? ERROR_PROCESSING_READ_NODE : ERROR_PROCESSING_MAP_NODE, rejection.getDetail());
+            summary.failed(rejection.getIndex());
+        };
+    }
+
+    /**
+     * Collects each element rejected by a resilient read in {@code rejections}, counting it in the
+     * metrics, for {@link #rejected(List, RouteLoadSummary)} to report at once.
+     */
+    private Consumer<RouteRejection> collected(List<RouteRejection> rejections) {
+        return rejection -> {
+            recordRejection(rejection);
+            rejections.add(rejection);
+        };
+    }
+
+    private void recordRejection(RouteRejection rejection) {
+        if (rejection.getReason() == RouteRejection.Reason.INVALID_ROUTE) {
+            metrics().nodeSkipped();
+        } else {
+            metrics().nodeFailed();
+        }
+    }
+
+    private void rejected(List<RouteRejection> rejections, RouteLoadSummary summary) {
+        if (rejections.isEmpty()) {
+            return;
+        }
+        for (RouteRejection rejection : rejections) {
+            if (rejection.getReason() == RouteRejection.Reason.INVALID_ROUTE) {
+                summary.skipped(rejection.getIndex());
+            } else {
+                summary.failed(rejection.getIndex());
+            }
+        }
+        techLogger.info(ROUTES_REJECTED, rejections);
+    }
+
+    /**
+     * Lazily streams the valid routes of {@code input}: each element is read and bound only when
+     * downstream requests it, so memory stays bounded by the demand, not by the catalog size. The
+     * parser (and {@code input}) is closed on completion, error or cancellation.
+     */
+    public Flux<ConfiguredRoute> streamRoutes(InputStream input, RouteLoadSummary summary) {
+        return streamRoutes(() -> ROUTES_MAPPER.getFactory().createParser(input), summary);
+    }
+
+    @SuppressWarnings("findsecbugs:PATH_TRAVERSAL_IN")
+    private Flux<ConfiguredRoute> streamRoutes(Path path, RouteLoadSummary summary) {
+        return streamRoutes(() -> ROUTES_MAPPER.getFactory().createParser(path.toFile()), summary);
+    }
+
+    private Flux<ConfiguredRoute> streamRoutes(Callable<JsonParser> parser, RouteLoadSummary summary) {
+        return Flux.generate(
+                () -> RouteElementReader.strict(parser.call(), RoutesConfig::bindRoute, counted(summary)),
+                (RouteElementReader<ConfiguredRoute> reader, SynchronousSink<ConfiguredRoute> sink) -> {
+                    try {
+                        var route = reader.next();
+                        if (route == null) {
+                            sink.complete();
+                        } else {
+                            sink.next(route);
+                        }
+                    } catch (IOException exception) {
+                        sink.error(new TechnicalException(exception, JACKSON_MAPPER_ERROR));
+                    }
+                    return reader;
+                },
+                this::close);
+    }
+
+    private void close(RouteElementReader<?> reader) {
         try {
-            return objectMapper.readTree(parser);
+            reader.close();
         } catch (IOException exception) {
             techLogger.info(ERROR_PROCESSING_READ_NODE, exception.getMessage());
+        }
+    }
+
+    /**
+     * Streams the configured routes (every file of a directory or glob, in precedence order) for
+     * {@link #loadRoutesStreaming}. A single file that cannot be read falls back to
+     * {@code stringRoutes}; in a multi-file source it is logged and skipped.
+     */
+    @SuppressWarnings("findsecbugs:PATH_TRAVERSAL_IN")
+    public Flux<ConfiguredRoute> streamRoutes(Mapper mapper, RouteLoadSummary summary) {
+        if (RouteSources.isMultiple(fileRoutes)) {
+            return Mono.fromCallable(() -> RouteSources.resolve(fileRoutes))
+                    .flatMapMany(Flux::fromIterable)
+                    .concatMap(file -> streamRoutes(file, summary)
+                            .onErrorResume(RoutesConfig::isReadError, error -> {
+                                techLogger.info(ERROR_READING_ROUTES_SOURCE, file);
+                                return Flux.empty();
+                            }));
+        }
+        var path = Path.of(fileRoutes);
+        if (!Files.exists(path)) {
+            return Flux.empty();
+        }
+        return streamRoutes(path, summary)
+                .onErrorResume(RoutesConfig::isReadError, error -> {
+                    techLogger.info(ERROR_READING_ROUTES_FROM_FILE);
+                    return processJsonNodes(stringRoutes, mapper, summary).flatMapIterable(routes -> routes);
+                });
+    }
+
+    private static boolean isReadError(Throwable error) {
+        return error instanceof TechnicalException || error instanceof IOException;
+    }
+
+    /**
+     * Loads the configured routes into {@code cacheOps} as a stream: the next element is parsed
+     * only once earlier saves have drained, so peak memory is a fixed prefetch window of routes
+     * whatever the catalog size. Saves run in input order, so the last duplicate still wins.
+     */
+    public Mono<RouteLoadReport> loadRoutesStreaming(Mapper mapper, FunctionalCacheOps<ConfiguredRoute> cacheOps) {
+        return Mono.defer(() -> {
+            var start = System.nanoTime();
+            var summary = new RouteLoadSummary();
+            loadStarted(cacheOps);
+            return streamRoutes(mapper, summary)
+                    .subscribeOn(loadScheduler())
+                    .doOnNext(this::logRouteLoaded)
+                    .concatMap(route -> cacheOps.saveInCache(key.apply(route), route).thenReturn(route))
+                    .doOnNext(summary::loaded)
+                    .then(Mono.fromSupplier(() -> summary.report(Duration.ofNanos(System.nanoTime() - start))))
+                    .flatMap(report -> loadCompleted(cacheOps).thenReturn(report))
+                    .doOnNext(this::loadReported);
+        });
+    }
+
+    /**
+     * Reads every file named by a directory or glob {@code config-routes.file}, one task per file on
+     * the blocking offload scheduler, and merges them by {@link RouteSources#merge}: on a duplicated key the
+     * file that sorts last wins. Duplicates are logged; unreadable files are logged and skipped.
+     */
+    public Mono<List<ConfiguredRoute>> loadRouteSources(RouteLoadSummary summary) {
+        return loadRouteSources(summary, false);
+    }
+
+    /**
+     * @param strict fail on the first unreadable file instead of skipping it
+     */
+    private Mono<List<ConfiguredRoute>> loadRouteSources(RouteLoadSummary summary, boolean strict) {
+        return Mono.fromCallable(() -> RouteSources.resolve(fileRoutes))
+                .flatMap(files -> Flux.fromIterable(files)
+                        .flatMapSequential(file -> Mono.fromCallable(() -> readRouteSource(file, summary, strict))
+                                .subscribeOn(RouteLoadSchedulers.offload(loadExecution)), parallelism())
+                        .collectList()
+                        .map(routes -> {
+                            var merge = RouteSources.merge(files, routes, key);
+                            if (merge.getDuplicateCount() > 0) {
+                                techLogger.info(ROUTES_DUPLICATED, merge);
+                            }
+                            return merge.getRoutes();
+                        }));
+    }
+
+    private List<ConfiguredRoute> readRouteSource(Path file, RouteLoadSummary summary, boolean strict) {
+        try (InputStream input = Files.newInputStream(file)) {
+            return readRoutes(input, summary);
+        } catch (TechnicalException | IllegalStateException | IOException exception) {
+            if (strict) {
+                throw new TechnicalException(exception, JACKSON_MAPPER_ERROR);
+            }
+            techLogger.info(ERROR_READING_ROUTES_SOURCE, file);
+            return List.of();
+        }
+    }
+
+    /**
+     * Strict variant of {@link #loadRoutes(Mapper, RouteLoadSummary)} used by reloads: reads the
+     * same file, directory or glob sources, but any unreadable source fails the reload instead of
+     * being skipped or replaced by {@code stringRoutes}. A single-file source refreshes the
+     * snapshot like a full load. A resilient read still rejects malformed elements on their own, but
+     * a file that ends before its array is closed, as one still being written does, fails the reload
+     * rather than evicting every route past the cut.
+     */
+    @SuppressWarnings("findsecbugs:PATH_TRAVERSAL_IN")
+    public List<ConfiguredRoute> reloadRouteSources(RouteLoadSummary summary) {
+        if (RouteSources.isMultiple(fileRoutes)) {
+            return loadRouteSources(summary, true)
+                    .onErrorMap(IOException.class,
+                            exception -> new TechnicalException(exception, JACKSON_MAPPER_ERROR))
+                    .block();
+        }
+        var stamp = sourceStamp();
+        try (InputStream input = Files.newInputStream(Path.of(fileRoutes))) {
+            var routes = resilientLoad ? readCompleteRoutes(input, summary) : readRoutes(input, summary);
+            writeSnapshot(stamp, routes);
+            return routes;
+        } catch (IOException exception) {
+            throw new TechnicalException(exception, JACKSON_MAPPER_ERROR);
+        }
+    }
+
+    /**
+     * Reads the element into a tree, kept only when it has {@code channel} and {@code transaction}.
+     */
+    private JsonNode readValidNode(JsonParser parser) throws IOException {
+        JsonNode node = ROUTES_MAPPER.readTree(parser);
+        return isValidNode(node) ? node : null;
+    }
+
+    /**
+     * Binds the element straight from {@code parser} into a {@link ConfiguredRoute}, without building
+     * a tree first, kept only when it is an object with {@code channel} and {@code transaction}.
+     */
+    private static ConfiguredRoute bindRoute(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
             return null;
         }
+        ConfiguredRoute route = ROUTE_READER.readValue(parser);
+        return route.getChannel() != null && route.getTransaction() != null ? route : null;
+    }
+
+    /**
+     * Maps a valid element through {@code mapper}, which signals a route it cannot map by returning
+     * {@code null} or throwing.
+     */
+    private ConfiguredRoute mapValidNode(JsonParser parser, Mapper mapper) throws IOException {
+        var node = readValidNode(parser);
+        if (node == null) {
+            return null;
+        }
+        var route = mapper.readValues(node.toString(), ConfiguredRoute.class);
+        if (route == null) {
+            throw new TechnicalException(JACKSON_MAPPER_ERROR);
+        }
+        return route;
     }
 
     public ConfiguredRoute mapNode(JsonNode node, Mapper mapper) {
@@ -151,10 +1113,20 @@ public class RoutesConfig {
             return mapper.readValues(node.toString(), ConfiguredRoute.class);
         } catch (TechnicalException exception) {
             techLogger.info(ERROR_PROCESSING_MAP_NODE, exception.getMessage());
+            metrics().nodeFailed();
             return null;
         }
     }
 
+    public ConfiguredRoute bindNode(JsonNode node) {
+        try {
+            return ROUTE_READER.readValue(node);
+        } catch (IOException exception) {
+            techLogger.info(ERROR_PROCESSING_MAP_NODE, exception.getMessage());
+            metrics().nodeFailed();
+            return null;
+        }
+    }
 
     public boolean isValidNode(JsonNode node) {
         return node != null && node.has(CHANNEL) && node.has(TRANSACTION);
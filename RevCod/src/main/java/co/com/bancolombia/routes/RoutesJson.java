@@ -0,0 +1,99 @@
+package co.com.bancolombia.routes;
+
+import co.com.bancolombia.router.configuredroute.ConfiguredRoute;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.io.IOException;
+import java.util.List;
+
+import static com.fasterxml.jackson.databind.DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES;
+
+/**
+ * The one Jackson configuration of the routes module. Mappers are expensive to build and keep their
+ * serializer caches per instance, so the loader, the route cache serializer and the snapshot file
+ * share this mapper and its readers/writers instead of creating their own. All of them are
+ * thread-safe once built; the mapper must not be reconfigured after this class is initialized.
+ *
+ * <p>When Jackson Blackbird (or, failing that, Afterburner) is on the classpath it is registered so
+ * route binding uses generated accessors instead of reflection.
+ */
+public final class RoutesJson {
+
+    static final List<String> ACCESSOR_MODULES = List.of(
+            "com.fasterxml.jackson.module.blackbird.BlackbirdModule",
+            "com.fasterxml.jackson.module.afterburner.AfterburnerModule");
+    private static final String WARM_UP_ROUTE = "{\"channel\":\"\",\"transaction\":\"\"}";
+
+    private static final ObjectMapper MAPPER = registerAccessors(configure(new ObjectMapper()));
+    private static final ObjectReader ROUTE_READER = MAPPER.readerFor(ConfiguredRoute.class);
+    private static final ObjectWriter ROUTE_WRITER = MAPPER.writerFor(ConfiguredRoute.class);
+
+    static {
+        warmUp();
+    }
+
+    private RoutesJson() {
+    }
+
+    /**
+     * Applies the routes module settings to {@code objectMapper}, so mappers built elsewhere (such as
+     * the masking {@code objectMapperBean}) read routes the same way.
+     */
+    public static ObjectMapper configure(ObjectMapper objectMapper) {
+        return objectMapper
+                .enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS)
+                .disable(FAIL_ON_UNKNOWN_PROPERTIES);
+    }
+
+    public static ObjectMapper mapper() {
+        return MAPPER;
+    }
+
+    public static ObjectReader routeReader() {
+        return ROUTE_READER;
+    }
+
+    public static ObjectWriter routeWriter() {
+        return ROUTE_WRITER;
+    }
+
+    /**
+     * Name of the accessor module registered on the shared mapper, or {@code null} when binding
+     * falls back to plain reflection.
+     */
+    public static String accessorModule() {
+        return MAPPER.getRegisteredModuleIds().stream()
+                .map(String::valueOf)
+                .filter(id -> ACCESSOR_MODULES.stream().anyMatch(id::contains))
+                .findFirst()
+                .orElse(null);
+    }
+
+    static ObjectMapper registerAccessors(ObjectMapper objectMapper) {
+        for (String moduleClass : ACCESSOR_MODULES) {
+            try {
+                var module = Class.forName(moduleClass).getDeclaredConstructor().newInstance();
+                return objectMapper.registerModule((Module) module);
+            } catch (ReflectiveOperationException | LinkageError exception) {
+                // not on the classpath, try the next one
+            }
+        }
+        return objectMapper;
+    }
+
+    /**
+     * Builds the route deserializer and serializer up front so the first load does not pay for
+     * introspecting {@link ConfiguredRoute}.
+     */
+    private static void warmUp() {
+        try {
+            ROUTE_WRITER.writeValueAsBytes(ROUTE_READER.readValue(WARM_UP_ROUTE));
+        } catch (IOException exception) {
+            // warming up is best effort, the first real read builds the same caches
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package co.com.bancolombia.routes;
+
+import co.com.bancolombia.router.configuredroute.ConfiguredRoute;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Route store shared by every replica, such as a Redis-compatible stash, behind the near-caches of
+ * {@link TwoTierRouteCacheOps}. Besides the routes it keeps a catalog version, bumped whenever a
+ * load or reload is published so near-caches know their entries are stale, and the fingerprint of
+ * the source that version was loaded from, so replicas starting on the same source skip parsing it.
+ */
+public interface SharedRouteStore {
+
+    Mono<ConfiguredRoute> get(String key);
+
+    Mono<ConfiguredRoute> put(String key, ConfiguredRoute route);
+
+    Mono<Boolean> remove(String key);
+
+    /**
+     * Stores a whole catalog. Stores with a pipelined or multi-key write should override the
+     * default of one {@link #put} per route.
+     *
+     * @return number of routes stored
+     */
+    default Mono<Integer> putAll(Map<String, ConfiguredRoute> routes) {
+        return Flux.fromIterable(routes.entrySet())
+                .concatMap(entry -> put(entry.getKey(), entry.getValue()))
+                .then(Mono.fromSupplier(routes::size));
+    }
+
+    /**
+     * Reads many routes at once. Stores with a multi-key read should override the default of one
+     * {@link #get} per key.
+     *
+     * @return the routes found, by key; keys without a route are left out
+     */
+    default Mono<Map<String, ConfiguredRoute>> getAll(Collection<String> keys) {
+        return Flux.fromIterable(keys)
+                .concatMap(key -> get(key).map(route -> Map.entry(key, route)))
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue);
+    }
+
+    /**
+     * @return keys of every stored route
+     */
+    Flux<String> keys();
+
+    /**
+     * Removes every stored route whose key is not in {@code keep}, so a full load leaves no route
+     * behind that its catalog dropped. Stores with a server-side set difference should override the
+     * default of one {@link #remove} per stale key.
+     *
+     * @return number of routes removed
+     */
+    default Mono<Long> retainAll(Set<String> keep) {
+        return keys()
+                .filter(key -> !keep.contains(key))
+                .concatMap(this::remove)
+                .filter(Boolean::booleanValue)
+                .count();
+    }
+
+    /**
+     * @return current catalog version, {@code 0} before anything was published
+     */
+    Mono<Long> version();
+
+    /**
+     * @return fingerprint of the last published source, empty before anything was published
+     */
+    Mono<String> fingerprint();
+
+    /**
+     * Atomically bumps the catalog version and records the source it was loaded from.
+     *
+     * @return the new version
+     */
+    Mono<Long> publish(String fingerprint);
+}
@@ -0,0 +1,69 @@
+package co.com.bancolombia.routes;
+
+import co.com.bancolombia.d2b.model.cache.FunctionalCacheOps;
+import co.com.bancolombia.router.configuredroute.ConfiguredRoute;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Decorates the route cache to record sampled lookups in a {@link RouteTrace}. Lookups that are not
+ * sampled go straight to the delegate, without timing or building a key. Saves are passed through
+ * untouched.
+ */
+public class TracingRouteCacheOps extends ForwardingRouteCacheOps {
+
+    private final RouteTrace trace;
+
+    public TracingRouteCacheOps(FunctionalCacheOps<ConfiguredRoute> delegate, RouteTrace trace) {
+        super(delegate);
+        this.trace = trace;
+    }
+
+    @Override
+    public Mono<ConfiguredRoute> getFromCache(String key) {
+        if (!trace.sampled()) {
+            return super.getFromCache(key);
+        }
+        return Mono.defer(() -> {
+            var start = System.nanoTime();
+            return super.getFromCache(key)
+                    .doOnNext(route -> trace.lookup(key, true, System.nanoTime() - start))
+                    .switchIfEmpty(Mono.fromRunnable(() -> trace.lookup(key, false, System.nanoTime() - start)));
+        });
+    }
+
+    /**
+     * Traces every key of a sampled batch, each with an equal share of the batch latency.
+     */
+    @Override
+    public Mono<Map<String, ConfiguredRoute>> findAll(Collection<String> keys) {
+        var lookup = super.findAll(keys);
+        if (!trace.sampled()) {
+            return lookup;
+        }
+        return Mono.defer(() -> {
+            var start = System.nanoTime();
+            return lookup.doOnNext(found -> {
+                var share = (System.nanoTime() - start) / Math.max(keys.size(), 1);
+                keys.forEach(key -> trace.lookup(key, found.containsKey(key), share));
+            });
+        });
+    }
+
+    @Override
+    ConfiguredRoute findIndexed(RouteLookup lookup, String channel, String transaction) {
+        if (!trace.sampled()) {
+            return lookup.find(channel, transaction);
+        }
+        var start = System.nanoTime();
+        var route = lookup.find(channel, transaction);
+        trace.lookup(RouteKey.of(channel, transaction), route != null, System.nanoTime() - start);
+        return route;
+    }
+
+    public RouteTrace trace() {
+        return trace;
+    }
+}
@@ -0,0 +1,229 @@
+package co.com.bancolombia.routes;
+
+import co.com.bancolombia.d2b.model.cache.FunctionalCacheOps;
+import co.com.bancolombia.router.configuredroute.ConfiguredRoute;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Route cache in two tiers: a bounded in-process near-cache in front of a {@link SharedRouteStore}
+ * that every replica reads, so the catalog is loaded into the shared store once instead of into
+ * each replica. Writes go to both tiers. The near-cache is invalidated by version: at most once per
+ * check interval a lookup reads the shared catalog version, and when another replica has published
+ * a newer one every near entry is dropped and refetched on demand. The near-cache expiry bounds how
+ * long an entry fetched while a publish was in flight can stay stale. A full load records the keys
+ * it saves and, when it completes, removes every other route from both tiers before publishing, so
+ * routes dropped from the catalog do not outlive the load that dropped them.
+ */
+public class TwoTierRouteCacheOps implements FunctionalCacheOps<ConfiguredRoute>, EvictableCacheOps,
+        RouteLoadListener, BulkCacheOps {
+
+    private static final long UNKNOWN_VERSION = -1;
+
+    private final SharedRouteStore shared;
+    private final Cache<String, ConfiguredRoute> near;
+    private final long versionCheckNanos;
+    private final Supplier<String> fingerprint;
+    private final AtomicLong nextVersionCheck = new AtomicLong(System.nanoTime());
+    private final LongAdder invalidations = new LongAdder();
+    private volatile long version = UNKNOWN_VERSION;
+    private volatile Set<String> loading;
+
+    /**
+     * @param fingerprint identifies the routes source, recorded in the shared store on every publish
+     */
+    public TwoTierRouteCacheOps(SharedRouteStore shared, long nearCapacity, Duration nearExpireAfterWrite,
+                                Duration versionCheckInterval, Supplier<String> fingerprint) {
+        this.shared = shared;
+        this.versionCheckNanos = Math.max(versionCheckInterval.toNanos(), 0);
+        this.fingerprint = fingerprint;
+        var builder = Caffeine.newBuilder().recordStats();
+        if (nearCapacity > 0) {
+            builder.maximumSize(nearCapacity);
+        }
+        if (nearExpireAfterWrite != null && !nearExpireAfterWrite.isZero() && !nearExpireAfterWrite.isNegative()) {
+            builder.expireAfterWrite(nearExpireAfterWrite);
+        }
+        this.near = builder.executor(Runnable::run).build();
+    }
+
+    @Override
+    public Mono<ConfiguredRoute> saveInCache(String key, ConfiguredRoute value) {
+        return shared.put(key, value).doOnNext(route -> {
+            near.put(key, route);
+            var loaded = loading;
+            if (loaded != null) {
+                loaded.add(key);
+            }
+        });
+    }
+
+    @Override
+    public Mono<Integer> saveAll(Map<String, ConfiguredRoute> routes) {
+        return shared.putAll(routes).doOnNext(saved -> {
+            near.putAll(routes);
+            var loaded = loading;
+            if (loaded != null) {
+                loaded.addAll(routes.keySet());
+            }
+        });
+    }
+
+    @Override
+    public Mono<ConfiguredRoute> getFromCache(String key) {
+        var lookup = Mono.defer(() -> {
+            var route = near.getIfPresent(key);
+            if (route != null) {
+                return Mono.just(route);
+            }
+            var seen = version;
+            return shared.get(key).doOnNext(fetched -> {
+                if (version == seen) {
+                    near.put(key, fetched);
+                }
+            });
+        });
+        var check = versionCheck();
+        return check == null ? lookup : check.then(lookup);
+    }
+
+    /**
+     * Serves what the near-cache holds and reads the rest from the shared store in one
+     * {@link SharedRouteStore#getAll} call, with the same version check as single lookups.
+     */
+    @Override
+    public Mono<Map<String, ConfiguredRoute>> findAll(Collection<String> keys) {
+        var lookup = Mono.defer(() -> {
+            Map<String, ConfiguredRoute> found = new HashMap<>(near.getAllPresent(keys));
+            if (found.size() == keys.size()) {
+                return Mono.just(found);
+            }
+            List<String> missing = new ArrayList<>(keys.size() - found.size());
+            for (var key : keys) {
+                if (!found.containsKey(key)) {
+                    missing.add(key);
+                }
+            }
+            var seen = version;
+            return shared.getAll(missing).map(fetched -> {
+                if (version == seen) {
+                    near.putAll(fetched);
+                }
+                found.putAll(fetched);
+                return found;
+            });
+        });
+        var check = versionCheck();
+        return check == null ? lookup : check.then(lookup);
+    }
+
+    @Override
+    public Mono<Boolean> evict(String key) {
+        return shared.remove(key).doOnNext(removed -> near.invalidate(key));
+    }
+
+    /**
+     * Starts recording the keys saved by a full load; routes are written through to the shared
+     * store as they are saved.
+     */
+    @Override
+    public void loadStarted() {
+        loading = ConcurrentHashMap.newKeySet();
+    }
+
+    /**
+     * Publishes the loaded catalog. After a full load, routes the load did not save are first removed
+     * from the shared store and the near-cache; then the shared version is bumped so other replicas
+     * drop their near entries. This replica's near-cache was filled by the load itself and is kept.
+     * A completion without a started load (an incremental reload) only publishes.
+     */
+    @Override
+    public Mono<Void> loadCompleted() {
+        var loaded = loading;
+        loading = null;
+        var prune = loaded == null
+                ? Mono.<Void>empty()
+                : shared.retainAll(loaded).doOnNext(removed -> near.asMap().keySet().retainAll(loaded)).then();
+        return prune.then(Mono.fromSupplier(fingerprint))
+                .flatMap(shared::publish)
+                .doOnNext(published -> version = published)
+                .then();
+    }
+
+    /**
+     * @return whether the shared store already holds a catalog published from the current source,
+     *         in which case this replica can serve it without loading
+     */
+    public Mono<Boolean> isPublished() {
+        return Mono.fromSupplier(fingerprint)
+                .flatMap(current -> shared.fingerprint().filter(current::equals))
+                .flatMap(published -> shared.version())
+                .doOnNext(this::observe)
+                .hasElement();
+    }
+
+    /**
+     * @return the version read from the shared store when a check is due, {@code null} otherwise
+     */
+    private Mono<Void> versionCheck() {
+        var now = System.nanoTime();
+        var due = nextVersionCheck.get();
+        if (now - due < 0 || !nextVersionCheck.compareAndSet(due, now + versionCheckNanos)) {
+            return null;
+        }
+        return shared.version().doOnNext(this::observe).then();
+    }
+
+    private void observe(long sharedVersion) {
+        if (sharedVersion != version) {
+            near.invalidateAll();
+            if (version != UNKNOWN_VERSION) {
+                invalidations.increment();
+            }
+            version = sharedVersion;
+        }
+    }
+
+    public SharedRouteStore shared() {
+        return shared;
+    }
+
+    /**
+     * @return last catalog version seen in the shared store, {@code -1} before the first check
+     */
+    public long version() {
+        return version;
+    }
+
+    public long nearSize() {
+        near.cleanUp();
+        return near.estimatedSize();
+    }
+
+    /**
+     * @return times the near-cache was dropped because a newer catalog version was published
+     */
+    public long invalidationCount() {
+        return invalidations.sum();
+    }
+
+    @Override
+    public String toString() {
+        var stats = near.stats();
+        return "version=" + version + ", nearSize=" + nearSize() + ", nearHits=" + stats.hitCount()
+                + ", nearMisses=" + stats.missCount() + ", invalidations=" + invalidationCount();
+    }
+}
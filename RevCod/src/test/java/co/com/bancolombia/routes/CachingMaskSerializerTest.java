@@ -0,0 +1,174 @@
+package co.com.bancolombia.routes;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CachingMaskSerializerTest {
+    public static final String ACCOUNT_TYPE = "savings";
+    public static final String CHANNEL = "D2B";
+
+    private FakeKms kms;
+    private MaskedValueCache cache;
+    private ObjectMapper objectMapper;
+
+    public static class Secret {
+        public String value;
+
+        Secret(String value) {
+            this.value = value;
+        }
+    }
+
+    public static class Opaque {
+    }
+
+    /**
+     * In-memory stand-in for the KMS-backed serializer: "encrypts" by reversing and counts calls.
+     */
+    static class FakeKms extends StdSerializer<Object> {
+        private final AtomicInteger calls = new AtomicInteger();
+        private volatile CountDownLatch gate = new CountDownLatch(0);
+
+        FakeKms() {
+            super(Object.class);
+        }
+
+        @Override
+        public void serialize(Object value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            calls.incrementAndGet();
+            try {
+                gate.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+            var plain = value instanceof Secret secret ? secret.value : "opaque";
+            gen.writeString(new StringBuilder(plain).reverse().toString());
+        }
+    }
+
+    @BeforeEach
+    void init() {
+        kms = new FakeKms();
+        cache = new MaskedValueCache(100, Duration.ofMinutes(5));
+        objectMapper = mapperFor(cache);
+    }
+
+    private ObjectMapper mapperFor(MaskedValueCache maskedValueCache) {
+        var module = new SimpleModule();
+        module.addSerializer(Secret.class,
+                new CachingMaskSerializer(Secret.class, kms, maskedValueCache, RoutesJson.mapper().writer()));
+        module.addSerializer(Opaque.class,
+                new CachingMaskSerializer(Opaque.class, kms, maskedValueCache, RoutesJson.mapper().writer()));
+        return new ObjectMapper().registerModule(module);
+    }
+
+    @Test
+    void shouldCallKmsOncePerDistinctValue() throws Exception {
+        var payload = List.of(new Secret(ACCOUNT_TYPE), new Secret(CHANNEL), new Secret(ACCOUNT_TYPE),
+                new Secret(ACCOUNT_TYPE), new Secret(CHANNEL));
+
+        var json = objectMapper.writeValueAsString(payload);
+
+        assertEquals("[\"sgnivas\",\"B2D\",\"sgnivas\",\"sgnivas\",\"B2D\"]", json);
+        assertEquals(2, kms.calls.get());
+        assertEquals(3, cache.hitCount());
+        assertEquals(2, cache.missCount());
+    }
+
+    @Test
+    void shouldReplayCachedValueInsideObjects() throws Exception {
+        objectMapper.writeValueAsString(new Secret(ACCOUNT_TYPE));
+
+        var json = objectMapper.writeValueAsString(Map.of("account", new Secret(ACCOUNT_TYPE)));
+
+        assertEquals("{\"account\":\"sgnivas\"}", json);
+        assertEquals(1, kms.calls.get());
+    }
+
+    @Test
+    void shouldDeduplicateConcurrentRequestsForTheSameValue() throws Exception {
+        kms.gate = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            results.add(executor.submit(() -> objectMapper.writeValueAsString(new Secret(ACCOUNT_TYPE))));
+        }
+        Thread.sleep(100);
+        kms.gate.countDown();
+
+        for (Future<String> result : results) {
+            assertEquals("\"sgnivas\"", result.get(5, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+        assertEquals(1, kms.calls.get());
+    }
+
+    @Test
+    void shouldBoundCachedValues() throws Exception {
+        var bounded = new MaskedValueCache(2, Duration.ZERO);
+        var mapper = mapperFor(bounded);
+
+        for (int i = 0; i < 50; i++) {
+            mapper.writeValueAsString(new Secret(String.valueOf(i)));
+        }
+
+        assertTrue(bounded.size() <= 2);
+        assertEquals(2, bounded.capacity());
+    }
+
+    @Test
+    void shouldExpireCachedValues() throws Exception {
+        var expiring = new MaskedValueCache(10, Duration.ofMillis(50));
+        var mapper = mapperFor(expiring);
+
+        mapper.writeValueAsString(new Secret(ACCOUNT_TYPE));
+        Thread.sleep(120);
+        mapper.writeValueAsString(new Secret(ACCOUNT_TYPE));
+
+        assertEquals(2, kms.calls.get());
+    }
+
+    @Test
+    void shouldKeyCacheByKeyedDigestInsteadOfPlainValue() {
+        var serializer = new CachingMaskSerializer(Secret.class, kms, cache, RoutesJson.mapper().writer());
+        var key = serializer.key(new Secret(ACCOUNT_TYPE));
+
+        assertFalse(key.contains(ACCOUNT_TYPE));
+        assertEquals(key, serializer.key(new Secret(ACCOUNT_TYPE)));
+        assertNotEquals(key, serializer.key(new Secret(CHANNEL)));
+        var otherCache = new MaskedValueCache(100, Duration.ofMinutes(5));
+        assertNotEquals(key, new CachingMaskSerializer(Secret.class, kms, otherCache, RoutesJson.mapper().writer())
+                .key(new Secret(ACCOUNT_TYPE)));
+    }
+
+    @Test
+    void shouldCallKmsDirectlyForValuesWithoutPlainForm() throws Exception {
+        objectMapper.writeValueAsString(new Opaque());
+        objectMapper.writeValueAsString(new Opaque());
+
+        assertEquals(2, kms.calls.get());
+        assertEquals(0, cache.size());
+    }
+}
@@ -0,0 +1,87 @@
+package co.com.bancolombia.routes;
+
+import co.com.bancolombia.router.configuredroute.ConfiguredRoute;
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EvictingRouteCacheOpsTest {
+    public static final String D2B = "D2B";
+    public static final String KEY = "D2B-9540";
+
+    @Test
+    void shouldKeepMoreThanNineHundredNinetyNineRoutesWhenUnbounded() {
+        var cacheOps = new EvictingRouteCacheOps(0, Duration.ZERO);
+
+        for (int i = 0; i < 5_000; i++) {
+            cacheOps.saveInCache(D2B + "-" + i, route(String.valueOf(i))).block();
+        }
+
+        assertEquals(5_000, cacheOps.size());
+        assertEquals(0, cacheOps.evictionCount());
+        assertEquals(-1, cacheOps.capacity());
+    }
+
+    @Test
+    void shouldEvictAndCountWhenOverCapacity() {
+        var cacheOps = new EvictingRouteCacheOps(100, Duration.ZERO);
+
+        for (int i = 0; i < 1_000; i++) {
+            cacheOps.saveInCache(D2B + "-" + i, route(String.valueOf(i))).block();
+        }
+
+        assertTrue(cacheOps.size() <= 100);
+        assertEquals(1_000 - cacheOps.size(), cacheOps.evictionCount());
+        assertEquals(100, cacheOps.capacity());
+    }
+
+    @Test
+    void shouldReportEvictionsToMetricsAsTheyHappen() {
+        var metrics = new RouteMetricsRecorder();
+        var cacheOps = new EvictingRouteCacheOps(10, Duration.ZERO, metrics);
+
+        for (int i = 0; i < 100; i++) {
+            cacheOps.saveInCache(D2B + "-" + i, route(String.valueOf(i))).block();
+        }
+
+        assertEquals(cacheOps.evictionCount(), metrics.cacheEvictions());
+        assertTrue(metrics.cacheEvictions() >= 90);
+    }
+
+    @Test
+    void shouldRecordHitsAndMisses() {
+        var cacheOps = new EvictingRouteCacheOps(10, Duration.ofMinutes(1));
+        cacheOps.saveInCache(KEY, route("9540")).block();
+
+        StepVerifier.create(cacheOps.getFromCache(KEY))
+                .expectNextCount(1)
+                .verifyComplete();
+        assertNull(cacheOps.get("D2B-0000"));
+
+        assertEquals(1, cacheOps.stats().hitCount());
+        assertEquals(1, cacheOps.stats().missCount());
+    }
+
+    @Test
+    void shouldEvictSingleKeyWithoutCountingAsEviction() {
+        var cacheOps = new EvictingRouteCacheOps(10, Duration.ZERO);
+        cacheOps.saveInCache(KEY, route("9540")).block();
+        assertNotNull(cacheOps.get(KEY));
+
+        StepVerifier.create(cacheOps.evict(KEY))
+                .expectNext(true)
+                .verifyComplete();
+
+        assertEquals(0, cacheOps.evictionCount());
+    }
+
+    private static ConfiguredRoute route(String transaction) {
+        return ConfiguredRoute.builder().channel(D2B).transaction(transaction).build();
+    }
+}
@@ -0,0 +1,186 @@
+package co.com.bancolombia.routes;
+
+import co.com.bancolombia.d2b.model.cache.FunctionalCacheOps;
+import co.com.bancolombia.router.configuredroute.ConfiguredRoute;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class FilteredRouteCacheOpsTest {
+    public static final String D2B = "D2B";
+    public static final String NUMBER = "9540";
+    public static final String KEY = "D2B-9540";
+    public static final String OTHER_KEY = "APP-1000";
+    public static final double RATE = 0.01;
+
+    @Mock
+    private FunctionalCacheOps<ConfiguredRoute> stash;
+
+    private InMemoryRouteCacheOps memory;
+    private ConfiguredRoute route;
+
+    @BeforeEach
+    void init() {
+        memory = new InMemoryRouteCacheOps();
+        route = ConfiguredRoute.builder().channel(D2B).transaction(NUMBER).build();
+    }
+
+    @Test
+    void shouldPassThroughUntilFirstLoadFinishes() {
+        var cacheOps = new FilteredRouteCacheOps(stash, 100, RATE);
+        when(stash.getFromCache(OTHER_KEY)).thenReturn(Mono.empty());
+
+        StepVerifier.create(cacheOps.getFromCache(OTHER_KEY)).verifyComplete();
+
+        verify(stash).getFromCache(OTHER_KEY);
+        assertEquals(0, cacheOps.filterHits());
+        assertEquals(0, cacheOps.falsePositives());
+    }
+
+    @Test
+    void shouldRejectUnknownKeyWithoutTouchingCache() {
+        when(stash.saveInCache(KEY, route)).thenReturn(Mono.just(route));
+        when(stash.getFromCache(KEY)).thenReturn(Mono.just(route));
+        var cacheOps = new FilteredRouteCacheOps(stash, 100, RATE);
+
+        load(cacheOps);
+
+        StepVerifier.create(cacheOps.getFromCache(KEY)).expectNext(route).verifyComplete();
+        StepVerifier.create(cacheOps.getFromCache(OTHER_KEY)).verifyComplete();
+        verify(stash, never()).getFromCache(OTHER_KEY);
+        assertEquals(1, cacheOps.filterHits());
+    }
+
+    @Test
+    void shouldCountFalsePositiveWhenCacheMisses() {
+        var cacheOps = new FilteredRouteCacheOps(memory, 100, RATE);
+        load(cacheOps);
+        memory.evict(KEY).block();
+
+        StepVerifier.create(cacheOps.getFromCache(KEY)).verifyComplete();
+
+        assertEquals(0, cacheOps.filterHits());
+        assertEquals(1, cacheOps.falsePositives());
+    }
+
+    @Test
+    void shouldFindThroughDelegateIndex() {
+        var filtered = new FilteredRouteCacheOps(memory, 100, RATE);
+        var cacheOps = assertInstanceOf(RouteLookup.class, ForwardingRouteCacheOps.indexed(filtered));
+        load(filtered);
+
+        assertSame(route, cacheOps.find(D2B, NUMBER));
+        assertNull(cacheOps.find("APP", "1000"));
+        assertNull(cacheOps.find(D2B, null));
+        assertEquals(1, filtered.filterHits());
+    }
+
+    @Test
+    void shouldNotOfferSynchronousLookupOverReactiveCache() {
+        var cacheOps = ForwardingRouteCacheOps.indexed(new FilteredRouteCacheOps(stash, 100, RATE));
+
+        assertFalse(cacheOps instanceof RouteLookup);
+    }
+
+    @Test
+    void shouldAcceptKeySavedAfterLoad() {
+        var cacheOps = new FilteredRouteCacheOps(memory, 100, RATE);
+        load(cacheOps);
+        var other = ConfiguredRoute.builder().channel("APP").transaction("1000").build();
+
+        cacheOps.saveInCache(OTHER_KEY, other).block();
+
+        StepVerifier.create(cacheOps.getFromCache(OTHER_KEY)).expectNext(other).verifyComplete();
+    }
+
+    @Test
+    void shouldDropKeysMissingFromNextLoad() {
+        var cacheOps = new FilteredRouteCacheOps(stash, 100, RATE);
+        when(stash.saveInCache(anyString(), any())).thenReturn(Mono.just(route));
+        load(cacheOps);
+
+        cacheOps.startLoad();
+        cacheOps.saveInCache(OTHER_KEY, route).block();
+        cacheOps.finishLoad();
+
+        StepVerifier.create(cacheOps.getFromCache(KEY)).verifyComplete();
+        assertEquals(1, cacheOps.filterHits());
+    }
+
+    @Test
+    void shouldRebuildFromKeySet() {
+        var cacheOps = new FilteredRouteCacheOps(stash, 100, RATE);
+        when(stash.getFromCache(OTHER_KEY)).thenReturn(Mono.empty());
+
+        cacheOps.rebuild(List.of(OTHER_KEY));
+
+        StepVerifier.create(cacheOps.getFromCache(KEY)).verifyComplete();
+        StepVerifier.create(cacheOps.getFromCache(OTHER_KEY)).verifyComplete();
+        assertEquals(1, cacheOps.filterHits());
+        assertEquals(1, cacheOps.falsePositives());
+    }
+
+    @Test
+    void shouldLookUpOnlyKeysPassingFilterInBulk() {
+        var cacheOps = new FilteredRouteCacheOps(memory, 100, RATE);
+        load(cacheOps);
+
+        StepVerifier.create(cacheOps.findAll(List.of(KEY, OTHER_KEY)))
+                .expectNext(Map.of(KEY, route))
+                .verifyComplete();
+        StepVerifier.create(cacheOps.findAll(List.of(OTHER_KEY)))
+                .expectNext(Map.of())
+                .verifyComplete();
+        assertEquals(2, cacheOps.filterHits());
+        assertEquals(0, cacheOps.falsePositives());
+    }
+
+    @Test
+    void shouldSizeFilterByLoadedKeysRatherThanExpectation() {
+        var filtered = new FilteredRouteCacheOps(memory, 10, RATE);
+        var cacheOps = (RouteLookup) ForwardingRouteCacheOps.indexed(filtered);
+        Map<String, ConfiguredRoute> routes = new HashMap<>();
+        for (int i = 0; i < 10_000; i++) {
+            var loaded = ConfiguredRoute.builder().channel(D2B).transaction(String.valueOf(i)).build();
+            routes.put(RouteKey.of(loaded), loaded);
+        }
+
+        filtered.startLoad();
+        filtered.saveAll(routes).block();
+        filtered.finishLoad();
+        for (int i = 0; i < 10_000; i++) {
+            assertNull(cacheOps.find("APP", String.valueOf(i)));
+        }
+
+        assertTrue(filtered.falsePositives() < 10_000 * RATE * 3, "false positives: " + filtered.falsePositives());
+        assertEquals(10_000 - filtered.falsePositives(), filtered.filterHits());
+        assertTrue(filtered.toString().contains("keys=10000"), filtered.toString());
+    }
+
+    private void load(FilteredRouteCacheOps cacheOps) {
+        cacheOps.startLoad();
+        cacheOps.saveInCache(KEY, route).block();
+        cacheOps.finishLoad();
+    }
+}
@@ -0,0 +1,138 @@
+package co.com.bancolombia.routes;
+
+import co.com.bancolombia.router.configuredroute.ConfiguredRoute;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class InMemoryRouteCacheOpsTest {
+    public static final String D2B = "D2B";
+    public static final String NUMBER = "9540";
+    public static final String KEY = "D2B-9540";
+    public static final String MISSING_KEY = "D2B-0000";
+
+    private InMemoryRouteCacheOps cacheOps;
+    private ConfiguredRoute route;
+
+    @BeforeEach
+    void init() {
+        cacheOps = new InMemoryRouteCacheOps();
+        route = ConfiguredRoute.builder().channel(D2B).transaction(NUMBER).build();
+    }
+
+    @Test
+    void shouldReturnSavedRouteByReference() {
+        StepVerifier.create(cacheOps.saveInCache(KEY, route))
+                .expectNext(route)
+                .verifyComplete();
+
+        StepVerifier.create(cacheOps.getFromCache(KEY))
+                .expectNextMatches(found -> found == route)
+                .verifyComplete();
+        assertSame(route, cacheOps.get(KEY));
+    }
+
+    @Test
+    void shouldCompleteEmptyForMissingKey() {
+        StepVerifier.create(cacheOps.getFromCache(MISSING_KEY))
+                .verifyComplete();
+        assertNull(cacheOps.get(MISSING_KEY));
+    }
+
+    @Test
+    void shouldFindRouteByChannelAndTransaction() {
+        cacheOps.saveInCache(KEY, route).block();
+
+        assertSame(route, cacheOps.find(D2B, NUMBER));
+        assertNull(cacheOps.find(D2B, "0000"));
+        assertNull(cacheOps.find("APP", NUMBER));
+        assertNull(cacheOps.find(null, NUMBER));
+    }
+
+    @Test
+    void shouldDropIndexedRouteOnEvictAndReplace() {
+        var replacement = ConfiguredRoute.builder().channel(D2B).transaction(NUMBER).build();
+        cacheOps.saveInCache(KEY, route).block();
+        cacheOps.saveInCache(KEY, replacement).block();
+
+        assertSame(replacement, cacheOps.find(D2B, NUMBER));
+
+        cacheOps.evict(KEY).block();
+
+        assertNull(cacheOps.find(D2B, NUMBER));
+    }
+
+    @Test
+    void shouldMoveIndexEntryWhenKeyGetsAnotherTransaction() {
+        var moved = ConfiguredRoute.builder().channel(D2B).transaction("9541").build();
+        cacheOps.saveInCache(KEY, route).block();
+
+        cacheOps.saveInCache(KEY, moved).block();
+
+        assertNull(cacheOps.find(D2B, NUMBER));
+        assertSame(moved, cacheOps.find(D2B, "9541"));
+    }
+
+    @Test
+    void shouldKeepPresentKeyIndexedWhileItIsReplaced() throws InterruptedException {
+        cacheOps.saveInCache(KEY, route).block();
+        var writer = new Thread(() -> {
+            for (int i = 0; i < 50_000; i++) {
+                cacheOps.saveInCache(KEY, ConfiguredRoute.builder().channel(D2B).transaction(NUMBER).build()).block();
+            }
+        });
+        writer.start();
+        var misses = 0;
+        while (writer.isAlive()) {
+            if (cacheOps.find(D2B, NUMBER) == null) {
+                misses++;
+            }
+        }
+        writer.join();
+
+        assertEquals(0, misses);
+    }
+
+    @Test
+    void shouldSaveAllAndIndexRoutes() {
+        var other = ConfiguredRoute.builder().channel("APP").transaction(NUMBER).build();
+        var routes = new LinkedHashMap<String, ConfiguredRoute>();
+        routes.put(KEY, route);
+        routes.put("APP-9540", other);
+
+        StepVerifier.create(cacheOps.saveAll(routes))
+                .expectNext(2)
+                .verifyComplete();
+
+        assertEquals(2, cacheOps.size());
+        assertSame(route, cacheOps.find(D2B, NUMBER));
+        assertSame(other, cacheOps.find("APP", NUMBER));
+    }
+
+    @Test
+    void shouldFindAllPresentRoutes() {
+        cacheOps.saveInCache(KEY, route).block();
+
+        StepVerifier.create(cacheOps.findAll(List.of(MISSING_KEY, KEY)))
+                .expectNext(Map.of(KEY, route))
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldNotStoreUntilSubscribed() {
+        var save = cacheOps.saveInCache(KEY, route);
+        assertEquals(0, cacheOps.size());
+
+        save.block();
+
+        assertEquals(1, cacheOps.size());
+    }
+}
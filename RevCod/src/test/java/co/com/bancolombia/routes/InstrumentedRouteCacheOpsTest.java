@@ -0,0 +1,74 @@
+package co.com.bancolombia.routes;
+
+import co.com.bancolombia.d2b.model.cache.FunctionalCacheOps;
+import co.com.bancolombia.router.configuredroute.ConfiguredRoute;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class InstrumentedRouteCacheOpsTest {
+    public static final String D2B = "D2B";
+    public static final String NUMBER = "9540";
+    public static final String KEY = "D2B-9540";
+
+    @Mock
+    private FunctionalCacheOps<ConfiguredRoute> stash;
+
+    private RouteMetricsRecorder metrics;
+    private ConfiguredRoute route;
+
+    @BeforeEach
+    void init() {
+        metrics = new RouteMetricsRecorder();
+        metrics.channelsLoaded(List.of(D2B));
+        route = ConfiguredRoute.builder().channel(D2B).transaction(NUMBER).build();
+    }
+
+    @Test
+    void shouldRecordHitAndMissOnGetFromCache() {
+        var cacheOps = new InstrumentedRouteCacheOps(stash, metrics);
+        when(stash.getFromCache(KEY)).thenReturn(Mono.just(route));
+        when(stash.getFromCache("D2B-0000")).thenReturn(Mono.empty());
+
+        StepVerifier.create(cacheOps.getFromCache(KEY)).expectNext(route).verifyComplete();
+        StepVerifier.create(cacheOps.getFromCache("D2B-0000")).verifyComplete();
+
+        assertEquals(1, metrics.hits(D2B));
+        assertEquals(1, metrics.misses(D2B));
+    }
+
+    @Test
+    void shouldFindThroughDelegateIndex() {
+        var memory = new InMemoryRouteCacheOps();
+        memory.saveInCache(KEY, route).block();
+        var cacheOps = assertInstanceOf(ForwardingRouteCacheOps.Indexed.class,
+                ForwardingRouteCacheOps.indexed(new InstrumentedRouteCacheOps(memory, metrics)));
+
+        assertSame(route, cacheOps.find(D2B, NUMBER));
+        assertNull(cacheOps.find(D2B, "0000"));
+
+        assertEquals(1, metrics.hits(D2B));
+        assertEquals(1, metrics.misses(D2B));
+    }
+
+    @Test
+    void shouldNotOfferSynchronousLookupOverReactiveCache() {
+        var cacheOps = ForwardingRouteCacheOps.indexed(new InstrumentedRouteCacheOps(stash, metrics));
+
+        assertFalse(cacheOps instanceof RouteLookup);
+    }
+}
@@ -0,0 +1,51 @@
+package co.com.bancolombia.routes;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LatencyHistogramTest {
+
+    @Test
+    void shouldMapValuesToContiguousBuckets() {
+        for (long value = 0; value < 100_000; value++) {
+            var index = LatencyHistogram.index(value);
+            assertTrue(LatencyHistogram.upperBound(index) >= value);
+            if (index > 0) {
+                assertTrue(LatencyHistogram.upperBound(index - 1) < value);
+            }
+        }
+    }
+
+    @Test
+    void shouldReportPercentilesWithinBucketPrecision() {
+        var histogram = new LatencyHistogram();
+        for (long nanos = 1; nanos <= 1_000; nanos++) {
+            histogram.record(nanos * 1_000);
+        }
+
+        assertEquals(1_000, histogram.count());
+        assertWithin(500_000, histogram.percentile(0.5));
+        assertWithin(990_000, histogram.percentile(0.99));
+    }
+
+    @Test
+    void shouldReportZeroWhenEmpty() {
+        assertEquals(0, new LatencyHistogram().percentile(0.99));
+    }
+
+    @Test
+    void shouldHandleExtremeValues() {
+        var histogram = new LatencyHistogram();
+        histogram.record(-5);
+        histogram.record(Long.MAX_VALUE);
+
+        assertEquals(0, histogram.percentile(0.5));
+        assertEquals(Long.MAX_VALUE, histogram.percentile(1));
+    }
+
+    private static void assertWithin(long expected, long actual) {
+        assertTrue(actual >= expected && actual <= expected * 1.125, "expected ~" + expected + " but was " + actual);
+    }
+}
@@ -0,0 +1,140 @@
+package co.com.bancolombia.routes;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MaskBatchWriterTest {
+    public static final long KMS_LATENCY_MS = 20;
+    public static final int DISTINCT_VALUES = 40;
+
+    public static class Secret {
+        public String value;
+
+        Secret(String value) {
+            this.value = value;
+        }
+    }
+
+    public static class Statement {
+        public List<Secret> accounts = new ArrayList<>();
+    }
+
+    /**
+     * Stub KMS serializer with a fixed round-trip latency; tracks calls and peak concurrency.
+     */
+    static class LatencyKms extends StdSerializer<Object> {
+        private final long latencyMs;
+        private final AtomicInteger calls = new AtomicInteger();
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicInteger maxInFlight = new AtomicInteger();
+
+        LatencyKms(long latencyMs) {
+            super(Object.class);
+            this.latencyMs = latencyMs;
+        }
+
+        @Override
+        public void serialize(Object value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            calls.incrementAndGet();
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(latencyMs);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            } finally {
+                inFlight.decrementAndGet();
+            }
+            gen.writeString("enc(" + ((Secret) value).value + ")");
+        }
+    }
+
+    private static ObjectMapper maskingMapper(LatencyKms kms) {
+        var cache = new MaskedValueCache(10_000, Duration.ofMinutes(5));
+        var module = new SimpleModule();
+        module.addSerializer(Secret.class,
+                new CachingMaskSerializer(Secret.class, kms, cache, RoutesJson.mapper().writer()));
+        return new ObjectMapper().registerModule(module);
+    }
+
+    private static Statement statement(int fields) {
+        var statement = new Statement();
+        for (int i = 0; i < fields; i++) {
+            statement.accounts.add(new Secret("account-" + i % DISTINCT_VALUES));
+        }
+        return statement;
+    }
+
+    @Test
+    void shouldWriteSameOutputAsSequentialSerialization() throws Exception {
+        var payload = statement(200);
+        var kms = new LatencyKms(0);
+
+        var batched = new MaskBatchWriter(maskingMapper(kms), 8).writeValueAsString(payload);
+
+        assertEquals(maskingMapper(new LatencyKms(0)).writeValueAsString(payload), batched);
+        assertEquals(DISTINCT_VALUES, kms.calls.get());
+    }
+
+    @Test
+    void shouldResolveUncachedValuesConcurrentlyWithinBound() {
+        var kms = new LatencyKms(5);
+
+        new MaskBatchWriter(maskingMapper(kms), 4).writeValueAsString(statement(100));
+
+        assertEquals(DISTINCT_VALUES, kms.calls.get());
+        assertTrue(kms.maxInFlight.get() <= 4);
+        assertTrue(kms.maxInFlight.get() > 1);
+    }
+
+    @Test
+    void shouldWriteInOnePassWhenEverythingIsCached() {
+        var kms = new LatencyKms(0);
+        var writer = new MaskBatchWriter(maskingMapper(kms), 8);
+        writer.writeValueAsString(statement(100));
+
+        var json = writer.writeValueAsString(statement(100));
+
+        assertEquals(DISTINCT_VALUES, kms.calls.get());
+        assertTrue(json.contains("enc(account-0)"));
+    }
+
+    @Test
+    void shouldWriteWithoutBlockingOnNonBlockingThread() {
+        var kms = new LatencyKms(KMS_LATENCY_MS);
+        var writer = new MaskBatchWriter(maskingMapper(kms), 16);
+
+        StepVerifier.create(Mono.defer(() -> writer.write(statement(400))).subscribeOn(Schedulers.parallel()))
+                .assertNext(json -> assertTrue(json.contains("enc(account-" + (DISTINCT_VALUES - 1) + ")")))
+                .verifyComplete();
+
+        assertEquals(DISTINCT_VALUES, kms.calls.get());
+        assertTrue(kms.maxInFlight.get() <= 16);
+        assertTrue(kms.maxInFlight.get() > 1);
+    }
+
+    @Test
+    void shouldRefuseBlockingWriteOnNonBlockingThread() {
+        var writer = new MaskBatchWriter(maskingMapper(new LatencyKms(0)), 4);
+
+        StepVerifier.create(Mono.fromCallable(() -> writer.writeValueAsString(statement(10)))
+                        .subscribeOn(Schedulers.parallel()))
+                .expectError(IllegalStateException.class)
+                .verify();
+    }
+}
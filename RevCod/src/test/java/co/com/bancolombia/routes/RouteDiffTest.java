@@ -0,0 +1,48 @@
+package co.com.bancolombia.routes;
+
+import co.com.bancolombia.router.configuredroute.ConfiguredRoute;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RouteDiffTest {
+    public static final String D2B = "D2B";
+    public static final String KEPT = "D2B-9540";
+    public static final String CHANGED = "D2B-9541";
+    public static final String REMOVED = "D2B-9542";
+    public static final String ADDED = "D2B-9543";
+
+    @Test
+    void shouldClassifyAddedChangedAndRemovedRoutes() {
+        Map<String, ConfiguredRoute> previous = Map.of(
+                KEPT, route("9540"),
+                CHANGED, route("9541"),
+                REMOVED, route("9542"));
+        Map<String, ConfiguredRoute> current = Map.of(
+                KEPT, route("9540"),
+                CHANGED, route("changed"),
+                ADDED, route("9543"));
+
+        var diff = RouteDiff.between(previous, current);
+
+        assertEquals(Set.of(ADDED), diff.getAdded().keySet());
+        assertEquals(Set.of(CHANGED), diff.getChanged().keySet());
+        assertEquals(Set.of(REMOVED), diff.getRemoved());
+        assertEquals(Set.of(ADDED, CHANGED), diff.upserts().keySet());
+    }
+
+    @Test
+    void shouldBeEmptyForIdenticalLoads() {
+        Map<String, ConfiguredRoute> routes = Map.of(KEPT, route("9540"));
+
+        assertTrue(RouteDiff.between(routes, Map.of(KEPT, route("9540"))).isEmpty());
+    }
+
+    private static ConfiguredRoute route(String transaction) {
+        return ConfiguredRoute.builder().channel(D2B).transaction(transaction).build();
+    }
+}
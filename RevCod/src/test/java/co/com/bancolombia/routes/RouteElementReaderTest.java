@@ -0,0 +1,107 @@
+package co.com.bancolombia.routes;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RouteElementReaderTest {
+    public static final String D2B_ROUTE = "{\"channel\":\"D2B\",\"transaction\":\"9540\"}";
+    public static final String APP_ROUTE = "{\"channel\":\"APP\",\"transaction\":\"1000\"}";
+
+    private final List<RouteRejection> rejections = new ArrayList<>();
+
+    @Test
+    void shouldReadSameElementsWithEitherFraming() throws IOException {
+        var json = "[" + D2B_ROUTE + ",{\"invalid\":true},3," + APP_ROUTE + "]";
+
+        var strict = readAll(strict(json, RouteElementReaderTest::channel));
+        var strictRejections = new ArrayList<>(rejections);
+        rejections.clear();
+        var resilient = readAll(resilient(json, RouteElementReaderTest::channel));
+
+        assertEquals(List.of("D2B", "APP"), strict);
+        assertEquals(strict, resilient);
+        assertEquals(List.of(1, 2), strictRejections.stream().map(RouteRejection::getIndex).toList());
+        assertEquals(List.of(1, 2), rejections.stream().map(RouteRejection::getIndex).toList());
+        assertEquals(json.indexOf("{\"invalid\""), rejections.get(0).getByteOffset());
+        assertEquals(RouteRejection.Reason.INVALID_ROUTE, strictRejections.get(0).getReason());
+    }
+
+    @Test
+    void shouldSkipRestOfElementThatFailsToBind() throws IOException {
+        var json = "[{\"channel\":\"D2B\",\"fail\":{\"a\":[1]},\"transaction\":\"1\"}," + APP_ROUTE + "]";
+        RouteElementReader.ElementBinder<String> failing = parser -> {
+            parser.nextToken();
+            parser.nextToken();
+            throw JsonMappingException.from(parser, "cannot bind");
+        };
+
+        try (var reader = strict(json, failing)) {
+            assertNull(reader.next());
+        }
+
+        assertEquals(List.of(0, 1), rejections.stream().map(RouteRejection::getIndex).toList());
+        assertEquals(RouteRejection.Reason.MAPPING_ERROR, rejections.get(1).getReason());
+        assertEquals("cannot bind", rejections.get(1).getDetail());
+    }
+
+    @Test
+    void shouldRejectContentAfterScannedElement() throws IOException {
+        var routes = readAll(resilient("[" + D2B_ROUTE + " 2," + APP_ROUTE + "]", RouteElementReaderTest::channel));
+
+        assertEquals(List.of("APP"), routes);
+        assertEquals(RouteRejection.Reason.SYNTAX_ERROR, rejections.get(0).getReason());
+        assertEquals(RouteElementReader.TRAILING_TOKENS, rejections.get(0).getDetail());
+    }
+
+    @Test
+    void shouldFailStrictReadOfTruncatedArray() throws IOException {
+        try (var reader = strict("[" + D2B_ROUTE, RouteElementReaderTest::channel)) {
+            assertEquals("D2B", reader.next());
+            assertThrows(IOException.class, reader::next);
+        }
+    }
+
+    private RouteElementReader<String> strict(String json, RouteElementReader.ElementBinder<String> binder)
+            throws IOException {
+        return RouteElementReader.strict(RoutesJson.mapper().getFactory().createParser(json), binder,
+                rejections::add);
+    }
+
+    private RouteElementReader<String> resilient(String json, RouteElementReader.ElementBinder<String> binder) {
+        return RouteElementReader.resilient(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)),
+                RoutesJson.mapper().getFactory(), binder, rejections::add);
+    }
+
+    private static List<String> readAll(RouteElementReader<String> reader) throws IOException {
+        List<String> values = new ArrayList<>();
+        try (reader) {
+            String value;
+            while ((value = reader.next()) != null) {
+                values.add(value);
+            }
+        }
+        return values;
+    }
+
+    private static String channel(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return null;
+        }
+        JsonNode node = RoutesJson.mapper().readTree(parser);
+        return node.has("transaction") ? node.get("channel").asText() : null;
+    }
+}
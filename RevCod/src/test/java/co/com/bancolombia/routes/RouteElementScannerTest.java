@@ -0,0 +1,108 @@
+package co.com.bancolombia.routes;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RouteElementScannerTest {
+    public static final String D2B_ROUTE = "{\"channel\":\"D2B\",\"transaction\":\"9540\"}";
+
+    @Test
+    void shouldSplitTopLevelElementsWithOffsets() throws IOException {
+        var json = "[" + D2B_ROUTE + ", {\"a\":[1,{\"b\":2}]} ,3]";
+
+        var elements = scan(json);
+
+        assertEquals(3, elements.size());
+        assertEquals(D2B_ROUTE, text(elements.get(0)));
+        assertEquals(1, elements.get(0).byteOffset);
+        assertEquals(json.indexOf("{\"a\""), elements.get(1).byteOffset);
+        assertEquals("3", text(elements.get(2)));
+        assertEquals(2, elements.get(2).index);
+    }
+
+    @Test
+    void shouldIgnoreSeparatorsAndBracketsInsideStrings() throws IOException {
+        var element = "{\"channel\":\"a,]}\\\"[\",\"transaction\":\"1\"}";
+
+        var elements = scan("[" + element + "]");
+
+        assertEquals(1, elements.size());
+        assertEquals(element, text(elements.get(0)));
+    }
+
+    @Test
+    void shouldResumeAfterStringBrokenByLineBreak() throws IOException {
+        var elements = scan("[{\"channel\":\"D2B,\n \"transaction\":\"1\"},\n" + D2B_ROUTE + "]");
+
+        assertEquals(2, elements.size());
+        assertTrue(elements.get(0).brokenString);
+        assertFalse(elements.get(1).brokenString);
+        assertEquals(D2B_ROUTE, text(elements.get(1)));
+    }
+
+    @Test
+    void shouldResumeAtNextElementWhenClosingBraceIsMissing() throws IOException {
+        var json = "[" + D2B_ROUTE + ",{\"channel\":\"D2B\",\"details\":{\"a\":[1,{\"b\":2}]}, \n"
+                + D2B_ROUTE + "," + D2B_ROUTE + "]";
+
+        var elements = scan(json);
+
+        assertEquals(4, elements.size());
+        assertEquals("{\"channel\":\"D2B\",\"details\":{\"a\":[1,{\"b\":2}]}", text(elements.get(1)));
+        assertFalse(elements.get(1).truncated);
+        assertEquals(D2B_ROUTE, text(elements.get(2)));
+        assertEquals(json.indexOf(D2B_ROUTE, json.indexOf("\n")), elements.get(2).byteOffset);
+        assertEquals(D2B_ROUTE, text(elements.get(3)));
+    }
+
+    @Test
+    void shouldMarkElementCutByEndOfInput() throws IOException {
+        var elements = scan("[" + D2B_ROUTE + ",{\"channel\":\"D2");
+
+        assertEquals(2, elements.size());
+        assertFalse(elements.get(0).truncated);
+        assertTrue(elements.get(1).truncated);
+    }
+
+    @Test
+    void shouldReadEmptyArrayAfterByteOrderMark() throws IOException {
+        var bom = new byte[]{(byte) 0xEF, (byte) 0xBB, (byte) 0xBF, '[', ' ', ']'};
+
+        try (var scanner = new RouteElementScanner(new ByteArrayInputStream(bom))) {
+            assertNull(scanner.next());
+        }
+    }
+
+    @Test
+    void shouldRejectInputThatIsNotAnArray() throws IOException {
+        try (var scanner = new RouteElementScanner(new ByteArrayInputStream(D2B_ROUTE.getBytes()))) {
+            assertThrows(IllegalStateException.class, scanner::next);
+        }
+    }
+
+    private static List<RouteElementScanner.Element> scan(String json) throws IOException {
+        List<RouteElementScanner.Element> elements = new ArrayList<>();
+        try (var scanner = new RouteElementScanner(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)))) {
+            RouteElementScanner.Element element;
+            while ((element = scanner.next()) != null) {
+                elements.add(element);
+            }
+        }
+        return elements;
+    }
+
+    private static String text(RouteElementScanner.Element element) {
+        return new String(element.bytes, StandardCharsets.UTF_8).trim();
+    }
+}
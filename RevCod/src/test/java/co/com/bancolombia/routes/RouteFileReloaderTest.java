@@ -0,0 +1,157 @@
+package co.com.bancolombia.routes;
+
+import co.com.bancolombia.d2b.model.cache.FunctionalCacheOps;
+import co.com.bancolombia.exceptions.TechnicalException;
+import co.com.bancolombia.router.configuredroute.ConfiguredRoute;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static co.com.bancolombia.exceptions.messages.TechnicalErrorMessage.JACKSON_MAPPER_ERROR;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RouteFileReloaderTest {
+    public static final String D2B = "D2B";
+    public static final String ROUTES_FILE = "routes.json";
+
+    @Mock
+    private FunctionalCacheOps<ConfiguredRoute> cacheOps;
+
+    private final Function<ConfiguredRoute, String> key = conf -> conf.getChannel() + "-" + conf.getTransaction();
+    private final List<Object> fileContents = new ArrayList<>();
+    private final List<RouteLoadReport> reports = new ArrayList<>();
+
+    @BeforeEach
+    void init() {
+        fileContents.clear();
+        reports.clear();
+    }
+
+    @Test
+    void shouldSaveOnlyAddedRoutesOnSecondLoad() {
+        when(cacheOps.saveInCache(anyString(), any())).thenAnswer(invocation -> Mono.just(invocation.getArgument(1)));
+        var reloader = reloader(cacheOps);
+        fileContents.add(List.of(route("9540")));
+        fileContents.add(List.of(route("9540"), route("9541")));
+
+        assertTrue(reloader.reload());
+        assertTrue(reloader.reload());
+
+        verify(cacheOps, times(1)).saveInCache(eq("D2B-9540"), any());
+        verify(cacheOps, times(1)).saveInCache(eq("D2B-9541"), any());
+        verifyNoMoreInteractions(cacheOps);
+    }
+
+    @Test
+    void shouldIgnoreInvalidFileAndKeepPreviousRoutes() {
+        var registry = new RouteRegistry(key);
+        var reloader = reloader(registry);
+        fileContents.add(List.of(route("9540")));
+        fileContents.add(new TechnicalException(JACKSON_MAPPER_ERROR));
+
+        assertTrue(reloader.reload());
+        assertFalse(reloader.reload());
+
+        assertNotNull(registry.find("D2B-9540"));
+        assertEquals(1, reloader.loaded().size());
+    }
+
+    @Test
+    void shouldApplyRemovalsToRegistryAndKeepUnchangedInstances() {
+        var registry = new RouteRegistry(key);
+        var reloader = reloader(registry);
+        var kept = route("9540");
+        fileContents.add(List.of(kept, route("9541")));
+        fileContents.add(List.of(route("9540")));
+
+        reloader.reload();
+        reloader.reload();
+
+        assertSame(kept, registry.find("D2B-9540"));
+        assertNull(registry.find("D2B-9541"));
+    }
+
+    @Test
+    void shouldEvictRemovedRoutesFromInMemoryCache() {
+        var memory = new InMemoryRouteCacheOps();
+        var reloader = reloader(memory);
+        fileContents.add(List.of(route("9540"), route("9541")));
+        fileContents.add(List.of(route("9541")));
+
+        reloader.reload();
+        reloader.reload();
+
+        assertNull(memory.get("D2B-9540"));
+        assertEquals(1, memory.size());
+    }
+
+    @Test
+    void shouldEvictThroughKeyFilterAndRebuildIt() {
+        var memory = new InMemoryRouteCacheOps();
+        var filtered = new FilteredRouteCacheOps(memory, 100, 0.01);
+        var cache = ForwardingRouteCacheOps.indexed(filtered);
+        var reloader = reloader(cache);
+        fileContents.add(List.of(route("9540"), route("9541")));
+        fileContents.add(List.of(route("9541")));
+
+        reloader.reload();
+        reloader.reload();
+
+        assertNull(memory.get("D2B-9540"));
+        assertNull(((RouteLookup) cache).find(D2B, "9540"));
+        assertSame(memory.get("D2B-9541"), ((RouteLookup) cache).find(D2B, "9541"));
+        assertEquals(1, filtered.filterHits());
+    }
+
+    @Test
+    void shouldValidateReloadedRoutesAndReportThem() {
+        var memory = new InMemoryRouteCacheOps();
+        var reloader = reloader(memory);
+        fileContents.add(List.of(route("9540"), route(" "), route("9541"), route("9540")));
+
+        assertTrue(reloader.reload());
+
+        assertEquals(2, memory.size());
+        assertEquals(2, reloader.loaded().size());
+        assertEquals(1, reports.size());
+        assertEquals(2, reports.get(0).getLoaded());
+    }
+
+    private RouteFileReloader reloader(FunctionalCacheOps<ConfiguredRoute> target) {
+        return new RouteFileReloader(ROUTES_FILE, summary -> nextContent(), new RouteValidator(key)::validate,
+                target, reports::add);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<ConfiguredRoute> nextContent() {
+        var content = fileContents.remove(0);
+        if (content instanceof RuntimeException exception) {
+            throw exception;
+        }
+        return (List<ConfiguredRoute>) content;
+    }
+
+    private static ConfiguredRoute route(String transaction) {
+        return ConfiguredRoute.builder().channel(D2B).transaction(transaction).build();
+    }
+}
@@ -0,0 +1,98 @@
+package co.com.bancolombia.routes;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RouteFileWatcherTest {
+    public static final String ROUTES_FILE = "routes.json";
+    public static final Duration DEBOUNCE = Duration.ofMillis(100);
+    public static final Duration POLL_INTERVAL = Duration.ofMillis(20);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldDebounceBurstOfChangesIntoSingleCallback() throws Exception {
+        var file = Files.writeString(directory.resolve(ROUTES_FILE), "[]");
+        var calls = new AtomicInteger();
+        var latch = new CountDownLatch(1);
+
+        try (var watcher = new RouteFileWatcher(file, DEBOUNCE, POLL_INTERVAL, () -> {
+            calls.incrementAndGet();
+            latch.countDown();
+        })) {
+            for (int i = 0; i < 5; i++) {
+                watcher.changed();
+            }
+            assertTrue(latch.await(2, TimeUnit.SECONDS));
+            Thread.sleep(DEBOUNCE.toMillis() * 2);
+        }
+
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void shouldDetectChangesByPolling() throws Exception {
+        var file = Files.writeString(directory.resolve(ROUTES_FILE), "[]");
+        var latch = new CountDownLatch(1);
+
+        try (var ignored = new RouteFileWatcher(file, DEBOUNCE, POLL_INTERVAL, latch::countDown).start(true)) {
+            touch(file, "[{}]");
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    void shouldDetectChangesWithWatchService() throws Exception {
+        var file = Files.writeString(directory.resolve(ROUTES_FILE), "[]");
+        var latch = new CountDownLatch(1);
+
+        try (var ignored = new RouteFileWatcher(file, DEBOUNCE, POLL_INTERVAL, latch::countDown).start(false)) {
+            touch(file, "[{}]");
+            assertTrue(latch.await(15, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    void shouldDetectFileAddedToWatchedDirectory() throws Exception {
+        Files.writeString(directory.resolve(ROUTES_FILE), "[]");
+        var latch = new CountDownLatch(1);
+
+        try (var ignored = RouteFileWatcher.ofSources(directory.toString(), DEBOUNCE, POLL_INTERVAL,
+                latch::countDown).start(true)) {
+            Files.writeString(directory.resolve("more-routes.json"), "[{}]");
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    void shouldPollGlobSources() throws Exception {
+        var nested = Files.createDirectories(directory.resolve("cards"));
+        var file = Files.writeString(nested.resolve(ROUTES_FILE), "[]");
+        var latch = new CountDownLatch(1);
+
+        try (var ignored = RouteFileWatcher.ofSources(directory + "/**/*.json", DEBOUNCE, POLL_INTERVAL,
+                latch::countDown).start(false)) {
+            touch(file, "[{}]");
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        }
+    }
+
+    private static void touch(Path file, String content) throws IOException {
+        Files.writeString(file, content);
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().plusSeconds(5)));
+    }
+}
@@ -0,0 +1,84 @@
+package co.com.bancolombia.routes;
+
+import co.com.bancolombia.router.configuredroute.ConfiguredRoute;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RouteIndexTest {
+    public static final String D2B = "D2B";
+    public static final String APP = "APP";
+
+    private final ConfiguredRoute exact = route(D2B, "9540");
+    private final ConfiguredRoute shortPrefix = route(D2B, "9*");
+    private final ConfiguredRoute longPrefix = route(D2B, "95*");
+    private final ConfiguredRoute channelDefault = route(D2B, "*");
+    private final RouteIndex index = RouteIndex.of(List.of(exact, shortPrefix, longPrefix, channelDefault,
+            route(APP, "9541")));
+
+    private static ConfiguredRoute route(String channel, String transaction) {
+        return ConfiguredRoute.builder().channel(channel).transaction(transaction).build();
+    }
+
+    @Test
+    void shouldPreferExactTransaction() {
+        assertSame(exact, index.find(D2B, "9540"));
+    }
+
+    @Test
+    void shouldPickLongestMatchingPrefix() {
+        assertSame(longPrefix, index.find(D2B, "9541"));
+        assertSame(longPrefix, index.find(D2B, "95"));
+        assertSame(shortPrefix, index.find(D2B, "9600"));
+    }
+
+    @Test
+    void shouldFallBackToChannelDefault() {
+        assertSame(channelDefault, index.find(D2B, "1000"));
+        assertSame(channelDefault, index.find(D2B, ""));
+    }
+
+    @Test
+    void shouldNotResolveAcrossChannels() {
+        assertNull(index.find(APP, "9540"));
+        assertNull(index.find("SVP", "9540"));
+        assertNull(index.find(null, "9540"));
+        assertNull(index.find(D2B, null));
+    }
+
+    @Test
+    void shouldIgnorePatternsOnExactLookup() {
+        assertSame(exact, index.findExact(D2B, "9540"));
+        assertNull(index.findExact(D2B, "9541"));
+    }
+
+    @Test
+    void shouldRecognizePatterns() {
+        assertTrue(RouteIndex.isPattern("95*"));
+        assertTrue(RouteIndex.isPattern("*"));
+        assertFalse(RouteIndex.isPattern("9540"));
+        assertFalse(RouteIndex.isPattern(""));
+        assertTrue(index.hasPatterns());
+        assertFalse(RouteIndex.of(List.of(exact)).hasPatterns());
+    }
+
+    @Test
+    void shouldResolveManyPrefixesBySpecificity() {
+        List<ConfiguredRoute> routes = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            routes.add(route(D2B, i + "*"));
+        }
+        var prefixes = RouteIndex.of(routes);
+
+        for (int i = 10; i < 100; i++) {
+            assertSame(routes.get(i), prefixes.find(D2B, i + "42"));
+        }
+        assertSame(routes.get(7), prefixes.find(D2B, "7"));
+    }
+}
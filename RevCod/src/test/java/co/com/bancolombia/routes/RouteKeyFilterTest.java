@@ -0,0 +1,70 @@
+package co.com.bancolombia.routes;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RouteKeyFilterTest {
+    public static final int KEYS = 10_000;
+    public static final double RATE = 0.01;
+    public static final String[] CHANNELS = {"D2B", "APP", "SVP"};
+
+    @Test
+    void shouldContainEveryAddedKey() {
+        var keys = keys(0, KEYS);
+        var filter = RouteKeyFilter.of(keys, RATE);
+
+        keys.forEach(key -> assertTrue(filter.mightContain(key), key));
+        assertEquals(KEYS, filter.keys());
+    }
+
+    @Test
+    void shouldAnswerChannelAndTransactionLikeBuiltKey() {
+        var filter = RouteKeyFilter.of(keys(0, KEYS), RATE);
+
+        for (int i = 0; i < 2 * KEYS; i++) {
+            var channel = CHANNELS[i % CHANNELS.length];
+            var transaction = String.valueOf(1000 + i);
+            assertEquals(filter.mightContain(RouteKey.of(channel, transaction)),
+                    filter.mightContain(channel, transaction));
+        }
+    }
+
+    @Test
+    void shouldKeepFalsePositivesNearConfiguredRate() {
+        var filter = RouteKeyFilter.of(keys(0, KEYS), RATE);
+
+        var falsePositives = keys(KEYS, 2 * KEYS).stream().filter(filter::mightContain).count();
+
+        assertTrue(falsePositives < KEYS * RATE * 3, "false positives: " + falsePositives);
+    }
+
+    @Test
+    void shouldRejectEverythingWhenEmpty() {
+        var filter = new RouteKeyFilter(KEYS, RATE);
+
+        assertFalse(filter.mightContain("D2B-9540"));
+        assertFalse(filter.mightContain(""));
+    }
+
+    @Test
+    void shouldFallBackToDefaultRateWhenInvalid() {
+        var filter = new RouteKeyFilter(KEYS, 0);
+
+        assertEquals(new RouteKeyFilter(KEYS, RouteKeyFilter.DEFAULT_FALSE_POSITIVE_RATE).bitSize(),
+                filter.bitSize());
+    }
+
+    private static List<String> keys(int from, int to) {
+        List<String> keys = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            keys.add(RouteKey.of(CHANNELS[i % CHANNELS.length], String.valueOf(1000 + i)));
+        }
+        return keys;
+    }
+}
@@ -0,0 +1,37 @@
+package co.com.bancolombia.routes;
+
+import co.com.bancolombia.router.configuredroute.ConfiguredRoute;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RouteKeyTest {
+    public static final String D2B = "D2B";
+    public static final String NUMBER = "9540";
+
+    @Test
+    void shouldMatchFormattedKey() {
+        assertEquals(String.format("%s-%s", D2B, NUMBER), RouteKey.of(D2B, NUMBER));
+    }
+
+    @Test
+    void shouldBuildKeyFromRoute() {
+        var route = ConfiguredRoute.builder().channel(D2B).transaction(NUMBER).build();
+
+        assertEquals("D2B-9540", RouteKey.of(route));
+    }
+
+    @Test
+    void shouldHashLikeBuiltKey() {
+        assertEquals(RouteKey.of(D2B, NUMBER).hashCode(), RouteKey.hash(D2B, NUMBER));
+        assertEquals(RouteKey.of("", "").hashCode(), RouteKey.hash("", ""));
+        assertEquals(RouteKey.of("D-2B", "95400000000000000001").hashCode(),
+                RouteKey.hash("D-2B", "95400000000000000001"));
+        assertEquals(RouteKey.of(null, NUMBER).hashCode(), RouteKey.hash(null, NUMBER));
+    }
+
+    @Test
+    void shouldKeepNullPartsLikeFormat() {
+        assertEquals(String.format("%s-%s", null, NUMBER), RouteKey.of(null, NUMBER));
+    }
+}
@@ -0,0 +1,99 @@
+package co.com.bancolombia.routes;
+
+import co.com.bancolombia.logging.technical.logger.TechLogger;
+import co.com.bancolombia.router.configuredroute.ConfiguredRoute;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class RouteLoadLoggerTest {
+    public static final String D2B = "D2B";
+
+    @Mock
+    private TechLogger techLogger;
+
+    private static ConfiguredRoute route(int transaction) {
+        return ConfiguredRoute.builder().channel(D2B).transaction(String.valueOf(transaction)).build();
+    }
+
+    @Test
+    void shouldNotLogDetailWhenSamplingIsDisabled() {
+        var logger = new RouteLoadLogger(techLogger, 0, 8);
+
+        logger.routeLoaded(route(1));
+        logger.close();
+
+        verifyNoInteractions(techLogger);
+    }
+
+    @Test
+    void shouldLogOneInEverySampledRoutesAsynchronously() {
+        var logger = new RouteLoadLogger(techLogger, 2, 8);
+
+        for (int i = 0; i < 4; i++) {
+            logger.routeLoaded(route(i));
+        }
+
+        verify(techLogger, timeout(2000)).info(RoutesConfig.ROUTE_LOADED + "D2B-0");
+        verify(techLogger, timeout(2000)).info(RoutesConfig.ROUTE_LOADED + "D2B-2");
+        logger.close();
+    }
+
+    @Test
+    void shouldDropDetailInsteadOfBlockingWhenQueueIsFull() throws InterruptedException {
+        var writing = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            writing.countDown();
+            return release.await(5, TimeUnit.SECONDS);
+        }).when(techLogger).info(any(Object.class));
+        var logger = new RouteLoadLogger(techLogger, 1, 1);
+        logger.routeLoaded(route(0));
+        assertTrue(writing.await(5, TimeUnit.SECONDS));
+
+        var start = System.nanoTime();
+        for (int i = 1; i < 10; i++) {
+            logger.routeLoaded(route(i));
+        }
+
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() < 1000);
+        assertEquals(8, logger.dropped());
+        release.countDown();
+        verify(techLogger, timeout(2000)).info(RoutesConfig.ROUTE_LOADED + "D2B-1");
+        logger.close();
+    }
+
+    @Test
+    void shouldSummarizeLoadWithCappedIndices() {
+        var summary = new RouteLoadSummary();
+        summary.loaded(route(1));
+        summary.loaded(ConfiguredRoute.builder().channel("APP").transaction("1").build());
+        for (int i = 0; i < RouteLoadSummary.MAX_INDICES + 5; i++) {
+            summary.skipped(i);
+        }
+        summary.failed(7);
+
+        var report = summary.report(Duration.ofMillis(3));
+
+        assertEquals(2, report.getLoaded());
+        assertEquals(RouteLoadSummary.MAX_INDICES + 5L, report.getSkipped());
+        assertEquals(RouteLoadSummary.MAX_INDICES, report.getSkippedIndices().size());
+        assertEquals(List.of(7), report.getFailedIndices());
+        assertEquals(1L, report.getRoutesPerChannel().get("APP"));
+    }
+}
@@ -0,0 +1,60 @@
+package co.com.bancolombia.routes;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class RouteLoadSchedulersTest {
+
+    @Test
+    void shouldRunOnCallerOnlyWhenAskedTo() {
+        assertSame(Schedulers.immediate(), RouteLoadSchedulers.of(RouteLoadSchedulers.CALLER_EXECUTION));
+    }
+
+    @Test
+    void shouldOffloadWhenUnset() {
+        assertSame(Schedulers.boundedElastic(), RouteLoadSchedulers.of(null));
+        assertSame(Schedulers.boundedElastic(), RouteLoadSchedulers.of(""));
+    }
+
+    @Test
+    void shouldOffloadToBoundedElastic() {
+        assertSame(Schedulers.boundedElastic(), RouteLoadSchedulers.of(RouteLoadSchedulers.BOUNDED_ELASTIC_EXECUTION));
+        assertSame(Schedulers.boundedElastic(), RouteLoadSchedulers.offload(null));
+    }
+
+    @Test
+    void shouldUseVirtualThreadsOrFallBack() {
+        var scheduler = RouteLoadSchedulers.of(RouteLoadSchedulers.VIRTUAL_THREAD_EXECUTION);
+
+        var virtual = Mono.fromSupplier(() -> isVirtual(Thread.currentThread())).subscribeOn(scheduler).block();
+
+        assertEquals(RouteLoadSchedulers.virtualThreadsAvailable(), virtual);
+        if (!RouteLoadSchedulers.virtualThreadsAvailable()) {
+            assertSame(Schedulers.boundedElastic(), scheduler);
+        }
+    }
+
+    @Test
+    void shouldNeverRunOffloadOnCaller() {
+        var caller = Thread.currentThread();
+
+        var thread = Mono.fromSupplier(Thread::currentThread)
+                .subscribeOn(RouteLoadSchedulers.offload(RouteLoadSchedulers.VIRTUAL_THREAD_EXECUTION))
+                .block();
+
+        assertNotSame(caller, thread);
+    }
+
+    private static boolean isVirtual(Thread thread) {
+        try {
+            return (boolean) Thread.class.getMethod("isVirtual").invoke(thread);
+        } catch (ReflectiveOperationException exception) {
+            return false;
+        }
+    }
+}
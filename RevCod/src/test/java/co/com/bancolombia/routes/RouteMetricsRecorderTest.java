@@ -0,0 +1,95 @@
+package co.com.bancolombia.routes;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RouteMetricsRecorderTest {
+    public static final String D2B = "D2B";
+    public static final String APP = "APP";
+
+    @Test
+    void shouldCountLookupsPerChannel() {
+        var metrics = new RouteMetricsRecorder();
+        metrics.channelsLoaded(List.of(D2B, APP));
+
+        metrics.lookup(D2B, true, 100);
+        metrics.lookup(D2B, true, 200);
+        metrics.lookup(D2B, false, 300);
+        metrics.lookup(APP, false, 400);
+
+        assertEquals(2, metrics.hits(D2B));
+        assertEquals(1, metrics.misses(D2B));
+        assertEquals(0, metrics.hits(APP));
+        assertEquals(1, metrics.misses(APP));
+        assertTrue(metrics.lookupLatencyPercentile(0.99) >= 400);
+    }
+
+    @Test
+    void shouldMatchKeyLookupsToChannelByPrefix() {
+        var metrics = new RouteMetricsRecorder();
+        metrics.channelsLoaded(List.of(D2B));
+
+        metrics.keyLookup("D2B-9540", true, 100);
+        metrics.keyLookup("D2BX-9540", false, 100);
+
+        assertEquals(1, metrics.hits(D2B));
+        assertEquals(0, metrics.misses(D2B));
+        assertEquals(1, metrics.misses(RouteMetricsRecorder.UNKNOWN_CHANNEL));
+    }
+
+    @Test
+    void shouldMatchKeyLookupsToChannelsContainingSeparator() {
+        var metrics = new RouteMetricsRecorder();
+        List<String> channels = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            channels.add("C" + i);
+        }
+        channels.add("D-2B");
+        metrics.channelsLoaded(channels);
+
+        metrics.keyLookup("D-2B-9540", true, 100);
+        metrics.keyLookup("C42-9540", false, 100);
+        metrics.keyLookup("D-9540", false, 100);
+
+        assertEquals(1, metrics.hits("D-2B"));
+        assertEquals(1, metrics.misses("C42"));
+        assertEquals(1, metrics.misses(RouteMetricsRecorder.UNKNOWN_CHANNEL));
+    }
+
+    @Test
+    void shouldCountChannelsOutsideLoadedCatalogTogether() {
+        var metrics = new RouteMetricsRecorder();
+        metrics.channelsLoaded(List.of(D2B));
+
+        for (int i = 0; i < 1_000; i++) {
+            metrics.lookup("X" + i, false, 100);
+        }
+
+        assertEquals(1_000, metrics.misses(RouteMetricsRecorder.UNKNOWN_CHANNEL));
+        assertEquals(0, metrics.misses("X1"));
+        assertFalse(metrics.toString().contains("X1"));
+    }
+
+    @Test
+    void shouldTrackLoadThroughputAndRejectedNodes() {
+        var metrics = new RouteMetricsRecorder();
+
+        metrics.nodeSkipped();
+        metrics.nodeFailed();
+        metrics.nodeFailed();
+        metrics.loadCompleted(10_000, Duration.ofMillis(500));
+
+        assertEquals(1, metrics.skippedNodes());
+        assertEquals(2, metrics.failedNodes());
+        assertEquals(1, metrics.loads());
+        assertEquals(20_000, metrics.lastLoadRoutesPerSecond(), 0.001);
+        assertTrue(metrics.toString().contains("skipped=1"));
+    }
+}
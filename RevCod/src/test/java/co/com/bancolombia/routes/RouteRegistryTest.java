@@ -0,0 +1,190 @@
+package co.com.bancolombia.routes;
+
+import co.com.bancolombia.router.configuredroute.ConfiguredRoute;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RouteRegistryTest {
+    public static final String D2B = "D2B";
+    public static final String APP = "APP";
+    public static final String NUMBER = "9540";
+    public static final String RESULT = "9541";
+    public static final int CATALOG_SIZE = 500;
+
+    private final Function<ConfiguredRoute, String> key = conf -> conf.getChannel() + "-" + conf.getTransaction();
+
+    private RouteRegistry registry;
+
+    @BeforeEach
+    void init() {
+        registry = new RouteRegistry(key);
+    }
+
+    @Test
+    void shouldPublishSnapshotAndReturnPrevious() {
+        var first = route(D2B, NUMBER);
+        var second = route(APP, RESULT);
+
+        assertTrue(registry.publish(List.of(first)).isEmpty());
+        var previous = registry.publish(List.of(second));
+
+        assertEquals(1, previous.size());
+        assertSame(first, previous.get("D2B-9540"));
+        assertNull(registry.find("D2B-9540"));
+        assertSame(second, registry.find("APP-9541"));
+    }
+
+    @Test
+    void shouldFindRouteByChannelAndTransaction() {
+        var first = route(D2B, NUMBER);
+        registry.publish(List.of(first, route(APP, RESULT)));
+
+        assertSame(first, registry.find(D2B, NUMBER));
+        assertNull(registry.find(D2B, RESULT));
+        assertNull(registry.find(null, NUMBER));
+    }
+
+    @Test
+    void shouldKeepLastRouteForRepeatedKey() {
+        var first = route(D2B, NUMBER);
+        var second = route(D2B, NUMBER);
+
+        registry.publish(List.of(first, second));
+
+        assertEquals(1, registry.size());
+        assertSame(second, registry.find("D2B-9540"));
+    }
+
+    @Test
+    void shouldExposeImmutableSnapshot() {
+        registry.publish(List.of(route(D2B, NUMBER)));
+
+        var snapshot = registry.snapshot();
+
+        assertThrows(UnsupportedOperationException.class, snapshot::clear);
+    }
+
+    @Test
+    void shouldSaveSingleRouteWithoutTouchingPublishedSnapshot() {
+        registry.publish(List.of(route(D2B, NUMBER)));
+        var before = registry.snapshot();
+        var added = route(APP, RESULT);
+
+        StepVerifier.create(registry.saveInCache("APP-9541", added))
+                .expectNext(added)
+                .verifyComplete();
+
+        assertEquals(1, before.size());
+        assertEquals(2, registry.size());
+        StepVerifier.create(registry.getFromCache("APP-9541"))
+                .expectNext(added)
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldNeverExposeHalfLoadedSnapshotToReaders() throws InterruptedException {
+        var catalogA = catalog(D2B);
+        var catalogB = catalog(APP);
+        var running = new AtomicBoolean(true);
+        var torn = new AtomicInteger();
+        registry.publish(catalogA);
+
+        var reader = new Thread(() -> {
+            while (running.get()) {
+                var snapshot = registry.snapshot();
+                if (snapshot.size() != CATALOG_SIZE) {
+                    torn.incrementAndGet();
+                }
+            }
+        });
+        reader.start();
+        for (int i = 0; i < 200; i++) {
+            registry.publish(i % 2 == 0 ? catalogB : catalogA);
+        }
+        running.set(false);
+        reader.join();
+
+        assertEquals(0, torn.get());
+    }
+
+    private List<ConfiguredRoute> catalog(String channel) {
+        List<ConfiguredRoute> routes = new ArrayList<>();
+        for (int i = 0; i < CATALOG_SIZE; i++) {
+            routes.add(route(channel, String.valueOf(i)));
+        }
+        return routes;
+    }
+
+    @Test
+    void shouldResolvePrefixRoutesAfterPublishAndApply() {
+        var prefix = route(D2B, "95*");
+        registry.publish(List.of(prefix, route(D2B, NUMBER)));
+
+        assertSame(prefix, registry.find(D2B, RESULT));
+        assertTrue(registry.index().hasPatterns());
+
+        registry.apply(RouteDiff.between(registry.snapshot(), Map.of(key.apply(prefix), prefix)));
+
+        assertSame(prefix, registry.find(D2B, NUMBER));
+    }
+
+    @Test
+    void shouldSaveAndFindRoutesInBulk() {
+        var first = route(D2B, NUMBER);
+        var second = route(APP, RESULT);
+        registry.publish(List.of(first));
+
+        StepVerifier.create(registry.saveAll(Map.of(key.apply(second), second)))
+                .expectNext(1)
+                .verifyComplete();
+
+        StepVerifier.create(registry.findAll(List.of(key.apply(first), key.apply(second), "SVP-0000")))
+                .expectNext(Map.of(key.apply(first), first, key.apply(second), second))
+                .verifyComplete();
+        assertSame(second, registry.find(APP, RESULT));
+    }
+
+    @Test
+    void shouldPublishChunkedBulkSaveInOneCopy() {
+        var copies = new AtomicInteger();
+        var counting = new RouteRegistry(key) {
+            @Override
+            public Mono<Integer> saveAll(Map<String, ConfiguredRoute> routes) {
+                copies.incrementAndGet();
+                return super.saveAll(routes);
+            }
+        };
+        Map<String, ConfiguredRoute> routes = new LinkedHashMap<>();
+        for (int i = 0; i < CATALOG_SIZE; i++) {
+            var route = route(D2B, String.valueOf(i));
+            routes.put(key.apply(route), route);
+        }
+
+        StepVerifier.create(BulkCacheOps.saveAll(counting, routes, 10, 4))
+                .expectNext(CATALOG_SIZE)
+                .verifyComplete();
+
+        assertEquals(1, copies.get());
+        assertEquals(CATALOG_SIZE, counting.size());
+    }
+
+    private static ConfiguredRoute route(String channel, String transaction) {
+        return ConfiguredRoute.builder().channel(channel).transaction(transaction).build();
+    }
+}
@@ -0,0 +1,135 @@
+package co.com.bancolombia.routes;
+
+import co.com.bancolombia.router.configuredroute.ConfiguredRoute;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+
+import static com.fasterxml.jackson.databind.DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RouteSnapshotFileTest {
+    public static final String SOURCE_CONTENT = "[{\"channel\":\"D2B\",\"transaction\":\"9540\"}]";
+    public static final String[] CHANNELS = {"D2B", "APP", "SVP"};
+
+    @TempDir
+    Path directory;
+
+    private RouteSnapshotFile snapshots;
+    private Path source;
+    private Path snapshot;
+
+    @BeforeEach
+    void init() throws IOException {
+        snapshots = new RouteSnapshotFile(new ObjectMapper().disable(FAIL_ON_UNKNOWN_PROPERTIES));
+        source = Files.writeString(directory.resolve("routes.json"), SOURCE_CONTENT);
+        snapshot = directory.resolve("routes.snapshot");
+    }
+
+    @Test
+    void shouldRoundTripCatalog() throws IOException {
+        var routes = catalog(1_000);
+
+        assertTrue(snapshots.write(snapshot, RouteSnapshotFile.SourceStamp.of(source), routes));
+        var read = snapshots.read(snapshot, source);
+
+        assertTrue(read.isPresent());
+        assertEquals(routes, read.get());
+    }
+
+    @Test
+    void shouldStoreRepeatedChannelsOnce() throws IOException {
+        assertTrue(snapshots.write(snapshot, RouteSnapshotFile.SourceStamp.of(source), catalog(1_000)));
+
+        var content = new String(Files.readAllBytes(snapshot), StandardCharsets.ISO_8859_1);
+
+        assertEquals(content.indexOf("D2B"), content.lastIndexOf("D2B"));
+    }
+
+    @Test
+    void shouldDiscardSnapshotOfSameSizeEditKeepingModificationTime() throws IOException {
+        assertTrue(snapshots.write(snapshot, RouteSnapshotFile.SourceStamp.of(source), catalog(10)));
+        var modified = Files.getLastModifiedTime(source);
+
+        Files.writeString(source, SOURCE_CONTENT.replace("9540", "9541"));
+        Files.setLastModifiedTime(source, modified);
+
+        assertTrue(snapshots.read(snapshot, source).isEmpty());
+    }
+
+    @Test
+    void shouldKeepSnapshotWhenOnlyModificationTimeChanges() throws IOException {
+        assertTrue(snapshots.write(snapshot, RouteSnapshotFile.SourceStamp.of(source), catalog(10)));
+
+        Files.setLastModifiedTime(source, FileTime.from(Instant.now().plusSeconds(60)));
+
+        assertEquals(10, snapshots.read(snapshot, source).orElseThrow().size());
+    }
+
+    @Test
+    void shouldMatchStampOfSourceFingerprint() throws IOException, NoSuchAlgorithmException {
+        var digest = MessageDigest.getInstance("SHA-256").digest(Files.readAllBytes(source));
+        var fingerprint = HexFormat.of().formatHex(digest);
+
+        assertTrue(snapshots.write(snapshot, RouteSnapshotFile.SourceStamp.of(fingerprint), catalog(10)));
+
+        assertEquals(10, snapshots.read(snapshot, source).orElseThrow().size());
+    }
+
+    @Test
+    void shouldDiscardSnapshotOfSourceChangedWhileParsed() throws IOException {
+        var stamp = RouteSnapshotFile.SourceStamp.of(source);
+        Files.writeString(source, SOURCE_CONTENT.replace("9540", "9541,9542"));
+
+        assertTrue(snapshots.write(snapshot, stamp, catalog(10)));
+
+        assertTrue(snapshots.read(snapshot, source).isEmpty());
+    }
+
+    @Test
+    void shouldDiscardCorruptSnapshot() throws IOException {
+        assertTrue(snapshots.write(snapshot, RouteSnapshotFile.SourceStamp.of(source), catalog(10)));
+        var bytes = Files.readAllBytes(snapshot);
+        bytes[bytes.length / 2] ^= 0x5A;
+        Files.write(snapshot, bytes);
+
+        assertTrue(snapshots.read(snapshot, source).isEmpty());
+    }
+
+    @Test
+    void shouldDiscardTruncatedSnapshot() throws IOException {
+        Files.write(snapshot, new byte[]{1, 2, 3});
+
+        assertTrue(snapshots.read(snapshot, source).isEmpty());
+    }
+
+    @Test
+    void shouldReadNothingWhenSnapshotIsMissing() {
+        assertTrue(snapshots.read(snapshot, source).isEmpty());
+    }
+
+    private static List<ConfiguredRoute> catalog(int size) {
+        List<ConfiguredRoute> routes = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            routes.add(ConfiguredRoute.builder()
+                    .channel(CHANNELS[i % CHANNELS.length])
+                    .transaction(String.valueOf(9000 + i))
+                    .build());
+        }
+        return routes;
+    }
+}
@@ -0,0 +1,103 @@
+package co.com.bancolombia.routes;
+
+import co.com.bancolombia.router.configuredroute.ConfiguredRoute;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RouteSourcesTest {
+    public static final String D2B = "D2B";
+    public static final String ROUTES = "[{\"channel\":\"D2B\",\"transaction\":\"9540\"}]";
+
+    @TempDir
+    Path directory;
+
+    @BeforeEach
+    void init() throws IOException {
+        Files.writeString(directory.resolve("20-cards.json"), ROUTES);
+        Files.writeString(directory.resolve("10-accounts.json"), ROUTES);
+        Files.writeString(directory.resolve("notes.txt"), "ignored");
+        Files.createDirectories(directory.resolve("loans"));
+        Files.writeString(directory.resolve("loans/30-loans.json"), ROUTES);
+    }
+
+    private static ConfiguredRoute route(String transaction, String channel) {
+        return ConfiguredRoute.builder().channel(channel).transaction(transaction).build();
+    }
+
+    @Test
+    void shouldListJsonFilesOfDirectoryInPathOrder() throws IOException {
+        var files = RouteSources.resolve(directory.toString());
+
+        assertEquals(List.of(directory.resolve("10-accounts.json"), directory.resolve("20-cards.json")), files);
+        assertTrue(RouteSources.isMultiple(directory.toString()));
+    }
+
+    @Test
+    void shouldResolveGlobsIncludingSubdirectories() throws IOException {
+        var pattern = directory.toString().replace('\\', '/') + "/**.json";
+
+        var files = RouteSources.resolve(pattern);
+
+        assertEquals(3, files.size());
+        assertTrue(files.contains(directory.resolve("loans/30-loans.json")));
+        assertTrue(RouteSources.isGlob(pattern));
+    }
+
+    @Test
+    void shouldResolveSingleFileAndMissingFile() throws IOException {
+        var file = directory.resolve("10-accounts.json").toString();
+
+        assertEquals(1, RouteSources.resolve(file).size());
+        assertFalse(RouteSources.isMultiple(file));
+        assertTrue(RouteSources.resolve(directory.resolve("missing.json").toString()).isEmpty());
+    }
+
+    @Test
+    void shouldFindBaseDirectoryOfGlob() {
+        assertEquals(Path.of("routes/teams"), RouteSources.baseDirectory("routes/teams/*.json"));
+        assertEquals(Path.of(""), RouteSources.baseDirectory("*.json"));
+        assertEquals(Path.of("/"), RouteSources.baseDirectory("/*.json"));
+    }
+
+    @Test
+    void shouldLetLaterFilesOverrideDuplicatesAndReportThem() {
+        var first = Path.of("10-accounts.json");
+        var second = Path.of("20-cards.json");
+        var overridden = route("9540", D2B);
+        var winner = ConfiguredRoute.builder().channel(D2B).transaction("9540").build();
+
+        var merge = RouteSources.merge(List.of(first, second),
+                List.of(List.of(overridden, route("9541", D2B)), List.of(winner)), RouteKey::of);
+
+        assertEquals(2, merge.getRoutes().size());
+        assertSame(winner, merge.getRoutes().get(0));
+        assertEquals(List.of("D2B-9540 in 10-accounts.json overridden by 20-cards.json"), merge.getDuplicates());
+    }
+
+    @Test
+    void shouldCapReportedDuplicatesButCountAll() {
+        List<ConfiguredRoute> routes = new ArrayList<>();
+        for (int i = 0; i < RouteValidator.MAX_REPORTED * 2; i++) {
+            routes.add(route(String.valueOf(i), D2B));
+        }
+
+        var merge = RouteSources.merge(List.of(Path.of("a.json"), Path.of("b.json")), List.of(routes, routes),
+                RouteKey::of);
+
+        assertEquals(RouteValidator.MAX_REPORTED * 2, merge.getDuplicateCount());
+        assertEquals(RouteValidator.MAX_REPORTED, merge.getDuplicates().size());
+        assertTrue(merge.toString().endsWith(" and " + RouteValidator.MAX_REPORTED + " more"));
+    }
+}
@@ -0,0 +1,155 @@
+package co.com.bancolombia.routes;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RouteTraceTest {
+    public static final String KEY = "D2B-9540";
+    public static final String MISSING_KEY = "D2B-0000";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldRoundCapacityToPowerOfTwo() {
+        assertEquals(8, new RouteTrace(5, 1).capacity());
+        assertEquals(8, new RouteTrace(8, 1).capacity());
+        assertEquals(0, new RouteTrace(0, 1).capacity());
+    }
+
+    @Test
+    void shouldKeepLatestEventsOldestFirst() {
+        var trace = new RouteTrace(4, 1);
+        for (int i = 0; i < 10; i++) {
+            trace.lookup("D2B-" + i, i % 2 == 0, i);
+        }
+
+        var entries = trace.snapshot();
+
+        assertEquals(10, trace.recorded());
+        assertEquals(4, entries.size());
+        assertEquals(List.of("D2B-6", "D2B-7", "D2B-8", "D2B-9"), entries.stream().map(RouteTrace.Entry::getKey).toList());
+        assertTrue(entries.get(0).isHit());
+        assertEquals(9, entries.get(3).getDurationNanos());
+        assertEquals(Thread.currentThread().getName(), entries.get(3).getThread());
+    }
+
+    @Test
+    void shouldSampleOneLookupInRate() {
+        var trace = new RouteTrace(16, 10);
+        var sampled = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (trace.sampled()) {
+                sampled++;
+            }
+        }
+
+        assertTrue(sampled > 9_000 && sampled < 11_000, "sampled " + sampled);
+        assertTrue(new RouteTrace(16, 1).sampled());
+    }
+
+    @Test
+    void shouldRecordNothingWhenDisabled() {
+        RouteTrace.DISABLED.load("routes.json", true, 1);
+
+        assertFalse(RouteTrace.DISABLED.sampled());
+        assertTrue(RouteTrace.DISABLED.snapshot().isEmpty());
+        assertEquals(0, RouteTrace.DISABLED.recorded());
+    }
+
+    @Test
+    void shouldKeepEntriesConsistentUnderConcurrentWriters() throws InterruptedException {
+        var trace = new RouteTrace(64, 1);
+        var start = new CountDownLatch(1);
+        List<Thread> writers = new ArrayList<>();
+        for (int w = 0; w < 4; w++) {
+            var writer = w;
+            writers.add(new Thread(() -> {
+                awaitQuietly(start);
+                for (int i = 0; i < 20_000; i++) {
+                    trace.lookup("W" + writer, true, writer);
+                }
+            }, "writer-" + w));
+        }
+        writers.forEach(Thread::start);
+        start.countDown();
+        while (writers.stream().anyMatch(Thread::isAlive)) {
+            trace.snapshot().forEach(RouteTraceTest::assertConsistent);
+        }
+        for (var writer : writers) {
+            writer.join();
+        }
+
+        assertEquals(80_000, trace.recorded());
+        assertTrue(trace.snapshot().size() <= 64);
+        trace.snapshot().forEach(RouteTraceTest::assertConsistent);
+    }
+
+    @Test
+    void shouldDumpAsJson() throws IOException {
+        var trace = new RouteTrace(4, 1);
+        trace.lookup(KEY, true, 1_500);
+        trace.load("routes.json", false, 2_000_000);
+
+        var json = new ObjectMapper().readTree(trace.toJson());
+
+        assertEquals(2, json.size());
+        assertEquals(KEY, json.get(0).get("key").asText());
+        assertEquals("LOOKUP", json.get(0).get("kind").asText());
+        assertTrue(json.get(0).get("hit").asBoolean());
+        assertEquals(1_500, json.get(0).get("durationNanos").asLong());
+        assertEquals("LOAD", json.get(1).get("kind").asText());
+        assertFalse(json.get(1).get("hit").asBoolean());
+    }
+
+    @Test
+    void shouldEmitJfrEventsOnlyWhileRecording() throws IOException {
+        var trace = new RouteTrace(4, 1);
+        trace.lookup(KEY, true, 1_500);
+        trace.lookup(MISSING_KEY, false, 700);
+        var dump = directory.resolve("trace.jfr");
+
+        assertEquals(0, trace.emitJfrEvents());
+        try (var recording = new Recording()) {
+            recording.enable(RouteResolutionEvent.NAME);
+            recording.start();
+            assertEquals(2, trace.emitJfrEvents());
+            recording.stop();
+            recording.dump(dump);
+        }
+
+        var events = RecordingFile.readAllEvents(dump);
+        assertEquals(2, events.size());
+        assertEquals(KEY, events.get(0).getString("key"));
+        assertTrue(events.get(0).getBoolean("hit"));
+        assertEquals(1_500, events.get(0).getDuration("durationNanos").toNanos());
+        assertEquals(MISSING_KEY, events.get(1).getString("key"));
+        assertFalse(events.get(1).getBoolean("hit"));
+    }
+
+    private static void assertConsistent(RouteTrace.Entry entry) {
+        assertEquals("W" + entry.getDurationNanos(), entry.getKey());
+        assertEquals("writer-" + entry.getDurationNanos(), entry.getThread());
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package co.com.bancolombia.routes;
+
+import co.com.bancolombia.router.configuredroute.ConfiguredRoute;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RouteValidatorTest {
+    public static final String D2B = "D2B";
+    public static final String APP = "APP";
+    public static final String NUMBER = "9540";
+
+    private final RouteValidator validator = new RouteValidator(RouteKey::of);
+
+    @Test
+    void shouldKeepUniqueRoutesInInputOrder() {
+        var routes = List.of(route(D2B, NUMBER), route(APP, NUMBER), route(D2B, "9541"));
+
+        var result = validator.validate(routes);
+
+        assertEquals(routes, result.getRoutes());
+        assertEquals(List.of("D2B-9540", "APP-9540", "D2B-9541"), new ArrayList<>(result.asMap().keySet()));
+        assertFalse(result.hasRejections());
+    }
+
+    @Test
+    void shouldKeepLastDuplicateAtFirstPosition() {
+        var last = route(D2B, NUMBER);
+        var routes = List.of(route(D2B, NUMBER), route(APP, NUMBER), last);
+
+        var result = validator.validate(routes);
+
+        assertEquals(2, result.getRoutes().size());
+        assertSame(last, result.getRoutes().get(0));
+        assertSame(last, result.asMap().get("D2B-9540"));
+        assertEquals(1, result.getDuplicates());
+        assertEquals(0, result.getConflictCount());
+        assertTrue(result.hasRejections());
+    }
+
+    @Test
+    void shouldReportConflictingDuplicates() {
+        var byChannel = new RouteValidator(ConfiguredRoute::getChannel);
+        var routes = List.of(route(D2B, NUMBER), route(D2B, NUMBER), route(D2B, "9541"));
+
+        var result = byChannel.validate(routes);
+
+        assertEquals(1, result.getRoutes().size());
+        assertEquals("9541", result.getRoutes().get(0).getTransaction());
+        assertEquals(2, result.getDuplicates());
+        assertEquals(1, result.getConflictCount());
+        assertEquals(List.of(D2B), result.getConflicts());
+    }
+
+    @Test
+    void shouldDropRoutesBreakingFieldConstraints() {
+        var routes = List.of(route(null, NUMBER), route(" ", NUMBER), route(D2B, "\t"), route(D2B, NUMBER));
+
+        var result = validator.validate(routes);
+
+        assertEquals(List.of(route(D2B, NUMBER)), result.getRoutes());
+        assertEquals(3, result.getInvalid());
+        assertEquals(List.of("#0 missing channel", "#1 blank channel", "#2 blank transaction"),
+                result.getViolations());
+    }
+
+    @Test
+    void shouldAcceptSeparatorInChannel() {
+        var result = validator.validate(List.of(route("D2B-X", NUMBER), route(D2B, NUMBER)));
+
+        assertEquals(2, result.getRoutes().size());
+        assertEquals(0, result.getCollisionCount());
+    }
+
+    @Test
+    void shouldReportPairsCollidingOnSameKey() {
+        var result = validator.validate(List.of(route("D2B-X", NUMBER), route(D2B, "X-" + NUMBER),
+                route(D2B, "X-" + NUMBER)));
+
+        assertEquals(List.of(route(D2B, "X-" + NUMBER)), result.getRoutes());
+        assertEquals(2, result.getDuplicates());
+        assertEquals(1, result.getCollisionCount());
+        assertEquals(List.of("D2B-X-" + NUMBER), result.getCollisions());
+    }
+
+    @Test
+    void shouldAcceptWhitespaceInsideFields() {
+        assertNull(RouteValidator.violation(route("D2B APP", "95 40")));
+    }
+
+    @Test
+    void shouldAcceptWildcardRoutes() {
+        assertNull(RouteValidator.violation(route(D2B, "95*")));
+        assertNull(RouteValidator.violation(route(D2B, "*")));
+    }
+
+    @Test
+    void shouldCapReportedViolationsButCountAll() {
+        List<ConfiguredRoute> routes = new ArrayList<>();
+        for (int i = 0; i < RouteValidator.MAX_REPORTED * 2; i++) {
+            routes.add(route(D2B, null));
+        }
+
+        var result = validator.validate(routes);
+
+        assertTrue(result.getRoutes().isEmpty());
+        assertEquals(RouteValidator.MAX_REPORTED * 2, result.getInvalid());
+        assertEquals(RouteValidator.MAX_REPORTED, result.getViolations().size());
+    }
+
+    @Test
+    void shouldDeduplicateLargeCatalog() {
+        List<ConfiguredRoute> routes = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            routes.add(route(i / 5_000 % 2 == 0 ? D2B : APP, String.valueOf(i % 5_000)));
+        }
+
+        var result = validator.validate(routes);
+
+        assertEquals(10_000, result.getRoutes().size());
+        assertEquals(10_000, result.getDuplicates());
+        assertEquals(10_000, result.asMap().size());
+    }
+
+    private static ConfiguredRoute route(String channel, String transaction) {
+        return ConfiguredRoute.builder().channel(channel).transaction(transaction).build();
+    }
+}
@@ -18,13 +18,21 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
 import static co.com.bancolombia.exceptions.messages.TechnicalErrorMessage.JACKSON_MAPPER_ERROR;
@@ -36,6 +44,8 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class RoutesConfigTest {
     public static final String FILE_ROUTES = "fileRoutes";
+    public static final String SNAPSHOT_FILE = "routesSnapshot";
+    public static final String ROUTES_DIRECTORY = "routesDirectory";
     public static final String NONEXISTENT_FILE = "nonexistentFile";
     public static final String UNREADABLE_FILE = "unreadableFile";
     public static final String CONTENT = "content";
@@ -85,6 +95,7 @@ class RoutesConfigTest {
         ReflectionTestUtils.setField(routesConfig, FILE_ROUTES, "file");
         ReflectionTestUtils.setField(routesConfig, STRING_ROUTES,
                 "[{\"channel\":\"D2B\",\"transaction\":\"9540\"}]");
+        ReflectionTestUtils.setField(routesConfig, "loadExecution", RouteLoadSchedulers.CALLER_EXECUTION);
     }
 
     @Test
@@ -92,6 +103,606 @@ class RoutesConfigTest {
         assertNotNull(routesConfig.cacheForRoutes(mapper));
     }
 
+    @Test
+    void shouldUseInMemoryCacheWhenConfigured() {
+        ReflectionTestUtils.setField(routesConfig, "cacheType", RoutesConfig.IN_MEMORY_CACHE);
+
+        assertInstanceOf(InMemoryRouteCacheOps.class, routesConfig.cacheForRoutes(mapper));
+    }
+
+    @Test
+    void shouldUseSnapshotRegistryWhenConfigured() {
+        ReflectionTestUtils.setField(routesConfig, "cacheType", RoutesConfig.SNAPSHOT_CACHE);
+
+        assertInstanceOf(RouteRegistry.class, routesConfig.cacheForRoutes(mapper));
+    }
+
+    @Test
+    void shouldReloadRoutesIntoRegistry() throws IOException {
+        Path filePath = Paths.get(FILE_ROUTES);
+        Files.write(filePath, CHANNEL_D2B_TRANSACTION_NUMBER_INVALID_TRUE_CHANNEL_D2B_TRANSACTION_NUMBER.getBytes());
+        ReflectionTestUtils.setField(routesConfig, FILE_ROUTES, FILE_ROUTES);
+        var registry = new RouteRegistry(route -> route.getChannel() + "-" + route.getTransaction());
+
+        assertEquals(2, routesConfig.reloadRoutes(mapper, registry).block());
+        assertNotNull(registry.find("D2B-9540"));
+        assertNotNull(registry.find("D2B-9541"));
+        Files.deleteIfExists(filePath);
+    }
+
+    @Test
+    void shouldKeepRoutesWhenResilientReloadReadsTruncatedFile() throws IOException {
+        Path filePath = Paths.get(FILE_ROUTES);
+        Files.write(filePath, CHANNEL_D2B_TRANSACTION_NUMBER_INVALID_TRUE_CHANNEL_D2B_TRANSACTION_NUMBER.getBytes());
+        ReflectionTestUtils.setField(routesConfig, FILE_ROUTES, FILE_ROUTES);
+        ReflectionTestUtils.setField(routesConfig, "resilientLoad", true);
+        var registry = new RouteRegistry(route -> route.getChannel() + "-" + route.getTransaction());
+        var reloader = new RouteFileReloader(FILE_ROUTES, routesConfig::reloadRouteSources,
+                new RouteValidator(route -> route.getChannel() + "-" + route.getTransaction())::validate,
+                registry, report -> { });
+        assertTrue(reloader.reload());
+
+        Files.write(filePath, ("[" + CHANNEL_D2B_TRANSACTION + ",{\"channel\":\"D2B\"").getBytes());
+
+        assertThrows(TechnicalException.class, () -> routesConfig.reloadRouteSources(new RouteLoadSummary()));
+        assertFalse(reloader.reload());
+        assertNotNull(registry.find("D2B-9540"));
+        assertNotNull(registry.find("D2B-9541"));
+        assertEquals(2, reloader.loaded().size());
+        Files.deleteIfExists(filePath);
+    }
+
+    @Test
+    void shouldCompilePrefixAndDefaultRoutesOnReload() throws IOException {
+        Path filePath = Paths.get(FILE_ROUTES);
+        Files.write(filePath, ("[" + CHANNEL_D2B_TRANSACTION + ",{\"channel\":\"D2B\",\"transaction\":\"95*\"},"
+                + "{\"channel\":\"D2B\",\"transaction\":\"*\"}]").getBytes());
+        ReflectionTestUtils.setField(routesConfig, FILE_ROUTES, FILE_ROUTES);
+        var registry = new RouteRegistry(route -> route.getChannel() + "-" + route.getTransaction());
+
+        routesConfig.reloadRoutes(mapper, registry).block();
+
+        assertEquals(NUMBER, registry.find(D2B, NUMBER).getTransaction());
+        assertEquals("95*", registry.find(D2B, RESULT).getTransaction());
+        assertEquals("*", registry.find(D2B, "1000").getTransaction());
+        Files.deleteIfExists(filePath);
+    }
+
+    @Test
+    void shouldLoadAndWatchRoutesFileWhenEnabled() throws IOException {
+        Path filePath = Paths.get(FILE_ROUTES);
+        Files.write(filePath, CHANNEL_D2B_TRANSACTION_NUMBER_INVALID_TRUE_CHANNEL_D2B_TRANSACTION_NUMBER.getBytes());
+        ReflectionTestUtils.setField(routesConfig, FILE_ROUTES, FILE_ROUTES);
+        ReflectionTestUtils.setField(routesConfig, "cacheType", RoutesConfig.SNAPSHOT_CACHE);
+        ReflectionTestUtils.setField(routesConfig, "watchRoutes", true);
+        ReflectionTestUtils.setField(routesConfig, "pollRoutes", true);
+        ReflectionTestUtils.setField(routesConfig, "watchPollIntervalMs", 1000L);
+
+        var registry = (RouteRegistry) routesConfig.cacheForRoutes(mapper);
+
+        assertEquals(2, registry.size());
+        routesConfig.destroy();
+        Files.deleteIfExists(filePath);
+    }
+
+    @Test
+    void shouldLoadRoutesInParallelAndReportCounts() throws IOException {
+        Path filePath = Paths.get(FILE_ROUTES);
+        Files.write(filePath, CHANNEL_D2B_TRANSACTION_NUMBER_INVALID_TRUE_CHANNEL_D2B_TRANSACTION_NUMBER.getBytes());
+        ReflectionTestUtils.setField(routesConfig, FILE_ROUTES, FILE_ROUTES);
+        var cache = new InMemoryRouteCacheOps();
+
+        RouteLoadReport report = routesConfig.loadRoutesInParallel(mapper, cache).block();
+
+        assertNotNull(report);
+        assertEquals(2, report.getLoaded());
+        assertEquals(1, report.getSkipped());
+        assertEquals(0, report.getFailed());
+        assertEquals(2, cache.size());
+        Files.deleteIfExists(filePath);
+    }
+
+    @Test
+    void shouldSaveParallelLoadInInputOrder() throws IOException {
+        Path filePath = Paths.get(FILE_ROUTES);
+        var json = new StringBuilder("[");
+        for (int i = 0; i < 200; i++) {
+            json.append(i == 0 ? "" : ",").append("{\"channel\":\"D2B\",\"transaction\":\"").append(i % 10)
+                    .append("\",\"order\":").append(i).append('}');
+        }
+        Files.write(filePath, json.append(']').toString().getBytes());
+        ReflectionTestUtils.setField(routesConfig, FILE_ROUTES, FILE_ROUTES);
+        ReflectionTestUtils.setField(routesConfig, "loadParallelism", 8);
+        List<String> saved = new CopyOnWriteArrayList<>();
+        when(cacheOps.saveInCache(anyString(), any())).thenAnswer(invocation -> {
+            saved.add(invocation.getArgument(0));
+            return Mono.empty();
+        });
+
+        RouteLoadReport report = routesConfig.loadRoutesInParallel(mapper, cacheOps).block();
+
+        assertNotNull(report);
+        assertEquals(10, report.getLoaded());
+        assertEquals(10, saved.size());
+        for (int i = 0; i < 10; i++) {
+            assertEquals("D2B-" + i, saved.get(i));
+        }
+        Files.deleteIfExists(filePath);
+    }
+
+    @Test
+    void shouldBlockBeanCreationUntilRoutesAreSaved() throws IOException {
+        Path filePath = Paths.get(FILE_ROUTES);
+        Files.write(filePath, CHANNEL_D2B_TRANSACTION_NUMBER_INVALID_TRUE_CHANNEL_D2B_TRANSACTION_NUMBER.getBytes());
+        ReflectionTestUtils.setField(routesConfig, FILE_ROUTES, FILE_ROUTES);
+        ReflectionTestUtils.setField(routesConfig, "cacheType", RoutesConfig.IN_MEMORY_CACHE);
+        ReflectionTestUtils.setField(routesConfig, "loadMode", RoutesConfig.BLOCKING_LOAD);
+        ReflectionTestUtils.setField(routesConfig, "loadTimeoutMs", 10_000L);
+
+        var cache = (InMemoryRouteCacheOps) routesConfig.cacheForRoutes(mapper);
+
+        assertEquals(2, cache.size());
+        Files.deleteIfExists(filePath);
+    }
+
+    @Test
+    void shouldRejectUnknownRoutesThroughKeyFilter() throws IOException {
+        Path filePath = Paths.get(FILE_ROUTES);
+        Files.write(filePath, CHANNEL_D2B_TRANSACTION_NUMBER_INVALID_TRUE_CHANNEL_D2B_TRANSACTION_NUMBER.getBytes());
+        ReflectionTestUtils.setField(routesConfig, FILE_ROUTES, FILE_ROUTES);
+        ReflectionTestUtils.setField(routesConfig, "cacheType", RoutesConfig.IN_MEMORY_CACHE);
+        ReflectionTestUtils.setField(routesConfig, "loadMode", RoutesConfig.BLOCKING_LOAD);
+        ReflectionTestUtils.setField(routesConfig, "loadTimeoutMs", 10_000L);
+        ReflectionTestUtils.setField(routesConfig, "filterEnabled", true);
+        ReflectionTestUtils.setField(routesConfig, "filterExpectedKeys", 100L);
+        ReflectionTestUtils.setField(routesConfig, "filterFalsePositiveRate", 0.01);
+
+        var cache = (ForwardingRouteCacheOps.Indexed) routesConfig.cacheForRoutes(mapper);
+        var filtered = (FilteredRouteCacheOps) cache.decorator();
+
+        assertEquals(NUMBER, cache.find(D2B, NUMBER).getTransaction());
+        assertNull(cache.find(D2B, "0000"));
+        assertEquals(1, filtered.filterHits());
+        assertEquals(2, ((InMemoryRouteCacheOps) filtered.delegate()).size());
+        Files.deleteIfExists(filePath);
+    }
+
+    @Test
+    void shouldLoadSharedRoutesOnceAcrossReplicas() throws IOException {
+        Path filePath = Paths.get(FILE_ROUTES);
+        Files.write(filePath, CHANNEL_D2B_TRANSACTION_NUMBER_INVALID_TRUE_CHANNEL_D2B_TRANSACTION_NUMBER.getBytes());
+        var shared = new InMemorySharedRouteStore();
+        var replicas = List.of(routesConfig, new RoutesConfig());
+        for (RoutesConfig replica : replicas) {
+            ReflectionTestUtils.setField(replica, FILE_ROUTES, FILE_ROUTES);
+            ReflectionTestUtils.setField(replica, "cacheType", RoutesConfig.TWO_TIER_CACHE);
+            ReflectionTestUtils.setField(replica, "loadMode", RoutesConfig.BLOCKING_LOAD);
+            ReflectionTestUtils.setField(replica, "loadTimeoutMs", 10_000L);
+            ReflectionTestUtils.setField(replica, "sharedRouteStore", shared);
+        }
+
+        var first = (TwoTierRouteCacheOps) replicas.get(0).cacheForRoutes(mapper);
+        var second = (TwoTierRouteCacheOps) replicas.get(1).cacheForRoutes(mapper);
+
+        assertEquals(2, shared.size());
+        assertEquals(1, first.version());
+        assertEquals(1, second.version());
+        assertEquals(0, second.nearSize());
+        assertEquals(NUMBER, second.getFromCache("D2B-9540").block().getTransaction());
+        assertEquals(replicas.get(0).sourceFingerprint(), shared.fingerprint().block());
+        Files.deleteIfExists(filePath);
+    }
+
+    @Test
+    void shouldFingerprintStringRoutesWhenFileIsMissing() {
+        var fingerprint = routesConfig.sourceFingerprint();
+
+        ReflectionTestUtils.setField(routesConfig, STRING_ROUTES, "[]");
+
+        assertEquals(64, fingerprint.length());
+        assertNotEquals(fingerprint, routesConfig.sourceFingerprint());
+    }
+
+    @Test
+    void shouldReadAndSaveOffCallerThreadOnBoundedElastic() throws IOException {
+        Path filePath = Paths.get(FILE_ROUTES);
+        Files.write(filePath, CHANNEL_D2B_TRANSACTION_NUMBER_INVALID_TRUE_CHANNEL_D2B_TRANSACTION_NUMBER.getBytes());
+        ReflectionTestUtils.setField(routesConfig, FILE_ROUTES, FILE_ROUTES);
+        ReflectionTestUtils.setField(routesConfig, "loadExecution", RouteLoadSchedulers.BOUNDED_ELASTIC_EXECUTION);
+        List<String> threads = new CopyOnWriteArrayList<>();
+        when(cacheOps.saveInCache(anyString(), any())).thenAnswer(invocation -> {
+            threads.add(Thread.currentThread().getName());
+            return Mono.just(invocation.getArgument(1));
+        });
+
+        var report = routesConfig.loadRoutesStreaming(mapper, cacheOps).block(Duration.ofSeconds(10));
+
+        assertEquals(2, report.getLoaded());
+        assertEquals(2, threads.size());
+        assertTrue(threads.stream().allMatch(thread -> thread.startsWith("boundedElastic")), threads::toString);
+        Files.deleteIfExists(filePath);
+    }
+
+    @Test
+    void shouldKeepLoadingAfterBadElementsAndReportThem() {
+        var json = "[{\"channel\":\"D2B\",\"transaction\":\"9540\"},{\"channel\":\"D2B\" \"transaction\":\"1\"},"
+                + "{\"invalid\":\"true\"},{\"channel\":\"D2B\",\"transaction\":\"9541\"},{\"channel\":";
+
+        var result = routesConfig.readRoutesResilient(new ByteArrayInputStream(json.getBytes()));
+
+        assertEquals(2, result.getRoutes().size());
+        assertEquals("9541", result.getRoutes().get(1).getTransaction());
+        var rejections = result.getRejections();
+        assertEquals(3, rejections.size());
+        assertEquals(1, rejections.get(0).getIndex());
+        assertEquals(json.indexOf("{\"channel\":\"D2B\" "), rejections.get(0).getByteOffset());
+        assertEquals(RouteRejection.Reason.SYNTAX_ERROR, rejections.get(0).getReason());
+        assertEquals(RouteRejection.Reason.INVALID_ROUTE, rejections.get(1).getReason());
+        assertEquals(RouteRejection.Reason.TRUNCATED, rejections.get(2).getReason());
+        assertEquals(4, rejections.get(2).getIndex());
+        assertFalse(result.isComplete());
+    }
+
+    @Test
+    void shouldResumeAfterElementMissingClosingBrace() {
+        var json = "[{\"channel\":\"D2B\",\"transaction\":\"9540\"},{\"channel\":\"D2B\",\"transaction\":\"1\","
+                + "{\"channel\":\"D2B\",\"transaction\":\"9541\"},{\"channel\":\"APP\",\"transaction\":\"1000\"}]";
+
+        var result = routesConfig.readRoutesResilient(new ByteArrayInputStream(json.getBytes()));
+
+        assertEquals(3, result.getRoutes().size());
+        assertEquals("9541", result.getRoutes().get(1).getTransaction());
+        var rejections = result.getRejections();
+        assertEquals(1, rejections.size());
+        assertEquals(1, rejections.get(0).getIndex());
+        assertEquals(RouteRejection.Reason.SYNTAX_ERROR, rejections.get(0).getReason());
+        assertTrue(result.isComplete());
+    }
+
+    @Test
+    void shouldLoadFileWithTypoWithoutFallingBackToStringRoutes() throws IOException {
+        Path filePath = Paths.get(FILE_ROUTES);
+        Files.write(filePath, ("[{\"channel\":\"D2B\",\"transaction\":\"9540\"},{\"channel\":\"D2B\",},"
+                + "{\"channel\":\"APP\",\"transaction\":\"1000\"}]").getBytes());
+        ReflectionTestUtils.setField(routesConfig, FILE_ROUTES, FILE_ROUTES);
+        ReflectionTestUtils.setField(routesConfig, "resilientLoad", true);
+        var summary = new RouteLoadSummary();
+
+        var routes = routesConfig.loadRoutes(mapper, summary).block();
+
+        assertEquals(List.of("9540", "1000"), routes.stream().map(ConfiguredRoute::getTransaction).toList());
+        assertEquals(List.of(1), summary.report(Duration.ZERO).getFailedIndices());
+        Files.deleteIfExists(filePath);
+    }
+
+    @Test
+    void shouldLoadFileWithTypoInParallelLoad() throws IOException {
+        Path filePath = Paths.get(FILE_ROUTES);
+        Files.write(filePath, ("[{\"channel\":\"D2B\",\"transaction\":\"9540\"},{\"channel\":\"D2B\",},"
+                + "{\"invalid\":\"true\"},{\"channel\":\"APP\",\"transaction\":\"1000\"}]").getBytes());
+        ReflectionTestUtils.setField(routesConfig, FILE_ROUTES, FILE_ROUTES);
+        ReflectionTestUtils.setField(routesConfig, "resilientLoad", true);
+        var cache = new InMemoryRouteCacheOps();
+
+        var report = routesConfig.loadRoutesInParallel(mapper, cache).block();
+
+        assertEquals(2, cache.size());
+        assertEquals(List.of(1), report.getFailedIndices());
+        assertEquals(List.of(2), report.getSkippedIndices());
+        Files.deleteIfExists(filePath);
+    }
+
+    @Test
+    void shouldFallBackToStringRoutesInParallelLoad() throws IOException {
+        Path filePath = Paths.get(UNREADABLE_FILE);
+        Files.write(filePath, CONTENT.getBytes());
+        ReflectionTestUtils.setField(routesConfig, FILE_ROUTES, UNREADABLE_FILE);
+        when(mapper.readValues(anyString(), eq(ConfiguredRoute.class)))
+                .thenReturn(ConfiguredRoute.builder().channel(D2B).transaction(NUMBER).build());
+        var cache = new InMemoryRouteCacheOps();
+
+        RouteLoadReport report = routesConfig.loadRoutesInParallel(mapper, cache).block();
+
+        assertNotNull(report);
+        assertEquals(1, report.getLoaded());
+        assertNotNull(cache.get("D2B-9540"));
+        Files.deleteIfExists(filePath);
+    }
+
+    @Test
+    void shouldMergeRoutesFromDirectoryWithLastFileWinning() throws IOException {
+        Path directory = Files.createDirectories(Paths.get(ROUTES_DIRECTORY));
+        Files.write(directory.resolve("10-accounts.json"),
+                CHANNEL_D2B_TRANSACTION_NUMBER_INVALID_TRUE_CHANNEL_D2B_TRANSACTION_NUMBER.getBytes());
+        Files.write(directory.resolve("20-cards.json"),
+                "[{\"channel\":\"D2B\",\"transaction\":\"9540\",\"team\":\"cards\"}]".getBytes());
+        Files.write(directory.resolve("30-broken.json"), CONTENT.getBytes());
+        ReflectionTestUtils.setField(routesConfig, FILE_ROUTES, ROUTES_DIRECTORY);
+        var cache = new InMemoryRouteCacheOps();
+
+        List<ConfiguredRoute> routes = routesConfig.loadRoutes(mapper).block();
+        RouteLoadReport report = routesConfig.loadRoutesInParallel(mapper, cache).block();
+
+        assertNotNull(routes);
+        assertEquals(2, routes.size());
+        assertNotNull(report);
+        assertEquals(2, report.getLoaded());
+        assertEquals(2, cache.size());
+        verifyNoInteractions(mapper);
+        for (String file : List.of("10-accounts.json", "20-cards.json", "30-broken.json")) {
+            Files.deleteIfExists(directory.resolve(file));
+        }
+        Files.deleteIfExists(directory);
+    }
+
+    @Test
+    void shouldWatchEveryFileOfDirectorySource() throws Exception {
+        Path directory = Files.createDirectories(Paths.get(ROUTES_DIRECTORY));
+        Files.write(directory.resolve("10-accounts.json"),
+                CHANNEL_D2B_TRANSACTION_NUMBER_INVALID_TRUE_CHANNEL_D2B_TRANSACTION_NUMBER.getBytes());
+        ReflectionTestUtils.setField(routesConfig, FILE_ROUTES, ROUTES_DIRECTORY);
+        ReflectionTestUtils.setField(routesConfig, "cacheType", RoutesConfig.IN_MEMORY_CACHE);
+        ReflectionTestUtils.setField(routesConfig, "watchRoutes", true);
+        ReflectionTestUtils.setField(routesConfig, "pollRoutes", true);
+        ReflectionTestUtils.setField(routesConfig, "watchDebounceMs", 10L);
+        ReflectionTestUtils.setField(routesConfig, "watchPollIntervalMs", 20L);
+
+        var cache = (InMemoryRouteCacheOps) routesConfig.cacheForRoutes(mapper);
+        assertEquals(2, cache.size());
+        Files.write(directory.resolve("20-cards.json"),
+                "[{\"channel\":\"D2B\",\"transaction\":\"9542\"},{\"channel\":\" \",\"transaction\":\"1\"}]"
+                        .getBytes());
+        var deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (cache.size() < 3 && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+
+        assertEquals(3, cache.size());
+        assertNotNull(cache.get("D2B-9542"));
+        routesConfig.destroy();
+        for (String file : List.of("10-accounts.json", "20-cards.json")) {
+            Files.deleteIfExists(directory.resolve(file));
+        }
+        Files.deleteIfExists(directory);
+    }
+
+    @Test
+    void shouldStreamRoutesOnDemand() {
+        var input = new ByteArrayInputStream(CHANNEL_D2B_TRANSACTION_NUMBER_INVALID_TRUE_CHANNEL_D2B_TRANSACTION_NUMBER
+                .getBytes(StandardCharsets.UTF_8));
+        var summary = new RouteLoadSummary();
+
+        StepVerifier.create(routesConfig.streamRoutes(input, summary), 1)
+                .assertNext(route -> assertEquals(VALUE, route.getTransaction()))
+                .thenRequest(1)
+                .assertNext(route -> assertEquals(RESULT, route.getTransaction()))
+                .thenRequest(1)
+                .verifyComplete();
+        assertEquals(List.of(1), summary.report(Duration.ZERO).getSkippedIndices());
+    }
+
+    @Test
+    void shouldReadOnlyWhatIsRequestedFromHugeStream() {
+        var input = new GeneratedRoutesInput(1_000_000);
+
+        StepVerifier.create(routesConfig.streamRoutes(input, new RouteLoadSummary()).take(3))
+                .expectNextCount(3)
+                .verifyComplete();
+
+        assertTrue(input.read < 64 * 1024, () -> "read " + input.read + " bytes");
+        assertTrue(input.closed);
+    }
+
+    @Test
+    void shouldLoadRoutesStreamingIntoCache() throws IOException {
+        Path filePath = Paths.get(FILE_ROUTES);
+        Files.write(filePath, CHANNEL_D2B_TRANSACTION_NUMBER_INVALID_TRUE_CHANNEL_D2B_TRANSACTION_NUMBER.getBytes());
+        ReflectionTestUtils.setField(routesConfig, FILE_ROUTES, FILE_ROUTES);
+        ReflectionTestUtils.setField(routesConfig, "cacheType", RoutesConfig.IN_MEMORY_CACHE);
+        ReflectionTestUtils.setField(routesConfig, "streamingLoad", true);
+        ReflectionTestUtils.setField(routesConfig, "loadMode", RoutesConfig.BLOCKING_LOAD);
+        ReflectionTestUtils.setField(routesConfig, "loadTimeoutMs", 10_000L);
+
+        var cache = (InMemoryRouteCacheOps) routesConfig.cacheForRoutes(mapper);
+        RouteLoadReport report = routesConfig.loadRoutesStreaming(mapper, new InMemoryRouteCacheOps()).block();
+
+        assertEquals(2, cache.size());
+        assertNotNull(report);
+        assertEquals(2, report.getLoaded());
+        assertEquals(1, report.getSkipped());
+        Files.deleteIfExists(filePath);
+    }
+
+    @Test
+    void shouldFallBackToStringRoutesWhenStreamingUnreadableFile() throws IOException {
+        Path filePath = Paths.get(UNREADABLE_FILE);
+        Files.write(filePath, CONTENT.getBytes());
+        ReflectionTestUtils.setField(routesConfig, FILE_ROUTES, UNREADABLE_FILE);
+        when(mapper.readValues(anyString(), eq(ConfiguredRoute.class)))
+                .thenReturn(ConfiguredRoute.builder().channel(D2B).transaction(NUMBER).build());
+        var cache = new InMemoryRouteCacheOps();
+
+        RouteLoadReport report = routesConfig.loadRoutesStreaming(mapper, cache).block();
+
+        assertNotNull(report);
+        assertEquals(1, report.getLoaded());
+        assertNotNull(cache.get("D2B-9540"));
+        Files.deleteIfExists(filePath);
+    }
+
+    /**
+     * Routes array of {@code size} elements produced while it is read, never held in memory.
+     */
+    private static final class GeneratedRoutesInput extends InputStream {
+        private final int size;
+        private byte[] chunk = "[".getBytes(StandardCharsets.UTF_8);
+        private int position;
+        private int next;
+        private long read;
+        private boolean closed;
+
+        private GeneratedRoutesInput(int size) {
+            this.size = size;
+        }
+
+        @Override
+        public int read() {
+            if (position == chunk.length) {
+                if (next > size) {
+                    return -1;
+                }
+                chunk = (next == size ? "]" : (next > 0 ? "," : "") + "{\"channel\":\"D2B\",\"transaction\":\""
+                        + next + "\"}").getBytes(StandardCharsets.UTF_8);
+                position = 0;
+                next++;
+            }
+            read++;
+            return chunk[position++];
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+
+    @Test
+    void shouldUseEvictingCacheWhenConfigured() {
+        ReflectionTestUtils.setField(routesConfig, "cacheType", RoutesConfig.EVICTING_CACHE);
+        ReflectionTestUtils.setField(routesConfig, "cacheMaxSize", 10L);
+
+        var cache = routesConfig.cacheForRoutes(mapper);
+
+        assertInstanceOf(EvictingRouteCacheOps.class, cache);
+        assertEquals(10, ((EvictingRouteCacheOps) cache).capacity());
+    }
+
+    @Test
+    void shouldReportEvictingCacheStatsAfterAsyncLoad() throws IOException {
+        Path filePath = Paths.get(FILE_ROUTES);
+        Files.write(filePath, CHANNEL_D2B_TRANSACTION_NUMBER_INVALID_TRUE_CHANNEL_D2B_TRANSACTION_NUMBER.getBytes());
+        ReflectionTestUtils.setField(routesConfig, FILE_ROUTES, FILE_ROUTES);
+        ReflectionTestUtils.setField(routesConfig, "cacheType", RoutesConfig.EVICTING_CACHE);
+        ReflectionTestUtils.setField(routesConfig, "cacheMaxSize", 10L);
+        ReflectionTestUtils.setField(routesConfig, "loadMode", RoutesConfig.ASYNC_LOAD);
+        ReflectionTestUtils.setField(routesConfig, "metricsEnabled", true);
+
+        var cache = routesConfig.cacheForRoutes(mapper);
+        var metrics = (RouteMetricsRecorder) routesConfig.routeMetrics();
+
+        assertEquals(1, metrics.loads());
+        assertEquals(10, metrics.cacheCapacity());
+        assertEquals(2, metrics.cacheSize());
+        assertEquals(0, metrics.cacheEvictions());
+
+        for (int i = 0; i < 20; i++) {
+            var route = ConfiguredRoute.builder().channel("SVP").transaction(String.valueOf(i)).build();
+            cache.saveInCache("SVP-" + i, route).block();
+        }
+        assertEquals(10, metrics.cacheSize());
+        assertEquals(12, metrics.cacheEvictions());
+        Files.deleteIfExists(filePath);
+    }
+
+    @Test
+    void shouldWriteSnapshotAndLoadFromItOnNextBoot() throws IOException {
+        Path filePath = Paths.get(FILE_ROUTES);
+        Path snapshotPath = Paths.get(SNAPSHOT_FILE);
+        Files.write(filePath, CHANNEL_D2B_TRANSACTION_NUMBER_INVALID_TRUE_CHANNEL_D2B_TRANSACTION_NUMBER.getBytes());
+        ReflectionTestUtils.setField(routesConfig, FILE_ROUTES, FILE_ROUTES);
+        ReflectionTestUtils.setField(routesConfig, "snapshotRoutes", SNAPSHOT_FILE);
+
+        assertTrue(routesConfig.readSnapshot().isEmpty());
+        assertEquals(2, routesConfig.loadRoutes(mapper).block().size());
+        var snapshot = routesConfig.readSnapshot();
+
+        assertTrue(snapshot.isPresent());
+        assertEquals(2, snapshot.get().size());
+        assertEquals(2, routesConfig.loadRoutes(mapper).block().size());
+        Files.deleteIfExists(filePath);
+        Files.deleteIfExists(snapshotPath);
+    }
+
+    @Test
+    void shouldRecordLoadMetricsWhenEnabled() throws IOException {
+        Path filePath = Paths.get(FILE_ROUTES);
+        Files.write(filePath, CHANNEL_D2B_TRANSACTION_NUMBER_INVALID_TRUE_CHANNEL_D2B_TRANSACTION_NUMBER.getBytes());
+        ReflectionTestUtils.setField(routesConfig, FILE_ROUTES, FILE_ROUTES);
+        ReflectionTestUtils.setField(routesConfig, "cacheType", RoutesConfig.IN_MEMORY_CACHE);
+        ReflectionTestUtils.setField(routesConfig, "metricsEnabled", true);
+
+        var cache = routesConfig.cacheForRoutes(mapper);
+        var metrics = (RouteMetricsRecorder) routesConfig.routeMetrics();
+
+        assertInstanceOf(InstrumentedRouteCacheOps.class, ForwardingRouteCacheOps.unwrapped(cache));
+        assertEquals(1, metrics.loads());
+        assertEquals(2, metrics.lastLoadedRoutes());
+        assertEquals(1, metrics.skippedNodes());
+        assertNotNull(((RouteLookup) cache).find(D2B, NUMBER));
+        assertEquals(1, metrics.hits(D2B));
+        Files.deleteIfExists(filePath);
+    }
+
+    @Test
+    void shouldReportFailedAsyncLoad() throws IOException {
+        Path filePath = Paths.get(FILE_ROUTES);
+        Files.write(filePath, CHANNEL_D2B_TRANSACTION_NUMBER_INVALID_TRUE_CHANNEL_D2B_TRANSACTION_NUMBER.getBytes());
+        ReflectionTestUtils.setField(routesConfig, FILE_ROUTES, FILE_ROUTES);
+        ReflectionTestUtils.setField(routesConfig, "metricsEnabled", true);
+        when(cacheOps.saveInCache(anyString(), any())).thenReturn(Mono.error(new IllegalStateException("down")));
+
+        routesConfig.routeInformationLoaded(mapper, cacheOps);
+        var metrics = (RouteMetricsRecorder) routesConfig.routeMetrics();
+
+        assertEquals(1, metrics.loadFailures());
+        assertEquals(0, metrics.loads());
+        Files.deleteIfExists(filePath);
+    }
+
+    @Test
+    void shouldTraceLoadAndLookupsWhenEnabled() throws IOException {
+        Path filePath = Paths.get(FILE_ROUTES);
+        Files.write(filePath, CHANNEL_D2B_TRANSACTION_NUMBER_INVALID_TRUE_CHANNEL_D2B_TRANSACTION_NUMBER.getBytes());
+        ReflectionTestUtils.setField(routesConfig, FILE_ROUTES, FILE_ROUTES);
+        ReflectionTestUtils.setField(routesConfig, "cacheType", RoutesConfig.IN_MEMORY_CACHE);
+        ReflectionTestUtils.setField(routesConfig, "traceEnabled", true);
+        ReflectionTestUtils.setField(routesConfig, "traceCapacity", 16);
+        ReflectionTestUtils.setField(routesConfig, "traceSampleRate", 1);
+
+        var cache = routesConfig.cacheForRoutes(mapper);
+        ((RouteLookup) cache).find(D2B, NUMBER);
+        var entries = routesConfig.routeTrace().snapshot();
+
+        assertInstanceOf(TracingRouteCacheOps.class, ForwardingRouteCacheOps.unwrapped(cache));
+        assertEquals(2, entries.size());
+        assertEquals(RouteTrace.Kind.LOAD, entries.get(0).getKind());
+        assertEquals(FILE_ROUTES, entries.get(0).getKey());
+        assertEquals("D2B-9540", entries.get(1).getKey());
+        assertTrue(entries.get(1).isHit());
+        Files.deleteIfExists(filePath);
+    }
+
+    @Test
+    void shouldNotTraceByDefault() {
+        assertSame(RouteTrace.DISABLED, routesConfig.routeTrace());
+        assertFalse(routesConfig.routeTrace().sampled());
+    }
+
+    @Test
+    void shouldShareMaskedValueCacheWhenEnabled() {
+        ReflectionTestUtils.setField(routesConfig, "maskCacheEnabled", true);
+        ReflectionTestUtils.setField(routesConfig, "maskCacheMaxSize", 10L);
+
+        assertNotNull(routesConfig.objectMapperBean(kms));
+        assertSame(routesConfig.maskedValueCache(), routesConfig.maskedValueCache());
+        assertEquals(10, routesConfig.maskedValueCache().capacity());
+    }
+
+    @Test
+    void shouldUseNoopMetricsByDefault() {
+        assertSame(RouteMetrics.NOOP, routesConfig.routeMetrics());
+    }
+
     @Test
     void shouldCreateObjectMapperBean() {
         assertNotNull(routesConfig.objectMapperBean(kms));
@@ -159,7 +770,7 @@ class RoutesConfigTest {
 
         parser.nextToken();
 
-        JsonNode node = ReflectionTestUtils.invokeMethod(routesConfig, "readNode", parser, objectMapper);
+        JsonNode node = ReflectionTestUtils.invokeMethod(routesConfig, "readValidNode", parser);
         assertNotNull(node);
         assertEquals(D2B, node.get(CHANNEL).asText());
         assertEquals(NUMBER, node.get(TRANSACTION).asText());
@@ -446,4 +1057,175 @@ class RoutesConfigTest {
         assertNotNull(routes);
         assertDoesNotThrow(() -> routesConfig.processJsonNodes(validJson, mapper).block());
     }
+
+    @Test
+    void shouldBindRoutesFromStream() {
+        var input = new ByteArrayInputStream(CHANNEL_D2B_TRANSACTION_NUMBER_INVALID_TRUE_CHANNEL_D2B_TRANSACTION_NUMBER
+                .getBytes(StandardCharsets.UTF_8));
+
+        List<ConfiguredRoute> routes = routesConfig.processJsonStream(input).block();
+
+        assertNotNull(routes);
+        assertEquals(2, routes.size());
+        assertEquals(VALUE, routes.get(0).getTransaction());
+        assertEquals(RESULT, routes.get(1).getTransaction());
+        verifyNoInteractions(mapper);
+    }
+
+    @Test
+    void shouldThrowExceptionForNonArrayStream() {
+        var input = new ByteArrayInputStream(CHANNEL_D2B_TRANSACTION.getBytes(StandardCharsets.UTF_8));
+
+        Exception exception = assertThrows(IllegalStateException.class,
+                () -> routesConfig.processJsonStream(input));
+
+        assertEquals(RoutesConfig.EXPECTED_AN_ARRAY, exception.getMessage());
+    }
+
+    @Test
+    void shouldThrowTechnicalExceptionForTruncatedStream() {
+        var input = new ByteArrayInputStream(CHANNEL_D2B_TRANSACTION_FILE.getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(TechnicalException.class, () -> routesConfig.processJsonStream(input));
+    }
+
+    @Test
+    void shouldLoadRoutesFromExistingFileIntoCache() throws IOException {
+        Path filePath = Paths.get(FILE_ROUTES);
+        Files.write(filePath, CHANNEL_D2B_TRANSACTION_NUMBER_INVALID_TRUE_CHANNEL_D2B_TRANSACTION_NUMBER.getBytes());
+        ReflectionTestUtils.setField(routesConfig, FILE_ROUTES, FILE_ROUTES);
+        when(cacheOps.saveInCache(anyString(), any())).thenReturn(Mono.empty());
+
+        routesConfig.routeInformationLoaded(mapper, cacheOps);
+
+        verify(cacheOps).saveInCache(eq("D2B-9540"), any());
+        verify(cacheOps).saveInCache(eq("D2B-9541"), any());
+        Files.deleteIfExists(filePath);
+    }
+
+    @Test
+    void shouldReportSkippedIndicesAndChannelsInParallelLoad() throws IOException {
+        Path filePath = Paths.get(FILE_ROUTES);
+        Files.write(filePath, CHANNEL_D2B_TRANSACTION_NUMBER_INVALID_TRUE_CHANNEL_D2B_TRANSACTION_NUMBER.getBytes());
+        ReflectionTestUtils.setField(routesConfig, FILE_ROUTES, FILE_ROUTES);
+
+        RouteLoadReport report = routesConfig.loadRoutesInParallel(mapper, new InMemoryRouteCacheOps()).block();
+
+        assertNotNull(report);
+        assertEquals(List.of(1), report.getSkippedIndices());
+        assertEquals(2L, report.getRoutesPerChannel().get(D2B));
+        Files.deleteIfExists(filePath);
+    }
+
+    @Test
+    void shouldRecordSkippedAndFailedIndicesFromStream() {
+        var input = new ByteArrayInputStream(("[{\"invalid\":true}," + CHANNEL_D2B_TRANSACTION
+                + ",{\"channel\":\"D2B\",\"transaction\":{\"nested\":true}}]").getBytes(StandardCharsets.UTF_8));
+        var summary = new RouteLoadSummary();
+
+        List<ConfiguredRoute> routes = routesConfig.processJsonStream(input, summary).block();
+
+        assertNotNull(routes);
+        assertEquals(1, routes.size());
+        var report = summary.report(Duration.ZERO);
+        assertEquals(List.of(0), report.getSkippedIndices());
+        assertEquals(List.of(2), report.getFailedIndices());
+    }
+
+    @Test
+    void shouldSkipElementsThatAreNotRoutesWhenBindingFromStream() {
+        var input = new ByteArrayInputStream(("[5,\"D2B\",[{\"channel\":\"D2B\"}],"
+                + "{\"channel\":\"D2B\",\"transaction\":null}," + CHANNEL_D2B_TRANSACTION + "]")
+                .getBytes(StandardCharsets.UTF_8));
+        var summary = new RouteLoadSummary();
+
+        List<ConfiguredRoute> routes = routesConfig.processJsonStream(input, summary).block();
+
+        assertEquals(List.of(NUMBER), routes.stream().map(ConfiguredRoute::getTransaction).toList());
+        assertEquals(List.of(0, 1, 2, 3), summary.report(Duration.ZERO).getSkippedIndices());
+    }
+
+    @Test
+    void shouldLoadRoutesWithSummaryLogging() throws IOException {
+        Path filePath = Paths.get(FILE_ROUTES);
+        Files.write(filePath, CHANNEL_D2B_TRANSACTION_NUMBER_INVALID_TRUE_CHANNEL_D2B_TRANSACTION_NUMBER.getBytes());
+        ReflectionTestUtils.setField(routesConfig, FILE_ROUTES, FILE_ROUTES);
+        ReflectionTestUtils.setField(routesConfig, "logMode", RoutesConfig.SUMMARY_LOG);
+        ReflectionTestUtils.setField(routesConfig, "logSampleRate", 1);
+        ReflectionTestUtils.setField(routesConfig, "logQueueSize", 16);
+        var cache = new InMemoryRouteCacheOps();
+
+        routesConfig.routeInformationLoaded(mapper, cache);
+
+        assertEquals(2, cache.size());
+        assertDoesNotThrow(routesConfig::destroy);
+        Files.deleteIfExists(filePath);
+    }
+
+    @Test
+    void shouldSaveValidatedRoutesOncePerKey() throws IOException {
+        Path filePath = Paths.get(FILE_ROUTES);
+        Files.write(filePath, ("[{\"channel\":\"D2B\",\"transaction\":\"9540\"},"
+                + "{\"channel\":\"D2B\",\"transaction\":\"9541\"},"
+                + "{\"channel\":\" \",\"transaction\":\"9542\"},"
+                + "{\"channel\":\"D-2B\",\"transaction\":\"9543\"},"
+                + "{\"channel\":\"D2B\",\"transaction\":\"9540\"}]").getBytes());
+        ReflectionTestUtils.setField(routesConfig, FILE_ROUTES, FILE_ROUTES);
+        ReflectionTestUtils.setField(routesConfig, "loadParallelism", 2);
+        var cache = spy(new InMemoryRouteCacheOps());
+
+        RouteLoadReport report = routesConfig.loadRoutesInParallel(mapper, cache).block();
+
+        assertNotNull(report);
+        assertEquals(3, report.getLoaded());
+        assertEquals(3, cache.size());
+        verify(cache).saveAll(anyMap());
+        verify(cache, never()).saveInCache(anyString(), any());
+        Files.deleteIfExists(filePath);
+    }
+
+    @Test
+    void shouldSaveValidatedRoutesInChunks() throws IOException {
+        Path filePath = Paths.get(FILE_ROUTES);
+        var json = new StringBuilder("[");
+        for (int i = 0; i < 5; i++) {
+            json.append(i == 0 ? "" : ",").append("{\"channel\":\"D2B\",\"transaction\":\"").append(i).append("\"}");
+        }
+        Files.write(filePath, json.append(']').toString().getBytes());
+        ReflectionTestUtils.setField(routesConfig, FILE_ROUTES, FILE_ROUTES);
+        ReflectionTestUtils.setField(routesConfig, "bulkChunkSize", 2);
+        ReflectionTestUtils.setField(routesConfig, "bulkConcurrency", 2);
+        var cache = spy(new InMemoryRouteCacheOps());
+
+        routesConfig.routeInformationLoaded(mapper, cache);
+
+        assertEquals(5, cache.size());
+        verify(cache, times(3)).saveAll(anyMap());
+        Files.deleteIfExists(filePath);
+    }
+
+    @Test
+    void shouldCapConcurrencyOfBulkLookupOnPlainCache() {
+        ReflectionTestUtils.setField(routesConfig, "bulkConcurrency", 2);
+        var route = ConfiguredRoute.builder().channel(D2B).transaction(NUMBER).build();
+        var inFlight = new AtomicInteger();
+        var maxInFlight = new AtomicInteger();
+        when(cacheOps.getFromCache(anyString())).thenAnswer(invocation -> Mono.defer(() -> {
+                    maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                    return invocation.<String>getArgument(0).startsWith(D2B) ? Mono.just(route) : Mono.empty();
+                })
+                .delayElement(Duration.ofMillis(5))
+                .switchIfEmpty(Mono.delay(Duration.ofMillis(5)).then(Mono.empty()))
+                .doOnTerminate(inFlight::decrementAndGet));
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            keys.add((i % 2 == 0 ? D2B : "APP") + "-" + i);
+        }
+
+        var found = routesConfig.findRoutes(cacheOps, keys).block();
+
+        assertNotNull(found);
+        assertEquals(List.of("D2B-0", "D2B-2", "D2B-4", "D2B-6", "D2B-8"), new ArrayList<>(found.keySet()));
+        assertEquals(2, maxInFlight.get());
+    }
 }
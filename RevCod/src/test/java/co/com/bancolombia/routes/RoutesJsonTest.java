@@ -0,0 +1,56 @@
+package co.com.bancolombia.routes;
+
+import co.com.bancolombia.router.configuredroute.ConfiguredRoute;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RoutesJsonTest {
+    public static final String ROUTE_WITH_UNKNOWN_FIELD =
+            "{\"channel\":\"D2B\",\"transaction\":\"9540\",\"unknown\":1.10}";
+
+    @Test
+    void shouldShareOneMapperAndReader() {
+        assertSame(RoutesJson.mapper(), RoutesJson.mapper());
+        assertSame(RoutesJson.routeReader(), RoutesJson.routeReader());
+    }
+
+    @Test
+    void shouldReadRoutesIgnoringUnknownFields() throws Exception {
+        ConfiguredRoute route = RoutesJson.routeReader().readValue(ROUTE_WITH_UNKNOWN_FIELD);
+
+        assertEquals("D2B", route.getChannel());
+        assertEquals("9540", route.getTransaction());
+    }
+
+    @Test
+    void shouldWriteRoutesThatReadBackEqual() throws Exception {
+        var route = ConfiguredRoute.builder().channel("D2B").transaction("9540").build();
+
+        var bytes = RoutesJson.routeWriter().writeValueAsBytes(route);
+
+        assertEquals(route, RoutesJson.routeReader().readValue(bytes));
+    }
+
+    @Test
+    void shouldApplyRoutesSettingsToOtherMappers() {
+        var objectMapper = RoutesJson.configure(new ObjectMapper());
+
+        assertTrue(objectMapper.isEnabled(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS));
+        assertFalse(objectMapper.isEnabled(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES));
+    }
+
+    @Test
+    void shouldKeepReflectionBindingWithoutAccessorModule() {
+        var objectMapper = new ObjectMapper();
+
+        assertSame(objectMapper, RoutesJson.registerAccessors(objectMapper));
+        assertNull(RoutesJson.accessorModule());
+    }
+}
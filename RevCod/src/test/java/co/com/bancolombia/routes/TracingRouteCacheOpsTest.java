@@ -0,0 +1,98 @@
+package co.com.bancolombia.routes;
+
+import co.com.bancolombia.d2b.model.cache.FunctionalCacheOps;
+import co.com.bancolombia.router.configuredroute.ConfiguredRoute;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TracingRouteCacheOpsTest {
+    public static final String D2B = "D2B";
+    public static final String NUMBER = "9540";
+    public static final String KEY = "D2B-9540";
+    public static final String MISSING_KEY = "D2B-0000";
+
+    @Mock
+    private FunctionalCacheOps<ConfiguredRoute> stash;
+
+    private RouteTrace trace;
+    private ConfiguredRoute route;
+
+    @BeforeEach
+    void init() {
+        trace = new RouteTrace(16, 1);
+        route = ConfiguredRoute.builder().channel(D2B).transaction(NUMBER).build();
+    }
+
+    @Test
+    void shouldTraceHitAndMissOnGetFromCache() {
+        var cacheOps = new TracingRouteCacheOps(stash, trace);
+        when(stash.getFromCache(KEY)).thenReturn(Mono.just(route));
+        when(stash.getFromCache(MISSING_KEY)).thenReturn(Mono.empty());
+
+        StepVerifier.create(cacheOps.getFromCache(KEY)).expectNext(route).verifyComplete();
+        StepVerifier.create(cacheOps.getFromCache(MISSING_KEY)).verifyComplete();
+
+        var entries = trace.snapshot();
+        assertEquals(2, entries.size());
+        assertEquals(KEY, entries.get(0).getKey());
+        assertTrue(entries.get(0).isHit());
+        assertEquals(MISSING_KEY, entries.get(1).getKey());
+        assertFalse(entries.get(1).isHit());
+    }
+
+    @Test
+    void shouldTraceFindThroughDelegateIndex() {
+        var memory = new InMemoryRouteCacheOps();
+        memory.saveInCache(KEY, route).block();
+        var cacheOps = assertInstanceOf(ForwardingRouteCacheOps.Indexed.class,
+                ForwardingRouteCacheOps.indexed(new TracingRouteCacheOps(memory, trace)));
+
+        assertSame(route, cacheOps.find(D2B, NUMBER));
+        assertNull(cacheOps.find(D2B, "0000"));
+
+        assertEquals(List.of(KEY, MISSING_KEY), trace.snapshot().stream().map(RouteTrace.Entry::getKey).toList());
+    }
+
+    @Test
+    void shouldTraceEveryKeyOfBulkLookup() {
+        var memory = new InMemoryRouteCacheOps();
+        memory.saveInCache(KEY, route).block();
+        var cacheOps = new TracingRouteCacheOps(memory, trace);
+
+        StepVerifier.create(cacheOps.findAll(List.of(KEY, MISSING_KEY)))
+                .expectNext(Map.of(KEY, route))
+                .verifyComplete();
+
+        var entries = trace.snapshot();
+        assertEquals(2, entries.size());
+        assertTrue(entries.get(0).isHit());
+        assertFalse(entries.get(1).isHit());
+    }
+
+    @Test
+    void shouldPassThroughWhenNotSampled() {
+        var cacheOps = new TracingRouteCacheOps(stash, RouteTrace.DISABLED);
+        when(stash.getFromCache(KEY)).thenReturn(Mono.just(route));
+
+        StepVerifier.create(cacheOps.getFromCache(KEY)).expectNext(route).verifyComplete();
+
+        assertEquals(0, RouteTrace.DISABLED.recorded());
+    }
+}
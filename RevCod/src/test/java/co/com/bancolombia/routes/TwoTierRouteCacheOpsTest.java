@@ -0,0 +1,166 @@
+package co.com.bancolombia.routes;
+
+import co.com.bancolombia.router.configuredroute.ConfiguredRoute;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TwoTierRouteCacheOpsTest {
+    public static final String D2B = "D2B";
+    public static final String NUMBER = "9540";
+    public static final String KEY = "D2B-9540";
+    public static final String FINGERPRINT = "source-v1";
+
+    private InMemorySharedRouteStore shared;
+    private ConfiguredRoute route;
+
+    @BeforeEach
+    void init() {
+        shared = new InMemorySharedRouteStore();
+        route = ConfiguredRoute.builder().channel(D2B).transaction(NUMBER).build();
+    }
+
+    @Test
+    void shouldServeRoutesLoadedByAnotherReplica() {
+        var loader = replica(Duration.ZERO);
+        var reader = replica(Duration.ZERO);
+        loader.saveInCache(KEY, route).block();
+        loader.loadCompleted().block();
+
+        StepVerifier.create(reader.getFromCache(KEY)).expectNext(route).verifyComplete();
+        StepVerifier.create(reader.getFromCache(KEY)).expectNext(route).verifyComplete();
+
+        assertEquals(1, shared.reads());
+        assertEquals(1, reader.nearSize());
+    }
+
+    @Test
+    void shouldKeepSharedCopiesSeparateFromWriter() {
+        var loader = replica(Duration.ZERO);
+        loader.saveInCache(KEY, route).block();
+
+        var fetched = replica(Duration.ZERO).getFromCache(KEY).block();
+
+        assertEquals(route, fetched);
+        assertNotSame(route, fetched);
+    }
+
+    @Test
+    void shouldInvalidateNearCacheWhenNewVersionIsPublished() {
+        var loader = replica(Duration.ZERO);
+        var reader = replica(Duration.ZERO);
+        loader.saveInCache(KEY, route).block();
+        loader.loadCompleted().block();
+        reader.getFromCache(KEY).block();
+
+        loader.saveInCache(KEY, route).block();
+        loader.loadCompleted().block();
+
+        StepVerifier.create(reader.getFromCache(KEY)).expectNext(route).verifyComplete();
+        assertEquals(2, shared.reads());
+        assertEquals(1, reader.invalidationCount());
+        assertEquals(2, reader.version());
+    }
+
+    @Test
+    void shouldMissRouteRemovedByAnotherReplica() {
+        var loader = replica(Duration.ZERO);
+        var reader = replica(Duration.ZERO);
+        loader.saveInCache(KEY, route).block();
+        loader.loadCompleted().block();
+        reader.getFromCache(KEY).block();
+
+        loader.evict(KEY).block();
+        loader.loadCompleted().block();
+
+        StepVerifier.create(reader.getFromCache(KEY)).verifyComplete();
+    }
+
+    @Test
+    void shouldDropRoutesMissingFromNextFullLoad() {
+        var other = ConfiguredRoute.builder().channel("APP").transaction(NUMBER).build();
+        var loader = replica(Duration.ZERO);
+        var reader = replica(Duration.ZERO);
+        loader.loadStarted();
+        loader.saveAll(Map.of(KEY, route, "APP-9540", other)).block();
+        loader.loadCompleted().block();
+        reader.getFromCache("APP-9540").block();
+
+        loader.loadStarted();
+        loader.saveAll(Map.of(KEY, route)).block();
+        loader.loadCompleted().block();
+
+        StepVerifier.create(reader.getFromCache("APP-9540")).verifyComplete();
+        StepVerifier.create(loader.getFromCache("APP-9540")).verifyComplete();
+        StepVerifier.create(reader.getFromCache(KEY)).expectNext(route).verifyComplete();
+        assertEquals(1, shared.size());
+    }
+
+    @Test
+    void shouldCheckVersionAtMostOncePerInterval() {
+        var loader = replica(Duration.ZERO);
+        var reader = replica(Duration.ofHours(1));
+        loader.saveInCache(KEY, route).block();
+        loader.loadCompleted().block();
+        reader.getFromCache(KEY).block();
+
+        loader.evict(KEY).block();
+        loader.loadCompleted().block();
+
+        StepVerifier.create(reader.getFromCache(KEY)).expectNext(route).verifyComplete();
+        assertEquals(1, reader.version());
+    }
+
+    @Test
+    void shouldEvictFromBothTiers() {
+        var loader = replica(Duration.ZERO);
+        loader.saveInCache(KEY, route).block();
+
+        StepVerifier.create(loader.evict(KEY)).expectNext(true).verifyComplete();
+
+        StepVerifier.create(loader.getFromCache(KEY)).verifyComplete();
+        assertEquals(0, shared.size());
+        assertEquals(0, loader.nearSize());
+    }
+
+    @Test
+    void shouldReportPublishedOnlyForSameSource() {
+        var loader = replica(Duration.ZERO);
+        assertFalse(loader.isPublished().block());
+
+        loader.loadCompleted().block();
+
+        assertTrue(replica(Duration.ZERO).isPublished().block());
+        var otherSource = new TwoTierRouteCacheOps(shared, 100, Duration.ZERO, Duration.ZERO, () -> "source-v2");
+        assertFalse(otherSource.isPublished().block());
+    }
+
+    @Test
+    void shouldReadOnlyNearMissesFromSharedStoreInBulk() {
+        var other = ConfiguredRoute.builder().channel("APP").transaction(NUMBER).build();
+        var loader = replica(Duration.ZERO);
+        loader.saveAll(Map.of(KEY, route, "APP-9540", other)).block();
+        loader.loadCompleted().block();
+        var reader = replica(Duration.ZERO);
+        reader.getFromCache(KEY).block();
+
+        var found = reader.findAll(List.of(KEY, "APP-9540", "SVP-9540")).block();
+
+        assertEquals(Map.of(KEY, route, "APP-9540", other), found);
+        assertEquals(3, shared.reads());
+        assertEquals(2, reader.nearSize());
+    }
+
+    private TwoTierRouteCacheOps replica(Duration versionCheck) {
+        return new TwoTierRouteCacheOps(shared, 100, Duration.ofMinutes(5), versionCheck, () -> FINGERPRINT);
+    }
+}